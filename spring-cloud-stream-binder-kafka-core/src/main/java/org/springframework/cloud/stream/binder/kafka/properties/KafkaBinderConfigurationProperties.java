@@ -71,6 +71,8 @@ public class KafkaBinderConfigurationProperties {
 
 	private final Transaction transaction = new Transaction();
 
+	private final Rebalance rebalance = new Rebalance();
+
 	private final KafkaProperties kafkaProperties;
 
 	/**
@@ -136,6 +138,13 @@ public class KafkaBinderConfigurationProperties {
 	 */
 	private String certificateStoreDirectory;
 
+	/**
+	 * Number of threads of the binder's executor that converts the records of the
+	 * consumer bindings with parallel conversion enabled.
+	 * @since 4.0
+	 */
+	private int parallelConversionThreads = Runtime.getRuntime().availableProcessors();
+
 	public KafkaBinderConfigurationProperties(KafkaProperties kafkaProperties) {
 		Assert.notNull(kafkaProperties, "'kafkaProperties' cannot be null");
 		this.kafkaProperties = kafkaProperties;
@@ -149,6 +158,10 @@ public class KafkaBinderConfigurationProperties {
 		return this.transaction;
 	}
 
+	public Rebalance getRebalance() {
+		return this.rebalance;
+	}
+
 	public String getKafkaConnectionString() {
 		// We need to do a check on certificate file locations to see if they are given as classpath resources.
 		// If that is the case, then we will move them to a file system location and use those as the certificate locations.
@@ -470,6 +483,82 @@ public class KafkaBinderConfigurationProperties {
 		this.certificateStoreDirectory = certificateStoreDirectory;
 	}
 
+	public int getParallelConversionThreads() {
+		return this.parallelConversionThreads;
+	}
+
+	public void setParallelConversionThreads(int parallelConversionThreads) {
+		this.parallelConversionThreads = parallelConversionThreads;
+	}
+
+	/**
+	 * Rebalance settings for the consumer bindings of this binder.
+	 * @since 4.0
+	 */
+	public static class Rebalance {
+
+		/**
+		 * The rebalance protocol; with 'cooperative', the cooperative sticky assignor is
+		 * used and only the partitions that move are revoked during a rebalance.
+		 */
+		private Protocol protocol = Protocol.eager;
+
+		/**
+		 * Whether the consumers of named groups use static membership, with a
+		 * 'group.instance.id' derived from the instance id and the binding name.
+		 */
+		private boolean staticMembership;
+
+		/**
+		 * A stable identity of this application instance, for static membership; by
+		 * default, derived from the binding's instance index when the instance count is
+		 * greater than 1, otherwise required.
+		 */
+		private String instanceId;
+
+		public Protocol getProtocol() {
+			return this.protocol;
+		}
+
+		public void setProtocol(Protocol protocol) {
+			this.protocol = protocol;
+		}
+
+		public boolean isStaticMembership() {
+			return this.staticMembership;
+		}
+
+		public void setStaticMembership(boolean staticMembership) {
+			this.staticMembership = staticMembership;
+		}
+
+		public String getInstanceId() {
+			return this.instanceId;
+		}
+
+		public void setInstanceId(String instanceId) {
+			this.instanceId = instanceId;
+		}
+
+		/**
+		 * Rebalance protocols.
+		 */
+		public enum Protocol {
+
+			/**
+			 * All partitions are revoked and reassigned on each rebalance.
+			 */
+			eager,
+
+			/**
+			 * Incremental cooperative rebalancing.
+			 */
+			cooperative
+
+		}
+
+	}
+
 	/**
 	 * Domain class that models transaction capabilities in Kafka.
 	 */
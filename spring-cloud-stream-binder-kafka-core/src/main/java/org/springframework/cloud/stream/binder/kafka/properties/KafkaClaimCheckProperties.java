@@ -0,0 +1,84 @@
+/*
+ * Copyright 2026-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.stream.binder.kafka.properties;
+
+/**
+ * Properties for the claim check mode of producer and consumer bindings: payloads larger
+ * than a threshold are written to a claim check store and replaced in Kafka by a small
+ * reference record.
+ *
+ * @author agent
+ * @since 4.0
+ */
+public class KafkaClaimCheckProperties {
+
+	/**
+	 * Whether the claim check mode is enabled.
+	 */
+	private boolean enabled;
+
+	/**
+	 * Payloads larger than this number of bytes are stored in the claim check store;
+	 * producer bindings only.
+	 */
+	private int threshold = 1024 * 1024;
+
+	/**
+	 * Name of a ClaimCheckStore bean; when not set, a file system store in
+	 * {@link #directory} is used.
+	 */
+	private String storeBeanName;
+
+	/**
+	 * Directory of the file system claim check store; must be shared by producers and
+	 * consumers.
+	 */
+	private String directory = System.getProperty("java.io.tmpdir") + "/kafka-claim-checks";
+
+	public boolean isEnabled() {
+		return this.enabled;
+	}
+
+	public void setEnabled(boolean enabled) {
+		this.enabled = enabled;
+	}
+
+	public int getThreshold() {
+		return this.threshold;
+	}
+
+	public void setThreshold(int threshold) {
+		this.threshold = threshold;
+	}
+
+	public String getStoreBeanName() {
+		return this.storeBeanName;
+	}
+
+	public void setStoreBeanName(String storeBeanName) {
+		this.storeBeanName = storeBeanName;
+	}
+
+	public String getDirectory() {
+		return this.directory;
+	}
+
+	public void setDirectory(String directory) {
+		this.directory = directory;
+	}
+
+}
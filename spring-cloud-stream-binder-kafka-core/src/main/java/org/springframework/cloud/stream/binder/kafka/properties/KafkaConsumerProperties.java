@@ -16,9 +16,11 @@
 
 package org.springframework.cloud.stream.binder.kafka.properties;
 
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
 
+import org.springframework.expression.Expression;
 import org.springframework.kafka.listener.ContainerProperties;
 
 /**
@@ -129,6 +131,20 @@ public class KafkaConsumerProperties {
 	 */
 	private boolean resetOffsets;
 
+	/**
+	 * Timestamp (epoch milliseconds) of the first records to consume; for partitions
+	 * without a committed offset, or for all partitions when resetOffsets is true.
+	 * @since 4.0
+	 */
+	private Long startOffsetTimestamp;
+
+	/**
+	 * Alternative to startOffsetTimestamp: consume the records published during this
+	 * period before the binding starts (e.g. 2h).
+	 * @since 4.0
+	 */
+	private Duration startOffsetDuration;
+
 	/**
 	 * When set to true, it enables DLQ behavior for the consumer.
 	 * By default, messages that result in errors are forwarded to a topic named error.name-of-destination.name-of-group.
@@ -216,6 +232,77 @@ public class KafkaConsumerProperties {
 	 */
 	private String commonErrorHandlerBeanName;
 
+	/**
+	 * Expression evaluated against each raw record before any header mapping or
+	 * conversion; records for which it evaluates to false are discarded.
+	 * @since 4.0
+	 */
+	private Expression recordFilterExpression;
+
+	/**
+	 * Name of a RecordFilterStrategy bean applied to each raw record before any header
+	 * mapping or conversion; records for which it returns true are discarded.
+	 * @since 4.0
+	 */
+	private String recordFilterBeanName;
+
+	/**
+	 * Whether this binding may share a single consumer with the other bindings of the
+	 * same group that also set this property and have the same consumer configuration.
+	 * @since 4.0
+	 */
+	private boolean sharedConsumer;
+
+	/**
+	 * Whether an anonymous binding is assigned all the partitions of its topics directly,
+	 * without joining a consumer group or committing offsets.
+	 * @since 4.0
+	 */
+	private boolean directAssignment;
+
+	/**
+	 * Whether the records of each poll are converted to messages in parallel, ahead of
+	 * the listener; record mode only.
+	 * @since 4.0
+	 */
+	private boolean parallelConversion;
+
+	/**
+	 * Claim check mode for large payloads.
+	 * @since 4.0
+	 */
+	private KafkaClaimCheckProperties claimCheck = new KafkaClaimCheckProperties();
+
+	/**
+	 * Downstream pressure based flow control for this binding.
+	 * @since 4.0
+	 */
+	private Backpressure backpressure = new Backpressure();
+
+	/**
+	 * Consumption rate limit for this binding.
+	 * @since 4.0
+	 */
+	private RateLimit rateLimit = new RateLimit();
+
+	/**
+	 * Automatic concurrency scaling for this binding.
+	 * @since 4.0
+	 */
+	private Autoscaling autoscaling = new Autoscaling();
+
+	/**
+	 * Background prefetching for polled consumer bindings.
+	 * @since 4.0
+	 */
+	private Prefetch prefetch = new Prefetch();
+
+	/**
+	 * Reassembly of chunked records (see {@link KafkaProducerProperties#getChunkSize()}).
+	 * @since 4.0
+	 */
+	private Reassembly reassembly = new Reassembly();
+
 	/**
 	 * @return if each record needs to be acknowledged.
 	 *
@@ -301,6 +388,22 @@ public class KafkaConsumerProperties {
 		this.resetOffsets = resetOffsets;
 	}
 
+	public Long getStartOffsetTimestamp() {
+		return this.startOffsetTimestamp;
+	}
+
+	public void setStartOffsetTimestamp(Long startOffsetTimestamp) {
+		this.startOffsetTimestamp = startOffsetTimestamp;
+	}
+
+	public Duration getStartOffsetDuration() {
+		return this.startOffsetDuration;
+	}
+
+	public void setStartOffsetDuration(Duration startOffsetDuration) {
+		this.startOffsetDuration = startOffsetDuration;
+	}
+
 	/**
 	 * @return is DLQ enabled.
 	 *
@@ -542,4 +645,512 @@ public class KafkaConsumerProperties {
 	public void setCommonErrorHandlerBeanName(String commonErrorHandlerBeanName) {
 		this.commonErrorHandlerBeanName = commonErrorHandlerBeanName;
 	}
+
+	/**
+	 * @return the record filter expression.
+	 *
+	 * Expression evaluated against each raw record before any header mapping or
+	 * conversion; records for which it evaluates to false are discarded.
+	 */
+	public Expression getRecordFilterExpression() {
+		return this.recordFilterExpression;
+	}
+
+	public void setRecordFilterExpression(Expression recordFilterExpression) {
+		this.recordFilterExpression = recordFilterExpression;
+	}
+
+	/**
+	 * @return the record filter bean name.
+	 *
+	 * Name of a RecordFilterStrategy bean applied to each raw record before any header
+	 * mapping or conversion; records for which it returns true are discarded.
+	 */
+	public String getRecordFilterBeanName() {
+		return this.recordFilterBeanName;
+	}
+
+	public void setRecordFilterBeanName(String recordFilterBeanName) {
+		this.recordFilterBeanName = recordFilterBeanName;
+	}
+
+	/**
+	 * @return whether the consumer can be shared.
+	 *
+	 * Whether this binding may share a single consumer with the other bindings of the
+	 * same group that also set this property and have the same consumer configuration.
+	 */
+	public boolean isSharedConsumer() {
+		return this.sharedConsumer;
+	}
+
+	public void setSharedConsumer(boolean sharedConsumer) {
+		this.sharedConsumer = sharedConsumer;
+	}
+
+	/**
+	 * @return whether anonymous bindings use direct assignment.
+	 *
+	 * Whether an anonymous binding is assigned all the partitions of its topics directly,
+	 * without joining a consumer group or committing offsets.
+	 */
+	public boolean isDirectAssignment() {
+		return this.directAssignment;
+	}
+
+	public void setDirectAssignment(boolean directAssignment) {
+		this.directAssignment = directAssignment;
+	}
+
+	/**
+	 * @return whether records are converted in parallel.
+	 *
+	 * Whether the records of each poll are converted to messages in parallel, ahead of
+	 * the listener; record mode only.
+	 */
+	public boolean isParallelConversion() {
+		return this.parallelConversion;
+	}
+
+	public void setParallelConversion(boolean parallelConversion) {
+		this.parallelConversion = parallelConversion;
+	}
+
+	public KafkaClaimCheckProperties getClaimCheck() {
+		return this.claimCheck;
+	}
+
+	public void setClaimCheck(KafkaClaimCheckProperties claimCheck) {
+		this.claimCheck = claimCheck;
+	}
+
+	/**
+	 * @return the backpressure settings.
+	 *
+	 * Downstream pressure based flow control for this binding.
+	 */
+	public Backpressure getBackpressure() {
+		return this.backpressure;
+	}
+
+	public void setBackpressure(Backpressure backpressure) {
+		this.backpressure = backpressure;
+	}
+
+	/**
+	 * @return the rate limit settings.
+	 *
+	 * Consumption rate limit for this binding.
+	 */
+	public RateLimit getRateLimit() {
+		return this.rateLimit;
+	}
+
+	public void setRateLimit(RateLimit rateLimit) {
+		this.rateLimit = rateLimit;
+	}
+
+	/**
+	 * @return the autoscaling settings.
+	 *
+	 * Automatic concurrency scaling for this binding.
+	 */
+	public Autoscaling getAutoscaling() {
+		return this.autoscaling;
+	}
+
+	public void setAutoscaling(Autoscaling autoscaling) {
+		this.autoscaling = autoscaling;
+	}
+
+	public Prefetch getPrefetch() {
+		return this.prefetch;
+	}
+
+	public void setPrefetch(Prefetch prefetch) {
+		this.prefetch = prefetch;
+	}
+
+	public Reassembly getReassembly() {
+		return this.reassembly;
+	}
+
+	public void setReassembly(Reassembly reassembly) {
+		this.reassembly = reassembly;
+	}
+
+	/**
+	 * Backpressure settings; when enabled, the binder pauses the binding's listener
+	 * container when the observed downstream pressure reaches the high watermark and
+	 * resumes it when the pressure drops to the low watermark. Pressure is a value
+	 * between 0 and 1.
+	 */
+	public static class Backpressure {
+
+		/**
+		 * Whether binder managed backpressure is enabled for this binding.
+		 */
+		private boolean enabled;
+
+		/**
+		 * Names of the producer bindings whose buffer utilization
+		 * (1 - buffer-available-bytes / buffer-total-bytes) is used as the pressure.
+		 */
+		private String[] producerBindings = new String[0];
+
+		/**
+		 * Name of a KafkaBindingBackpressureIndicator bean that reports additional
+		 * pressure for this binding.
+		 */
+		private String indicatorBeanName;
+
+		/**
+		 * Pressure at, or above, which the binding is paused.
+		 */
+		private double highWatermark = 0.9;
+
+		/**
+		 * Pressure at, or below, which a paused binding is resumed.
+		 */
+		private double lowWatermark = 0.5;
+
+		/**
+		 * Interval, in milliseconds, between pressure checks.
+		 */
+		private long checkInterval = 100;
+
+		public boolean isEnabled() {
+			return this.enabled;
+		}
+
+		public void setEnabled(boolean enabled) {
+			this.enabled = enabled;
+		}
+
+		public String[] getProducerBindings() {
+			return this.producerBindings;
+		}
+
+		public void setProducerBindings(String[] producerBindings) {
+			this.producerBindings = producerBindings;
+		}
+
+		public String getIndicatorBeanName() {
+			return this.indicatorBeanName;
+		}
+
+		public void setIndicatorBeanName(String indicatorBeanName) {
+			this.indicatorBeanName = indicatorBeanName;
+		}
+
+		public double getHighWatermark() {
+			return this.highWatermark;
+		}
+
+		public void setHighWatermark(double highWatermark) {
+			this.highWatermark = highWatermark;
+		}
+
+		public double getLowWatermark() {
+			return this.lowWatermark;
+		}
+
+		public void setLowWatermark(double lowWatermark) {
+			this.lowWatermark = lowWatermark;
+		}
+
+		public long getCheckInterval() {
+			return this.checkInterval;
+		}
+
+		public void setCheckInterval(long checkInterval) {
+			this.checkInterval = checkInterval;
+		}
+
+		public long getCooldown() {
+			return this.cooldown;
+		}
+
+		public void setCooldown(long cooldown) {
+			this.cooldown = cooldown;
+		}
+
+	}
+
+	/**
+	 * Rate limit settings; when enabled, the binder limits the consumption rate of the
+	 * binding (across all its concurrent consumers) by pausing and resuming the listener
+	 * container. A rate of zero or less means unlimited.
+	 */
+	public static class RateLimit {
+
+		/**
+		 * Whether the rate limiter is installed for this binding; the rates can then be
+		 * changed at runtime.
+		 */
+		private boolean enabled;
+
+		/**
+		 * Maximum number of records consumed per second.
+		 */
+		private double recordsPerSecond;
+
+		/**
+		 * Maximum number of (serialized key and value) bytes consumed per second.
+		 */
+		private double bytesPerSecond;
+
+		public boolean isEnabled() {
+			return this.enabled;
+		}
+
+		public void setEnabled(boolean enabled) {
+			this.enabled = enabled;
+		}
+
+		public double getRecordsPerSecond() {
+			return this.recordsPerSecond;
+		}
+
+		public void setRecordsPerSecond(double recordsPerSecond) {
+			this.recordsPerSecond = recordsPerSecond;
+		}
+
+		public double getBytesPerSecond() {
+			return this.bytesPerSecond;
+		}
+
+		public void setBytesPerSecond(double bytesPerSecond) {
+			this.bytesPerSecond = bytesPerSecond;
+		}
+
+	}
+
+	/**
+	 * Autoscaling settings; when enabled, the binder periodically adjusts the concurrency
+	 * of the binding's listener container based on the consumers' lag
+	 * ({@code records-lag-max}) and utilization ({@code 1 - poll-idle-ratio-avg}).
+	 */
+	public static class Autoscaling {
+
+		/**
+		 * Whether concurrency autoscaling is enabled for this binding.
+		 */
+		private boolean enabled;
+
+		/**
+		 * Minimum concurrency.
+		 */
+		private int minConcurrency = 1;
+
+		/**
+		 * Maximum concurrency; never more than the number of listened partitions.
+		 * Zero or less means the number of listened partitions.
+		 */
+		private int maxConcurrency;
+
+		/**
+		 * Scale up when the maximum partition lag is above this value and the
+		 * utilization is at, or above, scaleUpUtilization.
+		 */
+		private long scaleUpLag = 1000;
+
+		/**
+		 * Scale down when the maximum partition lag is below this value and the
+		 * utilization is below scaleDownUtilization.
+		 */
+		private long scaleDownLag = 10;
+
+		/**
+		 * Utilization (between 0 and 1) required to scale up.
+		 */
+		private double scaleUpUtilization = 0.8;
+
+		/**
+		 * Utilization (between 0 and 1) below which the binding may scale down.
+		 */
+		private double scaleDownUtilization = 0.3;
+
+		/**
+		 * Interval, in milliseconds, between scaling decisions; at most one consumer is
+		 * added or removed per interval.
+		 */
+		private long checkInterval = 60_000;
+
+		/**
+		 * Minimum time, in milliseconds, after a concurrency change before the autoscaler
+		 * changes the concurrency again. Each change restarts the binding's container, so
+		 * that every consumer leaves and rejoins the group.
+		 */
+		private long cooldown = 300_000;
+
+		public boolean isEnabled() {
+			return this.enabled;
+		}
+
+		public void setEnabled(boolean enabled) {
+			this.enabled = enabled;
+		}
+
+		public int getMinConcurrency() {
+			return this.minConcurrency;
+		}
+
+		public void setMinConcurrency(int minConcurrency) {
+			this.minConcurrency = minConcurrency;
+		}
+
+		public int getMaxConcurrency() {
+			return this.maxConcurrency;
+		}
+
+		public void setMaxConcurrency(int maxConcurrency) {
+			this.maxConcurrency = maxConcurrency;
+		}
+
+		public long getScaleUpLag() {
+			return this.scaleUpLag;
+		}
+
+		public void setScaleUpLag(long scaleUpLag) {
+			this.scaleUpLag = scaleUpLag;
+		}
+
+		public long getScaleDownLag() {
+			return this.scaleDownLag;
+		}
+
+		public void setScaleDownLag(long scaleDownLag) {
+			this.scaleDownLag = scaleDownLag;
+		}
+
+		public double getScaleUpUtilization() {
+			return this.scaleUpUtilization;
+		}
+
+		public void setScaleUpUtilization(double scaleUpUtilization) {
+			this.scaleUpUtilization = scaleUpUtilization;
+		}
+
+		public double getScaleDownUtilization() {
+			return this.scaleDownUtilization;
+		}
+
+		public void setScaleDownUtilization(double scaleDownUtilization) {
+			this.scaleDownUtilization = scaleDownUtilization;
+		}
+
+		public long getCheckInterval() {
+			return this.checkInterval;
+		}
+
+		public void setCheckInterval(long checkInterval) {
+			this.checkInterval = checkInterval;
+		}
+
+	}
+
+
+	/**
+	 * Prefetch settings for polled consumer bindings; when enabled, records are fetched
+	 * on a background thread into a bounded buffer per partition that {@code poll()}
+	 * reads from.
+	 */
+	public static class Prefetch {
+
+		/**
+		 * Whether records are prefetched for this polled binding.
+		 */
+		private boolean enabled;
+
+		/**
+		 * Maximum number of records held in the prefetch buffer of each partition.
+		 */
+		private int maxRecords = 500;
+
+		/**
+		 * Maximum number of payload bytes held in the prefetch buffer of each partition;
+		 * only binary payloads are counted, other records are bounded by
+		 * {@link #maxRecords} alone.
+		 */
+		private long maxBytes = 1024 * 1024;
+
+		public boolean isEnabled() {
+			return this.enabled;
+		}
+
+		public void setEnabled(boolean enabled) {
+			this.enabled = enabled;
+		}
+
+		public int getMaxRecords() {
+			return this.maxRecords;
+		}
+
+		public void setMaxRecords(int maxRecords) {
+			this.maxRecords = maxRecords;
+		}
+
+		public long getMaxBytes() {
+			return this.maxBytes;
+		}
+
+		public void setMaxBytes(long maxBytes) {
+			this.maxBytes = maxBytes;
+		}
+
+	}
+
+	/**
+	 * Reassembly settings; when enabled, chunked records are buffered until all their
+	 * chunks are received and are then dispatched as a single record.
+	 */
+	public static class Reassembly {
+
+		/**
+		 * Whether chunked records are reassembled for this binding.
+		 */
+		private boolean enabled;
+
+		/**
+		 * Maximum number of chunk bytes held for incomplete records; when exceeded, a
+		 * partition is paused before its next chunked record until enough buffered
+		 * records complete.
+		 */
+		private long maxBytes = 64 * 1024 * 1024;
+
+		/**
+		 * Time in milliseconds after which an incomplete record that received no chunk is
+		 * discarded, e.g. because its producer failed between its chunks; 0 or less to
+		 * never discard incomplete records. Time spent with the partition paused does not
+		 * count.
+		 */
+		private long orphanTimeout = 300_000;
+
+		public boolean isEnabled() {
+			return this.enabled;
+		}
+
+		public void setEnabled(boolean enabled) {
+			this.enabled = enabled;
+		}
+
+		public long getMaxBytes() {
+			return this.maxBytes;
+		}
+
+		public void setMaxBytes(long maxBytes) {
+			this.maxBytes = maxBytes;
+		}
+
+		public long getOrphanTimeout() {
+			return this.orphanTimeout;
+		}
+
+		public void setOrphanTimeout(long orphanTimeout) {
+			this.orphanTimeout = orphanTimeout;
+		}
+
+	}
+
 }
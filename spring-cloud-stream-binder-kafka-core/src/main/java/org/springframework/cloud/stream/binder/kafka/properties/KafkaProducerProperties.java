@@ -110,6 +110,19 @@ public class KafkaProducerProperties {
 	 */
 	private boolean allowNonTransactional;
 
+	/**
+	 * Claim check mode for large payloads.
+	 * @since 4.0
+	 */
+	private KafkaClaimCheckProperties claimCheck = new KafkaClaimCheckProperties();
+
+	/**
+	 * Size in bytes above which record values are split into chunks of this size, sent in
+	 * order to the same partition; 0 to disable.
+	 * @since 4.0
+	 */
+	private int chunkSize;
+
 	/**
 	 * @return buffer size
 	 *
@@ -292,6 +305,22 @@ public class KafkaProducerProperties {
 		this.allowNonTransactional = allowNonTransactional;
 	}
 
+	public KafkaClaimCheckProperties getClaimCheck() {
+		return this.claimCheck;
+	}
+
+	public void setClaimCheck(KafkaClaimCheckProperties claimCheck) {
+		this.claimCheck = claimCheck;
+	}
+
+	public int getChunkSize() {
+		return this.chunkSize;
+	}
+
+	public void setChunkSize(int chunkSize) {
+		this.chunkSize = chunkSize;
+	}
+
 	/**
 	 * Enumeration for compression types.
 	 */
@@ -41,8 +41,10 @@ import org.apache.kafka.clients.admin.CreateTopicsResult;
 import org.apache.kafka.clients.admin.DescribeConfigsResult;
 import org.apache.kafka.clients.admin.DescribeTopicsResult;
 import org.apache.kafka.clients.admin.ListTopicsResult;
+import org.apache.kafka.clients.admin.MemberToRemove;
 import org.apache.kafka.clients.admin.NewPartitions;
 import org.apache.kafka.clients.admin.NewTopic;
+import org.apache.kafka.clients.admin.RemoveMembersFromConsumerGroupOptions;
 import org.apache.kafka.clients.admin.TopicDescription;
 import org.apache.kafka.common.KafkaFuture;
 import org.apache.kafka.common.PartitionInfo;
@@ -260,6 +262,32 @@ public class KafkaTopicProvisioner implements
 		return AdminClient.create(this.adminClientProperties);
 	}
 
+	/**
+	 * Remove static members from a consumer group, so that their partitions are
+	 * reassigned without waiting for their session to time out.
+	 * @param group the consumer group.
+	 * @param groupInstanceIds the {@code group.instance.id} of the members.
+	 * @since 4.0
+	 */
+	public void removeStaticMembers(String group, Collection<String> groupInstanceIds) {
+		if (groupInstanceIds.isEmpty()) {
+			return;
+		}
+		try (AdminClient adminClient = createAdminClient()) {
+			adminClient.removeMembersFromConsumerGroup(group, new RemoveMembersFromConsumerGroupOptions(
+					groupInstanceIds.stream().map(MemberToRemove::new).collect(Collectors.toList())))
+					.all()
+					.get(this.operationTimeout, TimeUnit.SECONDS);
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			throw new ProvisioningException("Interrupted while removing " + groupInstanceIds + " from " + group, ex);
+		}
+		catch (Exception ex) {
+			throw new ProvisioningException("Failed to remove " + groupInstanceIds + " from " + group, ex);
+		}
+	}
+
 	/**
 	 * In general, binder properties supersede boot kafka properties. The one exception is
 	 * the bootstrap servers. In that case, we should only override the boot properties if
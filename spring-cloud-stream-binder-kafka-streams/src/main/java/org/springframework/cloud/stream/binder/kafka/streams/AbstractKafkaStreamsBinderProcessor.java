@@ -329,12 +329,21 @@ public abstract class AbstractKafkaStreamsBinderProcessor implements Application
 
 		KafkaStreamsConfiguration kafkaStreamsConfiguration = new KafkaStreamsConfiguration(streamConfiguration);
 
-		StreamsBuilderFactoryBean streamsBuilderFactoryBean = this.cleanupConfig == null
-				? new StreamsBuilderFactoryBean(kafkaStreamsConfiguration)
-				: new StreamsBuilderFactoryBean(kafkaStreamsConfiguration,
-				this.cleanupConfig);
+		KafkaStreamsStateRestoreListener stateRestoreListener = new KafkaStreamsStateRestoreListener(
+				(String) streamConfiguration.get(StreamsConfig.APPLICATION_ID_CONFIG));
+		// listeners set later, e.g. by the customizer, are chained after these ones
+		StreamsBuilderFactoryBean streamsBuilderFactoryBean = new BinderStreamsBuilderFactoryBean(
+				kafkaStreamsConfiguration,
+				this.cleanupConfig == null ? new CleanupConfig() : this.cleanupConfig,
+				(newState, oldState) -> {
+					stateRestoreListener.kafkaStreamsStateChanged(newState);
+					this.kafkaStreamsBindingInformationCatalogue.kafkaStreamsStateChanged(newState, oldState);
+				},
+				stateRestoreListener);
 
 		streamsBuilderFactoryBean.setAutoStartup(false);
+		this.kafkaStreamsBindingInformationCatalogue.addStateRestoreListener(streamsBuilderFactoryBean,
+				stateRestoreListener);
 		BeanDefinition streamsBuilderBeanDefinition = BeanDefinitionBuilder
 				.genericBeanDefinition(
 						(Class<StreamsBuilderFactoryBean>) streamsBuilderFactoryBean.getClass(),
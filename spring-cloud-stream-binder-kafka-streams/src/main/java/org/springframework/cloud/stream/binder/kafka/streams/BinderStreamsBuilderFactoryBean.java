@@ -0,0 +1,128 @@
+/*
+ * Copyright 2026-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.stream.binder.kafka.streams;
+
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.streams.KafkaStreams;
+import org.apache.kafka.streams.processor.StateRestoreListener;
+
+import org.springframework.kafka.config.KafkaStreamsConfiguration;
+import org.springframework.kafka.config.StreamsBuilderFactoryBean;
+import org.springframework.kafka.core.CleanupConfig;
+import org.springframework.lang.Nullable;
+
+/**
+ * {@link StreamsBuilderFactoryBean} used by the binder. The state listener and the state
+ * restore listener set by the application, for example from a
+ * {@code StreamsBuilderFactoryBeanCustomizer}, are invoked after the binder's own
+ * listeners instead of replacing them, so that the binder keeps tracking the state and
+ * the restorations of the {@link KafkaStreams}.
+ *
+ * @author agent
+ * @since 4.0
+ */
+class BinderStreamsBuilderFactoryBean extends StreamsBuilderFactoryBean {
+
+	private final KafkaStreams.StateListener binderStateListener;
+
+	private final StateRestoreListener binderStateRestoreListener;
+
+	private final KafkaStreams.StateListener compositeStateListener = this::stateChanged;
+
+	private final StateRestoreListener compositeStateRestoreListener = new CompositeStateRestoreListener();
+
+	@Nullable
+	private volatile KafkaStreams.StateListener applicationStateListener;
+
+	@Nullable
+	private volatile StateRestoreListener applicationStateRestoreListener;
+
+	BinderStreamsBuilderFactoryBean(KafkaStreamsConfiguration streamsConfig, CleanupConfig cleanupConfig,
+			KafkaStreams.StateListener binderStateListener, StateRestoreListener binderStateRestoreListener) {
+
+		super(streamsConfig, cleanupConfig);
+		this.binderStateListener = binderStateListener;
+		this.binderStateRestoreListener = binderStateRestoreListener;
+		super.setStateListener(this.compositeStateListener);
+		super.setStateRestoreListener(this.compositeStateRestoreListener);
+	}
+
+	@Override
+	public void setStateListener(KafkaStreams.StateListener stateListener) {
+		this.applicationStateListener = stateListener;
+	}
+
+	@Override
+	public void setStateRestoreListener(StateRestoreListener stateRestoreListener) {
+		this.applicationStateRestoreListener = stateRestoreListener;
+	}
+
+	KafkaStreams.StateListener getCompositeStateListener() {
+		return this.compositeStateListener;
+	}
+
+	StateRestoreListener getCompositeStateRestoreListener() {
+		return this.compositeStateRestoreListener;
+	}
+
+	private void stateChanged(KafkaStreams.State newState, KafkaStreams.State oldState) {
+		this.binderStateListener.onChange(newState, oldState);
+		KafkaStreams.StateListener stateListener = this.applicationStateListener;
+		if (stateListener != null) {
+			stateListener.onChange(newState, oldState);
+		}
+	}
+
+	private final class CompositeStateRestoreListener implements StateRestoreListener {
+
+		@Override
+		public void onRestoreStart(TopicPartition topicPartition, String storeName, long startingOffset,
+				long endingOffset) {
+
+			BinderStreamsBuilderFactoryBean.this.binderStateRestoreListener.onRestoreStart(topicPartition, storeName,
+					startingOffset, endingOffset);
+			StateRestoreListener delegate = BinderStreamsBuilderFactoryBean.this.applicationStateRestoreListener;
+			if (delegate != null) {
+				delegate.onRestoreStart(topicPartition, storeName, startingOffset, endingOffset);
+			}
+		}
+
+		@Override
+		public void onBatchRestored(TopicPartition topicPartition, String storeName, long batchEndOffset,
+				long numRestored) {
+
+			BinderStreamsBuilderFactoryBean.this.binderStateRestoreListener.onBatchRestored(topicPartition, storeName,
+					batchEndOffset, numRestored);
+			StateRestoreListener delegate = BinderStreamsBuilderFactoryBean.this.applicationStateRestoreListener;
+			if (delegate != null) {
+				delegate.onBatchRestored(topicPartition, storeName, batchEndOffset, numRestored);
+			}
+		}
+
+		@Override
+		public void onRestoreEnd(TopicPartition topicPartition, String storeName, long totalRestored) {
+			BinderStreamsBuilderFactoryBean.this.binderStateRestoreListener.onRestoreEnd(topicPartition, storeName,
+					totalRestored);
+			StateRestoreListener delegate = BinderStreamsBuilderFactoryBean.this.applicationStateRestoreListener;
+			if (delegate != null) {
+				delegate.onRestoreEnd(topicPartition, storeName, totalRestored);
+			}
+		}
+
+	}
+
+}
@@ -16,12 +16,15 @@
 
 package org.springframework.cloud.stream.binder.kafka.streams;
 
-import java.util.Iterator;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 
@@ -35,9 +38,12 @@ import org.apache.kafka.streams.StreamsConfig;
 import org.apache.kafka.streams.errors.InvalidStateStoreException;
 import org.apache.kafka.streams.state.HostInfo;
 import org.apache.kafka.streams.state.QueryableStoreType;
+import org.apache.kafka.streams.state.QueryableStoreTypes;
+import org.apache.kafka.streams.state.ReadOnlyKeyValueStore;
 import org.apache.kafka.streams.state.StreamsMetadata;
 
 import org.springframework.cloud.stream.binder.kafka.streams.properties.KafkaStreamsBinderConfigurationProperties;
+import org.springframework.kafka.config.StreamsBuilderFactoryBean;
 import org.springframework.retry.RetryPolicy;
 import org.springframework.retry.backoff.FixedBackOffPolicy;
 import org.springframework.retry.policy.SimpleRetryPolicy;
@@ -64,6 +70,10 @@ public class InteractiveQueryService {
 
 	private final KafkaStreamsBinderConfigurationProperties binderConfigurationProperties;
 
+	private volatile RetryTemplate retryTemplate;
+
+	private volatile StoreCache storeCache;
+
 	/**
 	 * Constructor for InteractiveQueryService.
 	 * @param kafkaStreamsRegistry holding {@link KafkaStreamsRegistry}
@@ -77,52 +87,69 @@ public class InteractiveQueryService {
 
 	/**
 	 * Retrieve and return a queryable store by name created in the application.
+	 *
+	 * Store handles are cached per store name and type (and per processor, when called
+	 * from a Kafka Streams thread) until the registered {@link KafkaStreams} objects are
+	 * changed or one of them changes its state, e.g. on a rebalance.
 	 * @param storeName name of the queryable store
 	 * @param storeType type of the queryable store
 	 * @param <T> generic queryable store
 	 * @return queryable store.
 	 */
+	@SuppressWarnings("unchecked")
 	public <T> T getQueryableStore(String storeName, QueryableStoreType<T> storeType) {
+		final StoreCache storeCache = getStoreCache();
+		final KafkaStreams contextSpecificKafkaStreams = storeCache.getThreadContextSpecificKafkaStreams();
+		final StoreKey storeKey = new StoreKey(storeName, storeType.getClass(), contextSpecificKafkaStreams);
 
-		final RetryTemplate retryTemplate = getRetryTemplate();
-
-		KafkaStreams contextSpecificKafkaStreams = getThreadContextSpecificKafkaStreams();
+		final CachedStore cachedStore = storeCache.stores.get(storeKey);
+		if (cachedStore != null && isRunningOrRebalancing(cachedStore.kafkaStreams)) {
+			return (T) cachedStore.store;
+		}
 
-		return retryTemplate.execute(context -> {
+		return getRetryTemplate().execute(context -> {
+			// the registered KafkaStreams may change between attempts, e.g. while starting
+			final StoreCache currentStoreCache = getStoreCache();
+			final KafkaStreams currentContextSpecificKafkaStreams = currentStoreCache.getThreadContextSpecificKafkaStreams();
 			T store = null;
+			KafkaStreams storeKafkaStreams = null;
 			Throwable throwable = null;
-			if (contextSpecificKafkaStreams != null) {
+			if (currentContextSpecificKafkaStreams != null) {
 				try {
-					store = contextSpecificKafkaStreams.store(
+					store = currentContextSpecificKafkaStreams.store(
 							StoreQueryParameters.fromNameAndType(
 									storeName, storeType));
+					storeKafkaStreams = currentContextSpecificKafkaStreams;
 				}
 				catch (InvalidStateStoreException e) {
 					// pass through..
 					throwable = e;
 				}
 			}
-			if (store != null) {
-				return store;
-			}
-			else if (contextSpecificKafkaStreams != null) {
-				LOG.warn("Store " + storeName
-						+ " could not be found in Streams context, falling back to all known Streams instances");
-			}
-			final Set<KafkaStreams> kafkaStreams = kafkaStreamsRegistry.getKafkaStreams();
-			final Iterator<KafkaStreams> iterator = kafkaStreams.iterator();
-			while (iterator.hasNext()) {
-				try {
-					store = iterator.next()
-							.store(StoreQueryParameters.fromNameAndType(
-									storeName, storeType));
+			if (store == null) {
+				if (currentContextSpecificKafkaStreams != null) {
+					LOG.warn("Store " + storeName
+							+ " could not be found in Streams context, falling back to all known Streams instances");
 				}
-				catch (InvalidStateStoreException e) {
-					// pass through..
-					throwable = e;
+				for (KafkaStreams kafkaStreams : currentStoreCache.kafkaStreams) {
+					try {
+						T candidate = kafkaStreams.store(StoreQueryParameters.fromNameAndType(
+								storeName, storeType));
+						if (candidate != null) {
+							store = candidate;
+							storeKafkaStreams = kafkaStreams;
+						}
+					}
+					catch (InvalidStateStoreException e) {
+						// pass through..
+						throwable = e;
+					}
 				}
 			}
 			if (store != null) {
+				currentStoreCache.stores.put(
+						new StoreKey(storeName, storeType.getClass(), currentContextSpecificKafkaStreams),
+						new CachedStore(store, storeKafkaStreams));
 				return store;
 			}
 			throw new IllegalStateException(
@@ -132,27 +159,23 @@ public class InteractiveQueryService {
 	}
 
 	/**
-	 * Retrieves the current {@link KafkaStreams} context if executing Thread is created by a Streams App (contains a matching application id in Thread's name).
-	 *
-	 * @return KafkaStreams instance associated with Thread
+	 * Return the cached view of the registered {@link KafkaStreams} objects, rebuilding it
+	 * when the registry changed since it was built.
+	 * @return the store cache
 	 */
-	private KafkaStreams getThreadContextSpecificKafkaStreams() {
-		return this.kafkaStreamsRegistry.getKafkaStreams().stream()
-				.filter(this::filterByThreadName).findAny().orElse(null);
+	private StoreCache getStoreCache() {
+		final long version = this.kafkaStreamsRegistry.getVersion();
+		StoreCache storeCache = this.storeCache;
+		if (storeCache == null || storeCache.version != version) {
+			storeCache = new StoreCache(version);
+			this.storeCache = storeCache;
+		}
+		return storeCache;
 	}
 
-	/**
-	 * Checks if the supplied {@link KafkaStreams} instance belongs to the calling Thread by matching the Thread's name with the Streams Application Id.
-	 *
-	 * @param streams {@link KafkaStreams} instance to filter
-	 * @return true if Streams Instance is associated with Thread
-	 */
-	private boolean filterByThreadName(KafkaStreams streams) {
-		String applicationId = kafkaStreamsRegistry.streamBuilderFactoryBean(
-						streams).getStreamsConfiguration()
-				.getProperty(StreamsConfig.APPLICATION_ID_CONFIG);
-		// TODO: is there some better way to find out if a Stream App created the Thread?
-		return Thread.currentThread().getName().contains(applicationId);
+	private static boolean isRunningOrRebalancing(KafkaStreams kafkaStreams) {
+		final KafkaStreams.State state = kafkaStreams.state();
+		return state != null && state.isRunningOrRebalancing();
 	}
 
 	/**
@@ -216,16 +239,19 @@ public class InteractiveQueryService {
 	}
 
 	private RetryTemplate getRetryTemplate() {
-		RetryTemplate retryTemplate = new RetryTemplate();
+		RetryTemplate retryTemplate = this.retryTemplate;
+		if (retryTemplate == null) {
+			retryTemplate = new RetryTemplate();
 
-		KafkaStreamsBinderConfigurationProperties.StateStoreRetry stateStoreRetry = this.binderConfigurationProperties.getStateStoreRetry();
-		RetryPolicy retryPolicy = new SimpleRetryPolicy(stateStoreRetry.getMaxAttempts());
-		FixedBackOffPolicy backOffPolicy = new FixedBackOffPolicy();
-		backOffPolicy.setBackOffPeriod(stateStoreRetry.getBackoffPeriod());
-
-		retryTemplate.setBackOffPolicy(backOffPolicy);
-		retryTemplate.setRetryPolicy(retryPolicy);
+			KafkaStreamsBinderConfigurationProperties.StateStoreRetry stateStoreRetry = this.binderConfigurationProperties.getStateStoreRetry();
+			RetryPolicy retryPolicy = new SimpleRetryPolicy(stateStoreRetry.getMaxAttempts());
+			FixedBackOffPolicy backOffPolicy = new FixedBackOffPolicy();
+			backOffPolicy.setBackOffPeriod(stateStoreRetry.getBackoffPeriod());
 
+			retryTemplate.setBackOffPolicy(backOffPolicy);
+			retryTemplate.setRetryPolicy(retryPolicy);
+			this.retryTemplate = retryTemplate;
+		}
 		return retryTemplate;
 	}
 
@@ -246,6 +272,147 @@ public class InteractiveQueryService {
 				.filter(Optional::isPresent).map(Optional::get).findFirst().orElse(null);
 	}
 
+	/**
+	 * Query a batch of keys of a key-value store. The keys are grouped by the instance that
+	 * hosts them, using {@link KafkaStreams#queryMetadataForKey}: the keys hosted by the
+	 * current instance are read from the local store, and the other keys are returned
+	 * grouped by host, so that the caller makes one request per host instead of one per key.
+	 * A key that cannot be read locally, e.g. because its task is migrating, does not fail
+	 * the batch: it is routed to another host, or reported as unavailable.
+	 *
+	 * Note that the end user applications must provide `application.server` as a
+	 * configuration property for all the application instances; if it is not set on the
+	 * current instance, all the keys are considered local.
+	 * @param <K> generic type for key
+	 * @param <V> generic type for value
+	 * @param store key-value store name
+	 * @param keys keys to look for
+	 * @param serializer {@link Serializer} for the key
+	 * @param allowStandby whether keys can be served by a standby replica, locally when the
+	 * current instance hosts one, or remotely when the active host is unavailable
+	 * @return the local values and the routing plan for the remote keys
+	 * @since 4.0
+	 */
+	public <K, V> MultiKeyQueryResult<K, V> queryKeys(String store, Collection<K> keys, Serializer<K> serializer,
+			boolean allowStandby) {
+		final Map<K, V> localValues = new LinkedHashMap<>();
+		final Map<HostInfo, List<K>> remoteKeys = new LinkedHashMap<>();
+		final List<K> unavailableKeys = new ArrayList<>();
+		if (keys.isEmpty()) {
+			return new MultiKeyQueryResult<>(localValues, remoteKeys, unavailableKeys);
+		}
+
+		final HostInfo currentHost = getCurrentHostInfo();
+		final K firstKey = keys.iterator().next();
+		KafkaStreams hostingKafkaStreams = null;
+		for (KafkaStreams kafkaStreams : getStoreCache().kafkaStreams) {
+			if (kafkaStreams.queryMetadataForKey(store, firstKey, serializer) != null) {
+				hostingKafkaStreams = kafkaStreams;
+				break;
+			}
+		}
+		if (hostingKafkaStreams == null) {
+			unavailableKeys.addAll(keys);
+			return new MultiKeyQueryResult<>(localValues, remoteKeys, unavailableKeys);
+		}
+
+		final Map<K, KeyQueryMetadata> activeLocalKeys = new LinkedHashMap<>();
+		final Map<K, KeyQueryMetadata> standbyLocalKeys = new LinkedHashMap<>();
+		for (K key : keys) {
+			final KeyQueryMetadata keyQueryMetadata = hostingKafkaStreams.queryMetadataForKey(store, key, serializer);
+			if (keyQueryMetadata == null || KeyQueryMetadata.NOT_AVAILABLE.equals(keyQueryMetadata)) {
+				unavailableKeys.add(key);
+			}
+			else if (currentHost == null || currentHost.equals(keyQueryMetadata.activeHost())) {
+				activeLocalKeys.put(key, keyQueryMetadata);
+			}
+			else if (allowStandby && keyQueryMetadata.standbyHosts().contains(currentHost)) {
+				standbyLocalKeys.put(key, keyQueryMetadata);
+			}
+			else {
+				routeRemotely(key, keyQueryMetadata, currentHost, allowStandby, remoteKeys, unavailableKeys);
+			}
+		}
+
+		if (!activeLocalKeys.isEmpty()) {
+			ReadOnlyKeyValueStore<K, V> localStore = null;
+			try {
+				localStore = getQueryableStore(store, QueryableStoreTypes.<K, V>keyValueStore());
+			}
+			catch (InvalidStateStoreException | IllegalStateException ex) {
+				LOG.debug("Local store " + store + " is not available", ex);
+			}
+			readLocalValues(localStore, activeLocalKeys, currentHost, allowStandby, localValues, remoteKeys,
+					unavailableKeys);
+		}
+		if (!standbyLocalKeys.isEmpty()) {
+			final KafkaStreams standbyKafkaStreams = hostingKafkaStreams;
+			ReadOnlyKeyValueStore<K, V> localStore = null;
+			try {
+				localStore = getRetryTemplate().execute(context -> standbyKafkaStreams.store(
+						StoreQueryParameters.fromNameAndType(store, QueryableStoreTypes.<K, V>keyValueStore())
+								.enableStaleStores()));
+			}
+			catch (InvalidStateStoreException ex) {
+				LOG.debug("Local standby store " + store + " is not available", ex);
+			}
+			readLocalValues(localStore, standbyLocalKeys, currentHost, allowStandby, localValues, remoteKeys,
+					unavailableKeys);
+		}
+		return new MultiKeyQueryResult<>(localValues, remoteKeys, unavailableKeys);
+	}
+
+	/*
+	 * A key whose local store, or whose read, fails (e.g. because its task is migrating)
+	 * is routed to another host, or reported as unavailable, without failing the batch.
+	 */
+	private static <K, V> void readLocalValues(ReadOnlyKeyValueStore<K, V> localStore,
+			Map<K, KeyQueryMetadata> keys, HostInfo currentHost, boolean allowStandby, Map<K, V> localValues,
+			Map<HostInfo, List<K>> remoteKeys, List<K> unavailableKeys) {
+
+		for (Map.Entry<K, KeyQueryMetadata> entry : keys.entrySet()) {
+			final K key = entry.getKey();
+			if (localStore == null) {
+				routeRemotely(key, entry.getValue(), currentHost, allowStandby, remoteKeys, unavailableKeys);
+				continue;
+			}
+			try {
+				final V value = localStore.get(key);
+				if (value != null) {
+					localValues.put(key, value);
+				}
+			}
+			catch (InvalidStateStoreException ex) {
+				routeRemotely(key, entry.getValue(), currentHost, allowStandby, remoteKeys, unavailableKeys);
+			}
+		}
+	}
+
+	private static <K> void routeRemotely(K key, KeyQueryMetadata keyQueryMetadata, HostInfo currentHost,
+			boolean allowStandby, Map<HostInfo, List<K>> remoteKeys, List<K> unavailableKeys) {
+
+		HostInfo host = null;
+		if (isAvailable(keyQueryMetadata.activeHost()) && !keyQueryMetadata.activeHost().equals(currentHost)) {
+			host = keyQueryMetadata.activeHost();
+		}
+		else if (allowStandby) {
+			host = keyQueryMetadata.standbyHosts().stream()
+					.filter(standbyHost -> isAvailable(standbyHost) && !standbyHost.equals(currentHost))
+					.findFirst()
+					.orElse(null);
+		}
+		if (host != null) {
+			remoteKeys.computeIfAbsent(host, h -> new ArrayList<>()).add(key);
+		}
+		else {
+			unavailableKeys.add(key);
+		}
+	}
+
+	private static boolean isAvailable(HostInfo hostInfo) {
+		return hostInfo != null && !HostInfo.unavailable().equals(hostInfo);
+	}
+
 	/**
 	 * Retrieves and returns the {@link KafkaStreams} object that is associated with the given combination of
 	 * key and state store. If none found, it will return null.
@@ -289,4 +456,100 @@ public class InteractiveQueryService {
 				.collect(Collectors.toList());
 	}
 
+	/**
+	 * Snapshot of the running {@link KafkaStreams} objects and the store handles
+	 * retrieved from them, valid for one version of the {@link KafkaStreamsRegistry}.
+	 */
+	private final class StoreCache {
+
+		private final long version;
+
+		private final Set<KafkaStreams> kafkaStreams;
+
+		private final Map<String, KafkaStreams> kafkaStreamsPerApplicationId = new LinkedHashMap<>();
+
+		private final Map<StoreKey, CachedStore> stores = new ConcurrentHashMap<>();
+
+		StoreCache(long version) {
+			this.version = version;
+			this.kafkaStreams = InteractiveQueryService.this.kafkaStreamsRegistry.getKafkaStreams();
+			for (KafkaStreams streams : this.kafkaStreams) {
+				StreamsBuilderFactoryBean streamsBuilderFactoryBean =
+						InteractiveQueryService.this.kafkaStreamsRegistry.streamBuilderFactoryBean(streams);
+				if (streamsBuilderFactoryBean != null) {
+					String applicationId = streamsBuilderFactoryBean.getStreamsConfiguration()
+							.getProperty(StreamsConfig.APPLICATION_ID_CONFIG);
+					if (applicationId != null) {
+						this.kafkaStreamsPerApplicationId.put(applicationId, streams);
+					}
+				}
+			}
+		}
+
+		/**
+		 * Retrieves the current {@link KafkaStreams} context if executing Thread is created by a Streams App
+		 * (contains a matching application id in Thread's name).
+		 *
+		 * @return KafkaStreams instance associated with Thread
+		 */
+		KafkaStreams getThreadContextSpecificKafkaStreams() {
+			// TODO: is there some better way to find out if a Stream App created the Thread?
+			final String threadName = Thread.currentThread().getName();
+			for (Map.Entry<String, KafkaStreams> entry : this.kafkaStreamsPerApplicationId.entrySet()) {
+				if (threadName.contains(entry.getKey())) {
+					return entry.getValue();
+				}
+			}
+			return null;
+		}
+
+	}
+
+	private static final class StoreKey {
+
+		private final String storeName;
+
+		private final Class<?> storeType;
+
+		private final KafkaStreams kafkaStreams;
+
+		StoreKey(String storeName, Class<?> storeType, KafkaStreams kafkaStreams) {
+			this.storeName = storeName;
+			this.storeType = storeType;
+			this.kafkaStreams = kafkaStreams;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (this == o) {
+				return true;
+			}
+			if (!(o instanceof StoreKey)) {
+				return false;
+			}
+			StoreKey that = (StoreKey) o;
+			return this.storeName.equals(that.storeName) && this.storeType.equals(that.storeType)
+					&& this.kafkaStreams == that.kafkaStreams;
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(this.storeName, this.storeType, this.kafkaStreams);
+		}
+
+	}
+
+	private static final class CachedStore {
+
+		private final Object store;
+
+		private final KafkaStreams kafkaStreams;
+
+		CachedStore(Object store, KafkaStreams kafkaStreams) {
+			this.store = store;
+			this.kafkaStreams = kafkaStreams;
+		}
+
+	}
+
 }
@@ -135,6 +135,14 @@ public class KafkaStreamsBinderHealthIndicator extends AbstractHealthIndicator i
 					}
 					builder.withDetails(buildDetails(kStream));
 				}
+				if (up && this.configurationProperties.isRestoreReadiness()) {
+					Map<String, Object> restoringStores = restoringStoreDetails();
+					if (!restoringStores.isEmpty()) {
+						builder.withDetail("restoringStateStores", restoringStores);
+						builder.status(Status.OUT_OF_SERVICE);
+						return;
+					}
+				}
 				builder.status(up ? Status.UP : Status.DOWN);
 			}
 		}
@@ -196,6 +204,20 @@ public class KafkaStreamsBinderHealthIndicator extends AbstractHealthIndicator i
 		return details;
 	}
 
+	private Map<String, Object> restoringStoreDetails() {
+		final Map<String, Object> details = new HashMap<>();
+		for (KafkaStreamsStateRestoreListener listener :
+				this.kafkaStreamsBindingInformationCatalogue.getStateRestoreListeners().values()) {
+			listener.getStores().forEach((store, progress) -> {
+				if (progress.isRestoring()) {
+					details.put(listener.getApplicationId() + "." + store,
+							"remainingRecords=" + progress.getRemainingRecords());
+				}
+			});
+		}
+		return details;
+	}
+
 	private static Map<String, Object> taskDetails(Set<TaskMetadata> taskMetadata) {
 		final Map<String, Object> details = new HashMap<>();
 		for (TaskMetadata metadata : taskMetadata) {
@@ -354,8 +354,12 @@ public class KafkaStreamsBinderSupportAutoConfiguration {
 	}
 
 	@Bean
-	public KafkaStreamsRegistry kafkaStreamsRegistry() {
-		return new KafkaStreamsRegistry();
+	public KafkaStreamsRegistry kafkaStreamsRegistry(
+			KafkaStreamsBindingInformationCatalogue kafkaStreamsBindingInformationCatalogue) {
+		KafkaStreamsRegistry kafkaStreamsRegistry = new KafkaStreamsRegistry();
+		kafkaStreamsBindingInformationCatalogue.addKafkaStreamsStateListener(
+				(newState, oldState) -> kafkaStreamsRegistry.kafkaStreamsChanged());
+		return kafkaStreamsRegistry;
 	}
 
 	@Bean
@@ -363,8 +367,10 @@ public class KafkaStreamsBinderSupportAutoConfiguration {
 			KafkaStreamsBindingInformationCatalogue catalogue,
 			KafkaStreamsRegistry kafkaStreamsRegistry,
 			@Nullable KafkaStreamsBinderMetrics kafkaStreamsBinderMetrics,
-			@Nullable KafkaStreamsMicrometerListener listener, KafkaProperties kafkaProperties) {
-		return new StreamsBuilderFactoryManager(catalogue, kafkaStreamsRegistry, kafkaStreamsBinderMetrics, listener, kafkaProperties);
+			@Nullable KafkaStreamsMicrometerListener listener, KafkaProperties kafkaProperties,
+			@Qualifier("binderConfigurationProperties") KafkaStreamsBinderConfigurationProperties binderConfigurationProperties) {
+		return new StreamsBuilderFactoryManager(catalogue, kafkaStreamsRegistry, kafkaStreamsBinderMetrics, listener,
+				kafkaProperties, binderConfigurationProperties.isParallelLifecycle());
 	}
 
 	@Bean
@@ -403,6 +409,15 @@ public class KafkaStreamsBinderSupportAutoConfiguration {
 			return new KafkaStreamsBinderMetrics(meterRegistry);
 		}
 
+		@Bean
+		@ConditionalOnBean(MeterRegistry.class)
+		@ConditionalOnMissingBean
+		public KafkaStreamsStateRestoreMetrics kafkaStreamsStateRestoreMetrics(MeterRegistry meterRegistry,
+				KafkaStreamsBindingInformationCatalogue kafkaStreamsBindingInformationCatalogue) {
+
+			return new KafkaStreamsStateRestoreMetrics(meterRegistry, kafkaStreamsBindingInformationCatalogue);
+		}
+
 		@ConditionalOnClass(name = "org.springframework.kafka.core.MicrometerConsumerListener")
 		@ConditionalOnBean(MeterRegistry.class)
 		protected class KafkaMicrometer {
@@ -430,6 +445,19 @@ public class KafkaStreamsBinderSupportAutoConfiguration {
 			return new KafkaStreamsBinderMetrics(meterRegistry);
 		}
 
+		@Bean
+		@ConditionalOnMissingBean
+		public KafkaStreamsStateRestoreMetrics kafkaStreamsStateRestoreMetrics(ConfigurableApplicationContext context,
+				KafkaStreamsBindingInformationCatalogue kafkaStreamsBindingInformationCatalogue) {
+
+			MeterRegistry meterRegistry = context.getBean("outerContext", ApplicationContext.class)
+					.getBeanProvider(MeterRegistry.class).getIfAvailable();
+			// no restore metrics when the application has no meter registry
+			return meterRegistry != null
+					? new KafkaStreamsStateRestoreMetrics(meterRegistry, kafkaStreamsBindingInformationCatalogue)
+					: null;
+		}
+
 		@ConditionalOnClass(name = "org.springframework.kafka.core.MicrometerConsumerListener")
 		@ConditionalOnBean(MeterRegistry.class)
 		protected class KafkaMicrometer {
@@ -17,12 +17,15 @@
 package org.springframework.cloud.stream.binder.kafka.streams;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 import org.apache.kafka.common.serialization.Serde;
@@ -67,6 +70,12 @@ public class KafkaStreamsBindingInformationCatalogue {
 
 	private final Map<StreamsBuilderFactoryBean, List<ProducerFactory<byte[], byte[]>>> dlqProducerFactories = new HashMap<>();
 
+	private final Map<StreamsBuilderFactoryBean, KafkaStreamsStateRestoreListener> stateRestoreListeners = new ConcurrentHashMap<>();
+
+	private final List<Consumer<KafkaStreamsStateRestoreListener>> stateRestoreListenerCallbacks = new CopyOnWriteArrayList<>();
+
+	private final List<KafkaStreams.StateListener> kafkaStreamsStateListeners = new CopyOnWriteArrayList<>();
+
 	/**
 	 * For a given bounded {@link KStream}, retrieve it's corresponding destination on the
 	 * broker.
@@ -247,4 +256,41 @@ public class KafkaStreamsBindingInformationCatalogue {
 	public Map<String, KafkaStreams> getStoppedKafkaStreams() {
 		return this.previousKafkaStreamsPerApplicationId;
 	}
+
+	/**
+	 * Return the state restore listeners registered by the binder, keyed by the
+	 * {@link StreamsBuilderFactoryBean} they are registered on.
+	 * @return the state restore listeners.
+	 * @since 4.0
+	 */
+	public Map<StreamsBuilderFactoryBean, KafkaStreamsStateRestoreListener> getStateRestoreListeners() {
+		return Collections.unmodifiableMap(this.stateRestoreListeners);
+	}
+
+	void addStateRestoreListener(StreamsBuilderFactoryBean streamsBuilderFactoryBean,
+			KafkaStreamsStateRestoreListener stateRestoreListener) {
+		this.stateRestoreListeners.put(streamsBuilderFactoryBean, stateRestoreListener);
+		this.stateRestoreListenerCallbacks.forEach(callback -> callback.accept(stateRestoreListener));
+	}
+
+	/*
+	 * Invoked for the listeners registered so far and for each listener registered afterwards.
+	 */
+	void addStateRestoreListenerCallback(Consumer<KafkaStreamsStateRestoreListener> callback) {
+		this.stateRestoreListenerCallbacks.add(callback);
+		this.stateRestoreListeners.values().forEach(callback);
+	}
+
+	void addKafkaStreamsStateListener(KafkaStreams.StateListener stateListener) {
+		this.kafkaStreamsStateListeners.add(stateListener);
+	}
+
+	/*
+	 * Registered as the state listener of the KafkaStreams created by the binder.
+	 */
+	void kafkaStreamsStateChanged(KafkaStreams.State newState, KafkaStreams.State oldState) {
+		for (KafkaStreams.StateListener stateListener : this.kafkaStreamsStateListeners) {
+			stateListener.onChange(newState, oldState);
+		}
+	}
 }
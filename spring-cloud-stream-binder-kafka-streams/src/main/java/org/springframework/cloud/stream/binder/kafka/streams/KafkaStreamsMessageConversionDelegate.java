@@ -16,6 +16,8 @@
 
 package org.springframework.cloud.stream.binder.kafka.streams;
 
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -28,12 +30,12 @@ import org.apache.kafka.common.header.Headers;
 import org.apache.kafka.common.header.internals.RecordHeader;
 import org.apache.kafka.common.serialization.Serde;
 import org.apache.kafka.common.serialization.Serializer;
-import org.apache.kafka.streams.KeyValue;
 import org.apache.kafka.streams.kstream.KStream;
-import org.apache.kafka.streams.processor.Processor;
+import org.apache.kafka.streams.kstream.ValueTransformerWithKey;
 import org.apache.kafka.streams.processor.ProcessorContext;
 
 import org.springframework.cloud.stream.binder.kafka.streams.properties.KafkaStreamsBinderConfigurationProperties;
+import org.springframework.lang.Nullable;
 import org.springframework.messaging.Message;
 import org.springframework.messaging.MessageHeaders;
 import org.springframework.messaging.converter.CompositeMessageConverter;
@@ -56,7 +58,7 @@ public class KafkaStreamsMessageConversionDelegate {
 	private static final Log LOG = LogFactory
 			.getLog(KafkaStreamsMessageConversionDelegate.class);
 
-	private static final ThreadLocal<KeyValue<Object, Object>> keyValueThreadLocal = new ThreadLocal<>();
+	private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
 
 	private final CompositeMessageConverter compositeMessageConverter;
 
@@ -66,8 +68,6 @@ public class KafkaStreamsMessageConversionDelegate {
 
 	private final KafkaStreamsBinderConfigurationProperties kstreamBinderConfigurationProperties;
 
-	Exception[] failedWithDeserException = new Exception[1];
-
 	KafkaStreamsMessageConversionDelegate(
 			CompositeMessageConverter compositeMessageConverter,
 			SendToDlqAndContinue sendToDlqAndContinue,
@@ -80,7 +80,9 @@ public class KafkaStreamsMessageConversionDelegate {
 	}
 
 	/**
-	 * Serialize {@link KStream} records on outbound based on contentType.
+	 * Serialize {@link KStream} records on outbound based on contentType. Conversion and
+	 * the content type header are handled by a single processor; the header value of the
+	 * binding's content type is encoded once and reused for every record.
 	 * @param outboundBindTarget outbound KStream target
 	 * @return serialized KStream
 	 */
@@ -88,63 +90,14 @@ public class KafkaStreamsMessageConversionDelegate {
 	public KStream serializeOnOutbound(KStream<?, ?> outboundBindTarget) {
 		String contentType = this.kstreamBindingInformationCatalogue
 				.getContentType(outboundBindTarget);
-		MessageConverter messageConverter = this.compositeMessageConverter;
-		final PerRecordContentTypeHolder perRecordContentTypeHolder = new PerRecordContentTypeHolder();
-
-		final KStream<?, ?> kStreamWithEnrichedHeaders = outboundBindTarget
-			.filter((k, v) -> v != null)
-			.mapValues((v) -> {
-				Message<?> message = v instanceof Message<?> ? (Message<?>) v
-						: MessageBuilder.withPayload(v).build();
-				Map<String, Object> headers = new HashMap<>(message.getHeaders());
-				if (!StringUtils.isEmpty(contentType)) {
-					headers.put(MessageHeaders.CONTENT_TYPE, contentType);
-				}
-				MessageHeaders messageHeaders = new MessageHeaders(headers);
-				final Message<?> convertedMessage = messageConverter.toMessage(message.getPayload(), messageHeaders);
-				perRecordContentTypeHolder.setContentType((String) messageHeaders.get(MessageHeaders.CONTENT_TYPE));
-				return convertedMessage.getPayload();
-			});
-
-		kStreamWithEnrichedHeaders.process(() -> new Processor() {
-
-			ProcessorContext context;
-
-			@Override
-			public void init(ProcessorContext context) {
-				this.context = context;
-			}
-
-			@Override
-			public void process(Object key, Object value) {
-				if (perRecordContentTypeHolder.contentType != null) {
-					this.context.headers().remove(MessageHeaders.CONTENT_TYPE);
-					final Header header;
-					try {
-						header = new RecordHeader(MessageHeaders.CONTENT_TYPE,
-									new ObjectMapper().writeValueAsBytes(perRecordContentTypeHolder.contentType));
-						this.context.headers().add(header);
-					}
-					catch (Exception e) {
-						if (LOG.isDebugEnabled()) {
-							LOG.debug("Could not add content type header");
-						}
-					}
-					perRecordContentTypeHolder.unsetContentType();
-				}
-			}
-
-			@Override
-			public void close() {
-
-			}
-		});
-
-		return kStreamWithEnrichedHeaders;
+		return outboundBindTarget.flatTransformValues(
+				() -> new OutboundConversionTransformer(StringUtils.hasText(contentType) ? contentType : null));
 	}
 
 	/**
-	 * Deserialize incoming {@link KStream} based on content type.
+	 * Deserialize incoming {@link KStream} based on content type. The content type
+	 * header is read, the value converted and failures routed to the error path in a
+	 * single processor; tombstones and records that fail conversion are not forwarded.
 	 * @param valueClass on KStream value
 	 * @param bindingTarget inbound KStream target
 	 * @return deserialized KStream
@@ -152,194 +105,215 @@ public class KafkaStreamsMessageConversionDelegate {
 	@SuppressWarnings({ "unchecked", "rawtypes" })
 	public KStream deserializeOnInbound(Class<?> valueClass,
 			KStream<?, ?> bindingTarget) {
-		MessageConverter messageConverter = this.compositeMessageConverter;
-		final PerRecordContentTypeHolder perRecordContentTypeHolder = new PerRecordContentTypeHolder();
-
-		resolvePerRecordContentType(bindingTarget, perRecordContentTypeHolder);
-
-		// Deserialize using a branching strategy
-		KStream<?, ?>[] branch = bindingTarget.branch(
-				// First filter where the message is converted and return true if
-				// everything went well, return false otherwise.
-				(o, o2) -> {
-					boolean isValidRecord = false;
-
-					try {
-						// if the record is a tombstone, ignore and exit from processing
-						// further.
-						if (o2 != null) {
-							if (o2 instanceof Message || o2 instanceof String
-									|| o2 instanceof byte[]) {
-								Message<?> m1 = null;
-								if (o2 instanceof Message) {
-									m1 = perRecordContentTypeHolder.contentType != null
-											? MessageBuilder.fromMessage((Message<?>) o2)
-													.setHeader(
-															MessageHeaders.CONTENT_TYPE,
-															perRecordContentTypeHolder.contentType)
-													.build()
-											: (Message<?>) o2;
-								}
-								else {
-									m1 = perRecordContentTypeHolder.contentType != null
-											? MessageBuilder.withPayload(o2).setHeader(
-													MessageHeaders.CONTENT_TYPE,
-													perRecordContentTypeHolder.contentType)
-													.build()
-											: MessageBuilder.withPayload(o2).build();
-								}
-								convertAndSetMessage(o, valueClass, messageConverter, m1);
-							}
-							else {
-								keyValueThreadLocal.set(new KeyValue<>(o, o2));
-							}
-							isValidRecord = true;
-						}
-						else {
-							LOG.info(
-									"Received a tombstone record. This will be skipped from further processing.");
-						}
-					}
-					catch (Exception e) {
-						LOG.warn(
-								"Deserialization has failed. This will be skipped from further processing.",
-								e);
-						// pass through
-						failedWithDeserException[0] = e;
-					}
-					return isValidRecord;
-				},
-				// second filter that catches any messages for which an exception thrown
-				// in the first filter above.
-				(k, v) -> true);
-		// process errors from the second filter in the branch above.
-		processErrorFromDeserialization(bindingTarget, branch[1], failedWithDeserException);
-
-		// first branch above is the branch where the messages are converted, let it go
-		// through further processing.
-		return branch[0].mapValues((o2) -> {
-			Object objectValue = keyValueThreadLocal.get().value;
-			keyValueThreadLocal.remove();
-			return objectValue;
-		});
+		return bindingTarget.flatTransformValues(
+				() -> new InboundConversionTransformer(valueClass, bindingTarget));
 	}
 
-	@SuppressWarnings({ "unchecked", "rawtypes" })
-	private void resolvePerRecordContentType(KStream<?, ?> outboundBindTarget,
-			PerRecordContentTypeHolder perRecordContentTypeHolder) {
-		outboundBindTarget.process(() -> new Processor() {
-
-			ProcessorContext context;
+	@Nullable
+	private static String resolveContentType(Headers headers) {
+		Header header = headers.lastHeader(MessageHeaders.CONTENT_TYPE);
+		if (header == null) {
+			return null;
+		}
+		// remove leading and trailing quotes
+		return StringUtils.replace(new String(header.value(), StandardCharsets.UTF_8), "\"", "");
+	}
 
-			@Override
-			public void init(ProcessorContext context) {
-				this.context = context;
-			}
+	/**
+	 * Converts the values of an inbound {@link KStream}; the key is never changed, so
+	 * downstream key-based operations do not cause a repartition.
+	 */
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private final class InboundConversionTransformer
+			implements ValueTransformerWithKey<Object, Object, Iterable<Object>> {
 
-			@Override
-			public void process(Object key, Object value) {
-				final Headers headers = this.context.headers();
-				final Iterable<Header> contentTypes = headers
-						.headers(MessageHeaders.CONTENT_TYPE);
-				if (contentTypes != null && contentTypes.iterator().hasNext()) {
-					final String contentType = new String(
-							contentTypes.iterator().next().value());
-					// remove leading and trailing quotes
-					final String cleanContentType = StringUtils.replace(contentType, "\"",
-							"");
-					perRecordContentTypeHolder.setContentType(cleanContentType);
-				}
-			}
+		private final Class<?> valueClass;
 
-			@Override
-			public void close() {
+		private final KStream<?, ?> bindingTarget;
 
-			}
-		});
-	}
+		private ProcessorContext context;
 
-	private void convertAndSetMessage(Object o, Class<?> valueClass,
-			MessageConverter messageConverter, Message<?> msg) {
-		Object result = valueClass.isAssignableFrom(msg.getPayload().getClass())
-				? msg.getPayload() : messageConverter.fromMessage(msg, valueClass);
+		InboundConversionTransformer(Class<?> valueClass, KStream<?, ?> bindingTarget) {
+			this.valueClass = valueClass;
+			this.bindingTarget = bindingTarget;
+		}
 
-		Assert.notNull(result, "Failed to convert message " + msg);
+		@Override
+		public void init(ProcessorContext context) {
+			this.context = context;
+		}
 
-		keyValueThreadLocal.set(new KeyValue<>(o, result));
-	}
+		@Override
+		public Iterable<Object> transform(Object key, Object value) {
+			// if the record is a tombstone, ignore and exit from processing further.
+			if (value == null) {
+				LOG.info("Received a tombstone record. This will be skipped from further processing.");
+				return Collections.emptyList();
+			}
+			if (!(value instanceof Message || value instanceof String || value instanceof byte[])) {
+				return Collections.singletonList(value);
+			}
+			try {
+				return Collections.singletonList(convert(value));
+			}
+			catch (Exception e) {
+				LOG.warn("Deserialization has failed. This will be skipped from further processing.", e);
+				handleConversionFailure(key, value, e);
+				return Collections.emptyList();
+			}
+		}
 
-	@SuppressWarnings({ "unchecked", "rawtypes" })
-	private void processErrorFromDeserialization(KStream<?, ?> bindingTarget,
-			KStream<?, ?> branch, Exception[] exception) {
-		branch.process(() -> new Processor() {
-			ProcessorContext context;
-
-			@Override
-			public void init(ProcessorContext context) {
-				this.context = context;
+		private Object convert(Object value) {
+			String contentType = resolveContentType(this.context.headers());
+			Message<?> message;
+			if (value instanceof Message) {
+				message = contentType != null
+						? MessageBuilder.fromMessage((Message<?>) value)
+								.setHeader(MessageHeaders.CONTENT_TYPE, contentType)
+								.build()
+						: (Message<?>) value;
 			}
+			else {
+				message = contentType != null
+						? MessageBuilder.withPayload(value)
+								.setHeader(MessageHeaders.CONTENT_TYPE, contentType)
+								.build()
+						: MessageBuilder.withPayload(value).build();
+			}
+			Object result = this.valueClass.isAssignableFrom(message.getPayload().getClass())
+					? message.getPayload()
+					: KafkaStreamsMessageConversionDelegate.this.compositeMessageConverter
+							.fromMessage(message, this.valueClass);
+			Assert.notNull(result, "Failed to convert message " + message);
+			return result;
+		}
 
-			@Override
-			public void process(Object o, Object o2) {
-				// Only continue if the record was not a tombstone.
-				if (o2 != null) {
-					if (KafkaStreamsMessageConversionDelegate.this.kstreamBindingInformationCatalogue
-							.isDlqEnabled(bindingTarget)) {
-						if (o2 instanceof Message) {
-							Message message = (Message) o2;
-
-							// We need to convert the key to a byte[] before sending to DLQ.
-							Serde keySerde = kstreamBindingInformationCatalogue.getKeySerde(bindingTarget);
-							Serializer keySerializer = keySerde.serializer();
-							byte[] keyBytes = keySerializer.serialize(null, o);
-
-							ConsumerRecord consumerRecord = new ConsumerRecord(this.context.topic(), this.context.partition(), this.context.offset(),
-									keyBytes, message.getPayload());
-
-							KafkaStreamsMessageConversionDelegate.this.sendToDlqAndContinue
-									.sendToDlq(consumerRecord, exception[0]);
-						}
-						else {
-							ConsumerRecord consumerRecord = new ConsumerRecord(this.context.topic(), this.context.partition(), this.context.offset(),
-									o, o2);
-							KafkaStreamsMessageConversionDelegate.this.sendToDlqAndContinue
-									.sendToDlq(consumerRecord, exception[0]);
-						}
-					}
-					else if (KafkaStreamsMessageConversionDelegate.this.kstreamBinderConfigurationProperties
-							.getSerdeError() == KafkaStreamsBinderConfigurationProperties.SerdeError.logAndFail) {
-						throw new IllegalStateException("Inbound deserialization failed. "
-								+ "Stopping further processing of records.");
-					}
-					else if (KafkaStreamsMessageConversionDelegate.this.kstreamBinderConfigurationProperties
-							.getSerdeError() == KafkaStreamsBinderConfigurationProperties.SerdeError.logAndContinue) {
-						// quietly passing through. No action needed, this is similar to
-						// log and continue.
-						LOG.error(
-								"Inbound deserialization failed. Skipping this record and continuing.");
-					}
+		private void handleConversionFailure(Object key, Object value, Exception exception) {
+			if (KafkaStreamsMessageConversionDelegate.this.kstreamBindingInformationCatalogue
+					.isDlqEnabled(this.bindingTarget)) {
+				ConsumerRecord consumerRecord;
+				if (value instanceof Message) {
+					// We need to convert the key to a byte[] before sending to DLQ.
+					Serde keySerde = KafkaStreamsMessageConversionDelegate.this.kstreamBindingInformationCatalogue
+							.getKeySerde(this.bindingTarget);
+					Serializer keySerializer = keySerde.serializer();
+					byte[] keyBytes = keySerializer.serialize(null, key);
+					consumerRecord = new ConsumerRecord(this.context.topic(), this.context.partition(),
+							this.context.offset(), keyBytes, ((Message) value).getPayload());
 				}
+				else {
+					consumerRecord = new ConsumerRecord(this.context.topic(), this.context.partition(),
+							this.context.offset(), key, value);
+				}
+				KafkaStreamsMessageConversionDelegate.this.sendToDlqAndContinue
+						.sendToDlq(consumerRecord, exception);
+			}
+			else if (KafkaStreamsMessageConversionDelegate.this.kstreamBinderConfigurationProperties
+					.getSerdeError() == KafkaStreamsBinderConfigurationProperties.SerdeError.logAndFail) {
+				throw new IllegalStateException("Inbound deserialization failed. "
+						+ "Stopping further processing of records.");
 			}
+			else if (KafkaStreamsMessageConversionDelegate.this.kstreamBinderConfigurationProperties
+					.getSerdeError() == KafkaStreamsBinderConfigurationProperties.SerdeError.logAndContinue) {
+				// quietly passing through. No action needed, this is similar to
+				// log and continue.
+				LOG.error("Inbound deserialization failed. Skipping this record and continuing.");
+			}
+		}
 
-			@Override
-			public void close() {
+		@Override
+		public void close() {
+
+		}
 
-			}
-		});
 	}
 
-	private static class PerRecordContentTypeHolder {
+	/**
+	 * Converts the values of an outbound {@link KStream} and sets the content type header
+	 * of the records; tombstones are not forwarded.
+	 */
+	private final class OutboundConversionTransformer
+			implements ValueTransformerWithKey<Object, Object, Iterable<Object>> {
+
+		@Nullable
+		private final String contentType;
+
+		@Nullable
+		private final MessageHeaders contentTypeHeaders;
+
+		@Nullable
+		private final byte[] contentTypeHeaderValue;
 
-		String contentType;
+		private ProcessorContext context;
 
-		void setContentType(String contentType) {
+		OutboundConversionTransformer(@Nullable String contentType) {
 			this.contentType = contentType;
+			this.contentTypeHeaders = contentType != null
+					? new MessageHeaders(Collections.singletonMap(MessageHeaders.CONTENT_TYPE, contentType))
+					: null;
+			this.contentTypeHeaderValue = contentType != null ? encodeContentType(contentType) : null;
 		}
 
-		void unsetContentType() {
-			this.contentType = null;
+		@Override
+		public void init(ProcessorContext context) {
+			this.context = context;
 		}
 
+		@Override
+		public Iterable<Object> transform(Object key, Object value) {
+			if (value == null) {
+				return Collections.emptyList();
+			}
+			MessageConverter messageConverter = KafkaStreamsMessageConversionDelegate.this.compositeMessageConverter;
+			Message<?> converted;
+			byte[] headerValue = this.contentTypeHeaderValue;
+			if (value instanceof Message) {
+				Message<?> message = (Message<?>) value;
+				MessageHeaders messageHeaders = message.getHeaders();
+				if (this.contentType != null) {
+					Map<String, Object> headers = new HashMap<>(messageHeaders);
+					headers.put(MessageHeaders.CONTENT_TYPE, this.contentType);
+					messageHeaders = new MessageHeaders(headers);
+				}
+				else {
+					Object messageContentType = messageHeaders.get(MessageHeaders.CONTENT_TYPE);
+					headerValue = messageContentType instanceof String
+							? encodeContentType((String) messageContentType)
+							: null;
+				}
+				converted = messageConverter.toMessage(message.getPayload(), messageHeaders);
+			}
+			else {
+				converted = messageConverter.toMessage(value, this.contentTypeHeaders != null
+						? this.contentTypeHeaders
+						: new MessageHeaders(null));
+			}
+			if (headerValue != null) {
+				Headers headers = this.context.headers();
+				headers.remove(MessageHeaders.CONTENT_TYPE);
+				headers.add(new RecordHeader(MessageHeaders.CONTENT_TYPE, headerValue));
+			}
+			return Collections.singletonList(converted.getPayload());
+		}
+
+		@Override
+		public void close() {
+
+		}
+
+	}
+
+	@Nullable
+	private static byte[] encodeContentType(String contentType) {
+		try {
+			return OBJECT_MAPPER.writeValueAsBytes(contentType);
+		}
+		catch (Exception e) {
+			if (LOG.isDebugEnabled()) {
+				LOG.debug("Could not encode content type header", e);
+			}
+			return null;
+		}
 	}
 
 }
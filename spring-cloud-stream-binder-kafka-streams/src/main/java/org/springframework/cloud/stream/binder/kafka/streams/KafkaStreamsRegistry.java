@@ -23,6 +23,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.apache.kafka.streams.KafkaStreams;
 import org.apache.kafka.streams.StreamsConfig;
@@ -41,6 +42,8 @@ public class KafkaStreamsRegistry {
 
 	private final Set<KafkaStreams> kafkaStreams = ConcurrentHashMap.newKeySet();
 
+	private final AtomicLong version = new AtomicLong();
+
 	Set<KafkaStreams> getKafkaStreams() {
 		Set<KafkaStreams> currentlyRunningKafkaStreams = new HashSet<>();
 		for (KafkaStreams ks : this.kafkaStreams) {
@@ -60,11 +63,31 @@ public class KafkaStreamsRegistry {
 		final KafkaStreams kafkaStreams = streamsBuilderFactoryBean.getKafkaStreams();
 		this.kafkaStreams.add(kafkaStreams);
 		this.streamsBuilderFactoryBeanMap.put(kafkaStreams, streamsBuilderFactoryBean);
+		kafkaStreamsChanged();
 	}
 
 	void unregisterKafkaStreams(KafkaStreams kafkaStreams) {
 		this.kafkaStreams.remove(kafkaStreams);
 		this.streamsBuilderFactoryBeanMap.remove(kafkaStreams);
+		kafkaStreamsChanged();
+	}
+
+	/**
+	 * Signal that a registered {@link KafkaStreams} changed its state (e.g. on a rebalance),
+	 * so that anything derived from the registry, such as the store handles cached by
+	 * {@link InteractiveQueryService}, is refreshed.
+	 */
+	void kafkaStreamsChanged() {
+		this.version.incrementAndGet();
+	}
+
+	/**
+	 * A version that changes whenever {@link KafkaStreams} objects are registered,
+	 * unregistered or change their state.
+	 * @return the current version.
+	 */
+	long getVersion() {
+		return this.version.get();
 	}
 
 	/**
@@ -0,0 +1,232 @@
+/*
+ * Copyright 2026-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.stream.binder.kafka.streams;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
+
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.streams.KafkaStreams;
+import org.apache.kafka.streams.processor.StateRestoreListener;
+
+/**
+ * Global {@link StateRestoreListener} registered by the binder on the
+ * {@link org.springframework.kafka.config.StreamsBuilderFactoryBean} of each Kafka Streams
+ * processor, which keeps track of the restoration progress of each state store. It is
+ * used for the restore metrics and, with the {@code restoreReadiness} binder property,
+ * by the health indicator.
+ *
+ * A customizer that sets another state restore listener on the factory bean replaces
+ * this one.
+ *
+ * Kafka Streams does not report the end of a restoration interrupted by a rebalance
+ * that moves the task away, so all the restorations still in progress are considered
+ * over once the {@link KafkaStreams} instance is {@code RUNNING}.
+ *
+ * @author agent
+ * @since 4.0
+ */
+public class KafkaStreamsStateRestoreListener implements StateRestoreListener {
+
+	private final String applicationId;
+
+	private final Map<String, StoreRestoreProgress> stores = new ConcurrentHashMap<>();
+
+	private final CopyOnWriteArrayList<BiConsumer<String, StoreRestoreProgress>> storeCallbacks =
+			new CopyOnWriteArrayList<>();
+
+	KafkaStreamsStateRestoreListener(String applicationId) {
+		this.applicationId = applicationId;
+	}
+
+	public String getApplicationId() {
+		return this.applicationId;
+	}
+
+	/**
+	 * Return the restoration progress of the state stores restored so far, keyed by
+	 * store name.
+	 * @return the progress per store.
+	 */
+	public Map<String, StoreRestoreProgress> getStores() {
+		return Collections.unmodifiableMap(this.stores);
+	}
+
+	/**
+	 * Return whether any state store is being restored.
+	 * @return true if restoring.
+	 */
+	public boolean isRestoring() {
+		for (StoreRestoreProgress progress : this.stores.values()) {
+			if (progress.isRestoring()) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/*
+	 * Invoked for the stores restored so far and for each store restored afterwards.
+	 */
+	void addStoreCallback(BiConsumer<String, StoreRestoreProgress> callback) {
+		this.storeCallbacks.add(callback);
+		this.stores.forEach(callback);
+	}
+
+	/*
+	 * Invoked by the state listener of the KafkaStreams instance.
+	 */
+	void kafkaStreamsStateChanged(KafkaStreams.State newState) {
+		if (newState == KafkaStreams.State.RUNNING) {
+			this.stores.values().forEach(StoreRestoreProgress::endAll);
+		}
+	}
+
+	@Override
+	public void onRestoreStart(TopicPartition topicPartition, String storeName, long startingOffset,
+			long endingOffset) {
+
+		StoreRestoreProgress progress = this.stores.get(storeName);
+		if (progress == null) {
+			progress = new StoreRestoreProgress();
+			StoreRestoreProgress existing = this.stores.putIfAbsent(storeName, progress);
+			if (existing != null) {
+				progress = existing;
+			}
+			else {
+				for (BiConsumer<String, StoreRestoreProgress> callback : this.storeCallbacks) {
+					callback.accept(storeName, progress);
+				}
+			}
+		}
+		progress.start(topicPartition, Math.max(0, endingOffset - startingOffset));
+	}
+
+	@Override
+	public void onBatchRestored(TopicPartition topicPartition, String storeName, long batchEndOffset,
+			long numRestored) {
+
+		StoreRestoreProgress progress = this.stores.get(storeName);
+		if (progress != null) {
+			progress.restored(topicPartition, numRestored);
+		}
+	}
+
+	@Override
+	public void onRestoreEnd(TopicPartition topicPartition, String storeName, long totalRestored) {
+		StoreRestoreProgress progress = this.stores.get(storeName);
+		if (progress != null) {
+			progress.end(topicPartition);
+		}
+	}
+
+	/**
+	 * Restoration progress of a state store, over all its changelog partitions.
+	 */
+	public static class StoreRestoreProgress {
+
+		private final Map<TopicPartition, AtomicLong> remainingPerPartition = new ConcurrentHashMap<>();
+
+		private final AtomicLong restored = new AtomicLong();
+
+		private final AtomicLong restoredSinceStart = new AtomicLong();
+
+		private volatile long startNanos;
+
+		private volatile long endNanos;
+
+		/**
+		 * Return the number of records restored since the application started.
+		 * @return the record count.
+		 */
+		public long getRestoredRecords() {
+			return this.restored.get();
+		}
+
+		/**
+		 * Return the number of records that remain to be restored.
+		 * @return the record count.
+		 */
+		public long getRemainingRecords() {
+			long remaining = 0;
+			for (AtomicLong partitionRemaining : this.remainingPerPartition.values()) {
+				remaining += Math.max(0, partitionRemaining.get());
+			}
+			return remaining;
+		}
+
+		/**
+		 * Return whether any changelog partition of the store is being restored.
+		 * @return true if restoring.
+		 */
+		public boolean isRestoring() {
+			return !this.remainingPerPartition.isEmpty();
+		}
+
+		/**
+		 * Return the restoration rate in records per second, since the start of the
+		 * current (or last) restoration.
+		 * @return the rate.
+		 */
+		public double getRate() {
+			long start = this.startNanos;
+			if (start == 0) {
+				return 0;
+			}
+			long end = isRestoring() ? System.nanoTime() : this.endNanos;
+			double seconds = (double) (end - start) / TimeUnit.SECONDS.toNanos(1);
+			return seconds > 0 ? this.restoredSinceStart.get() / seconds : 0;
+		}
+
+		synchronized void start(TopicPartition topicPartition, long toRestore) {
+			if (this.remainingPerPartition.isEmpty()) {
+				this.startNanos = System.nanoTime();
+				this.restoredSinceStart.set(0);
+			}
+			this.remainingPerPartition.put(topicPartition, new AtomicLong(toRestore));
+		}
+
+		void restored(TopicPartition topicPartition, long numRestored) {
+			this.restored.addAndGet(numRestored);
+			this.restoredSinceStart.addAndGet(numRestored);
+			AtomicLong remaining = this.remainingPerPartition.get(topicPartition);
+			if (remaining != null) {
+				remaining.addAndGet(-numRestored);
+			}
+		}
+
+		synchronized void end(TopicPartition topicPartition) {
+			if (this.remainingPerPartition.remove(topicPartition) != null && this.remainingPerPartition.isEmpty()) {
+				this.endNanos = System.nanoTime();
+			}
+		}
+
+		synchronized void endAll() {
+			if (!this.remainingPerPartition.isEmpty()) {
+				this.remainingPerPartition.clear();
+				this.endNanos = System.nanoTime();
+			}
+		}
+
+	}
+
+}
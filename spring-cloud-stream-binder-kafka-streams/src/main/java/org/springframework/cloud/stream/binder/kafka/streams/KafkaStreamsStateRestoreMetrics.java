@@ -0,0 +1,79 @@
+/*
+ * Copyright 2026-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.stream.binder.kafka.streams;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+
+/**
+ * Registers the restoration progress tracked by the binder's
+ * {@link KafkaStreamsStateRestoreListener}s as micrometer meters, tagged with the
+ * application id and the state store name.
+ *
+ * @author agent
+ * @since 4.0
+ */
+public class KafkaStreamsStateRestoreMetrics {
+
+	/**
+	 * Records restored per state store since the application started.
+	 */
+	public static final String RESTORED_RECORDS_METRIC_NAME = "spring.cloud.stream.binder.kafka.streams.restore.records";
+
+	/**
+	 * Records that remain to be restored per state store.
+	 */
+	public static final String REMAINING_RECORDS_METRIC_NAME = "spring.cloud.stream.binder.kafka.streams.restore.remaining";
+
+	/**
+	 * Restoration rate per state store, in records per second.
+	 */
+	public static final String RESTORE_RATE_METRIC_NAME = "spring.cloud.stream.binder.kafka.streams.restore.rate";
+
+	private final MeterRegistry meterRegistry;
+
+	public KafkaStreamsStateRestoreMetrics(MeterRegistry meterRegistry,
+			KafkaStreamsBindingInformationCatalogue kafkaStreamsBindingInformationCatalogue) {
+		this.meterRegistry = meterRegistry;
+		kafkaStreamsBindingInformationCatalogue.addStateRestoreListenerCallback(this::bindTo);
+	}
+
+	private void bindTo(KafkaStreamsStateRestoreListener listener) {
+		listener.addStoreCallback((storeName, progress) -> {
+			Tags tags = Tags.of("application.id", String.valueOf(listener.getApplicationId()), "store", storeName);
+			FunctionCounter.builder(RESTORED_RECORDS_METRIC_NAME, progress,
+					KafkaStreamsStateRestoreListener.StoreRestoreProgress::getRestoredRecords)
+					.description("Records restored into the state store")
+					.tags(tags)
+					.register(this.meterRegistry);
+			Gauge.builder(REMAINING_RECORDS_METRIC_NAME, progress,
+					KafkaStreamsStateRestoreListener.StoreRestoreProgress::getRemainingRecords)
+					.description("Records that remain to be restored into the state store")
+					.tags(tags)
+					.register(this.meterRegistry);
+			Gauge.builder(RESTORE_RATE_METRIC_NAME, progress,
+					KafkaStreamsStateRestoreListener.StoreRestoreProgress::getRate)
+					.description("State store restoration rate in records per second")
+					.baseUnit("records")
+					.tags(tags)
+					.register(this.meterRegistry);
+		});
+	}
+
+}
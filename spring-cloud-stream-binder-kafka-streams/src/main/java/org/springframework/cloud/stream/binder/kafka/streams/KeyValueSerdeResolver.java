@@ -17,11 +17,15 @@
 package org.springframework.cloud.stream.binder.kafka.streams;
 
 import java.lang.reflect.Method;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -39,6 +43,7 @@ import org.springframework.cloud.stream.binder.ProducerProperties;
 import org.springframework.cloud.stream.binder.kafka.streams.properties.KafkaStreamsBinderConfigurationProperties;
 import org.springframework.cloud.stream.binder.kafka.streams.properties.KafkaStreamsConsumerProperties;
 import org.springframework.cloud.stream.binder.kafka.streams.properties.KafkaStreamsProducerProperties;
+import org.springframework.cloud.stream.binder.kafka.streams.serde.PrimitiveSerdes;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.ApplicationContextAware;
 import org.springframework.context.ConfigurableApplicationContext;
@@ -82,6 +87,12 @@ public class KeyValueSerdeResolver implements ApplicationContextAware {
 
 	private ConfigurableApplicationContext context;
 
+	private final Map<Class<?>, Optional<Serde<?>>> serdeBeansByType = new ConcurrentHashMap<>();
+
+	private final Map<String, Class<? extends Serde>> serdeClasses = new ConcurrentHashMap<>();
+
+	private volatile List<SerdeBean> serdeBeans;
+
 	KeyValueSerdeResolver(Map<String, Object> streamConfigGlobalProperties,
 			KafkaStreamsBinderConfigurationProperties binderConfigurationProperties) {
 		this.streamConfigGlobalProperties = streamConfigGlobalProperties;
@@ -238,7 +249,7 @@ public class KeyValueSerdeResolver implements ApplicationContextAware {
 		Serde<?> keySerde;
 		try {
 			if (StringUtils.hasText(keySerdeString)) {
-				keySerde = Utils.newInstance(keySerdeString, Serde.class);
+				keySerde = newSerde(keySerdeString);
 			}
 			else {
 				keySerde = getFallbackSerde("default.key.serde");
@@ -255,7 +266,7 @@ public class KeyValueSerdeResolver implements ApplicationContextAware {
 		Serde<?> keySerde = null;
 		try {
 			if (StringUtils.hasText(keySerdeString)) {
-				keySerde = Utils.newInstance(keySerdeString, Serde.class);
+				keySerde = newSerde(keySerdeString);
 			}
 			else {
 				if (resolvableType != null &&
@@ -289,38 +300,13 @@ public class KeyValueSerdeResolver implements ApplicationContextAware {
 	private Serde<?> getSerde(ResolvableType generic, Serde<?> fallbackSerde) {
 		Serde<?> serde = null;
 
-		Map<String, Serde> beansOfType = context.getBeansOfType(Serde.class);
-		Serde<?>[] serdeBeans = new Serde<?>[1];
-
 		final Class<?> genericRawClazz = generic.getRawClass();
-		beansOfType.forEach((k, v) -> {
-			final Class<?> classObj = ClassUtils.resolveClassName(((AnnotatedBeanDefinition)
-							context.getBeanFactory().getBeanDefinition(k))
-							.getMetadata().getClassName(),
-					ClassUtils.getDefaultClassLoader());
-			try {
-				Method[] methods = classObj.getMethods();
-				Optional<Method> serdeBeanMethod = Arrays.stream(methods).filter(m -> m.getName().equals(k)).findFirst();
-				if (serdeBeanMethod.isPresent()) {
-					Method method = serdeBeanMethod.get();
-					ResolvableType resolvableType = ResolvableType.forMethodReturnType(method, classObj);
-					ResolvableType serdeBeanGeneric = resolvableType.getGeneric(0);
-					Class<?> serdeGenericRawClazz = serdeBeanGeneric.getRawClass();
-					if (serdeGenericRawClazz != null && genericRawClazz != null) {
-						if (serdeGenericRawClazz.isAssignableFrom(genericRawClazz)) {
-							serdeBeans[0] = v;
-						}
-					}
-				}
-			}
-			catch (Exception e) {
-				// Pass through...
+		if (genericRawClazz != null) {
+			Optional<Serde<?>> serdeBean = this.serdeBeansByType.computeIfAbsent(genericRawClazz,
+					this::findSerdeBean);
+			if (serdeBean.isPresent()) {
+				return serdeBean.get();
 			}
-
-		});
-
-		if (serdeBeans[0] != null) {
-			return serdeBeans[0];
 		}
 
 		if (genericRawClazz != null) {
@@ -353,8 +339,12 @@ public class KeyValueSerdeResolver implements ApplicationContextAware {
 				serde = fallbackSerde;
 			}
 			else {
+				// packed serdes are only inferred instead of the JsonSerde, never instead of a user's default serde
+				serde = this.binderConfigurationProperties.isPrimitiveSerdeInference()
+						? getPrimitiveSerde(generic)
+						: null;
 				// If the type is Object, then skip assigning the JsonSerde and let the fallback mechanism takes precedence.
-				if (!genericRawClazz.isAssignableFrom((Object.class))) {
+				if (serde == null && !genericRawClazz.isAssignableFrom((Object.class))) {
 					serde = new JsonSerde(genericRawClazz);
 				}
 			}
@@ -362,6 +352,103 @@ public class KeyValueSerdeResolver implements ApplicationContextAware {
 		return serde;
 	}
 
+	/*
+	 * Packed serdes for primitive arrays and for lists of boxed numbers, which are
+	 * typically numeric aggregates held in state stores.
+	 */
+	private Serde<?> getPrimitiveSerde(ResolvableType generic) {
+		Class<?> rawClazz = generic.getRawClass();
+		if (long[].class.equals(rawClazz)) {
+			return PrimitiveSerdes.longArray();
+		}
+		else if (int[].class.equals(rawClazz)) {
+			return PrimitiveSerdes.intArray();
+		}
+		else if (double[].class.equals(rawClazz)) {
+			return PrimitiveSerdes.doubleArray();
+		}
+		else if (rawClazz != null && Collection.class.isAssignableFrom(rawClazz)
+				&& rawClazz.isAssignableFrom(ArrayList.class)) {
+			Class<?> elementClazz = generic.getGeneric(0).resolve();
+			if (Long.class.equals(elementClazz)) {
+				return PrimitiveSerdes.longList();
+			}
+			else if (Integer.class.equals(elementClazz)) {
+				return PrimitiveSerdes.intList();
+			}
+			else if (Double.class.equals(elementClazz)) {
+				return PrimitiveSerdes.doubleList();
+			}
+		}
+		return null;
+	}
+
+	/*
+	 * The last Serde bean whose generic type is assignable from the given type.
+	 */
+	private Optional<Serde<?>> findSerdeBean(Class<?> genericRawClazz) {
+		Serde<?> match = null;
+		for (SerdeBean serdeBean : getSerdeBeans()) {
+			if (serdeBean.genericRawClazz.isAssignableFrom(genericRawClazz)) {
+				match = serdeBean.serde;
+			}
+		}
+		return Optional.ofNullable(match);
+	}
+
+	/*
+	 * Index of the Serde beans by the raw type of their generic parameter, built once
+	 * from the bean factory method return types.
+	 */
+	private List<SerdeBean> getSerdeBeans() {
+		List<SerdeBean> serdeBeans = this.serdeBeans;
+		if (serdeBeans == null) {
+			synchronized (this) {
+				serdeBeans = this.serdeBeans;
+				if (serdeBeans == null) {
+					serdeBeans = new ArrayList<>();
+					Map<String, Serde> beansOfType = this.context.getBeansOfType(Serde.class);
+					for (Map.Entry<String, Serde> entry : beansOfType.entrySet()) {
+						Class<?> serdeGenericRawClazz = resolveSerdeBeanGeneric(entry.getKey());
+						if (serdeGenericRawClazz != null) {
+							serdeBeans.add(new SerdeBean(serdeGenericRawClazz, entry.getValue()));
+						}
+					}
+					this.serdeBeans = serdeBeans;
+				}
+			}
+		}
+		return serdeBeans;
+	}
+
+	private Class<?> resolveSerdeBeanGeneric(String beanName) {
+		try {
+			final Class<?> classObj = ClassUtils.resolveClassName(((AnnotatedBeanDefinition)
+							this.context.getBeanFactory().getBeanDefinition(beanName))
+							.getMetadata().getClassName(),
+					ClassUtils.getDefaultClassLoader());
+			Method[] methods = classObj.getMethods();
+			Optional<Method> serdeBeanMethod = Arrays.stream(methods).filter(m -> m.getName().equals(beanName)).findFirst();
+			if (serdeBeanMethod.isPresent()) {
+				ResolvableType resolvableType = ResolvableType.forMethodReturnType(serdeBeanMethod.get(), classObj);
+				return resolvableType.getGeneric(0).getRawClass();
+			}
+		}
+		catch (Exception e) {
+			// Pass through...
+		}
+		return null;
+	}
+
+	private Serde<?> newSerde(String serdeClassName) throws ClassNotFoundException {
+		Class<? extends Serde> serdeClass = this.serdeClasses.get(serdeClassName);
+		if (serdeClass == null) {
+			serdeClass = Utils.loadClass(serdeClassName, Serde.class);
+			this.serdeClasses.put(serdeClassName, serdeClass);
+		}
+		return Utils.newInstance(serdeClass);
+	}
+
 	private boolean isSerdeFromStandardDefaults(Serde<?> serde) {
 		if (serde != null) {
 			if (Number.class.isAssignableFrom(serde.getClass())) {
@@ -385,7 +472,7 @@ public class KeyValueSerdeResolver implements ApplicationContextAware {
 			throws ClassNotFoundException {
 		Serde<?> valueSerde;
 		if (StringUtils.hasText(valueSerdeString)) {
-			valueSerde = Utils.newInstance(valueSerdeString, Serde.class);
+			valueSerde = newSerde(valueSerdeString);
 		}
 		else {
 			valueSerde = getFallbackSerde("default.value.serde");
@@ -397,9 +484,8 @@ public class KeyValueSerdeResolver implements ApplicationContextAware {
 	private Serde<?> getFallbackSerde(String s) throws ClassNotFoundException {
 		return this.binderConfigurationProperties.getConfiguration()
 				.containsKey(s)
-				? Utils.newInstance(this.binderConfigurationProperties
-						.getConfiguration().get(s),
-				Serde.class)
+				? newSerde(this.binderConfigurationProperties
+						.getConfiguration().get(s))
 				: Serdes.ByteArray();
 	}
 
@@ -408,7 +494,7 @@ public class KeyValueSerdeResolver implements ApplicationContextAware {
 			throws ClassNotFoundException {
 		Serde<?> valueSerde = null;
 		if (StringUtils.hasText(valueSerdeString)) {
-			valueSerde = Utils.newInstance(valueSerdeString, Serde.class);
+			valueSerde = newSerde(valueSerdeString);
 		}
 		else {
 
@@ -442,4 +528,18 @@ public class KeyValueSerdeResolver implements ApplicationContextAware {
 			return this.streamConfigGlobalProperties;
 		}
 	}
+
+	private static final class SerdeBean {
+
+		private final Class<?> genericRawClazz;
+
+		private final Serde<?> serde;
+
+		SerdeBean(Class<?> genericRawClazz, Serde<?> serde) {
+			this.genericRawClazz = genericRawClazz;
+			this.serde = serde;
+		}
+
+	}
+
 }
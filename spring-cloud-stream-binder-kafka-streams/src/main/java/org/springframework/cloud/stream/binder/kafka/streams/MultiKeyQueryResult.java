@@ -0,0 +1,75 @@
+/*
+ * Copyright 2026-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.stream.binder.kafka.streams;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.kafka.streams.state.HostInfo;
+
+/**
+ * Result of {@link InteractiveQueryService#queryKeys}: the values of the keys hosted by
+ * the current instance, and a routing plan that groups the other keys by the instance
+ * that hosts them, so that they can be queried with one request per host.
+ *
+ * @param <K> key type
+ * @param <V> value type
+ * @author agent
+ * @since 4.0
+ */
+public class MultiKeyQueryResult<K, V> {
+
+	private final Map<K, V> localValues;
+
+	private final Map<HostInfo, List<K>> remoteKeys;
+
+	private final List<K> unavailableKeys;
+
+	MultiKeyQueryResult(Map<K, V> localValues, Map<HostInfo, List<K>> remoteKeys, List<K> unavailableKeys) {
+		this.localValues = Collections.unmodifiableMap(localValues);
+		this.remoteKeys = Collections.unmodifiableMap(remoteKeys);
+		this.unavailableKeys = Collections.unmodifiableList(unavailableKeys);
+	}
+
+	/**
+	 * Return the values of the keys hosted by the current instance. Keys that are hosted
+	 * locally but have no value in the store are not included.
+	 * @return the local values.
+	 */
+	public Map<K, V> getLocalValues() {
+		return this.localValues;
+	}
+
+	/**
+	 * Return the keys hosted by other instances, grouped by host.
+	 * @return the keys to query per host.
+	 */
+	public Map<HostInfo, List<K>> getRemoteKeys() {
+		return this.remoteKeys;
+	}
+
+	/**
+	 * Return the keys for which no host is currently available, for instance during a
+	 * rebalance.
+	 * @return the unavailable keys.
+	 */
+	public List<K> getUnavailableKeys() {
+		return this.unavailableKeys;
+	}
+
+}
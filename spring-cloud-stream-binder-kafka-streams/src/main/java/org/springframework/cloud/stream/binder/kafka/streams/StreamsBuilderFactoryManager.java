@@ -16,9 +16,15 @@
 
 package org.springframework.cloud.stream.binder.kafka.streams;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.apache.kafka.streams.errors.StreamsUncaughtExceptionHandler;
 
@@ -30,6 +36,7 @@ import org.springframework.kafka.KafkaException;
 import org.springframework.kafka.config.StreamsBuilderFactoryBean;
 import org.springframework.kafka.core.ProducerFactory;
 import org.springframework.kafka.streams.KafkaStreamsMicrometerListener;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 
 /**
  * Iterate through all {@link StreamsBuilderFactoryBean} in the application context and
@@ -41,6 +48,10 @@ import org.springframework.kafka.streams.KafkaStreamsMicrometerListener;
  * Integer.MAX_VALUE. This is to guarantee that the {@link StreamsBuilderFactoryBean} on a
  * function with multiple bindings is only started after all the binding phases have completed successfully.
  *
+ * When {@code parallelLifecycle} is enabled, the independent {@link StreamsBuilderFactoryBean}s
+ * are started and stopped concurrently, and the DLQ producer factories destroyed
+ * concurrently; the manager waits for all of them and reports all the failures.
+ *
  * @author Soby Chacko
  */
 public class StreamsBuilderFactoryManager implements SmartLifecycle {
@@ -57,16 +68,20 @@ public class StreamsBuilderFactoryManager implements SmartLifecycle {
 
 	private final KafkaProperties kafkaProperties;
 
+	private final boolean parallelLifecycle;
+
 	StreamsBuilderFactoryManager(KafkaStreamsBindingInformationCatalogue kafkaStreamsBindingInformationCatalogue,
 								KafkaStreamsRegistry kafkaStreamsRegistry,
 								KafkaStreamsBinderMetrics kafkaStreamsBinderMetrics,
 								KafkaStreamsMicrometerListener listener,
-								KafkaProperties kafkaProperties) {
+								KafkaProperties kafkaProperties,
+								boolean parallelLifecycle) {
 		this.kafkaStreamsBindingInformationCatalogue = kafkaStreamsBindingInformationCatalogue;
 		this.kafkaStreamsRegistry = kafkaStreamsRegistry;
 		this.kafkaStreamsBinderMetrics = kafkaStreamsBinderMetrics;
 		this.listener = listener;
 		this.kafkaProperties = kafkaProperties;
+		this.parallelLifecycle = parallelLifecycle;
 	}
 
 	@Override
@@ -88,6 +103,7 @@ public class StreamsBuilderFactoryManager implements SmartLifecycle {
 			try {
 				Set<StreamsBuilderFactoryBean> streamsBuilderFactoryBeans = this.kafkaStreamsBindingInformationCatalogue
 						.getStreamsBuilderFactoryBeans();
+				List<Callable<Void>> startTasks = new ArrayList<>();
 				for (StreamsBuilderFactoryBean streamsBuilderFactoryBean : streamsBuilderFactoryBeans) {
 					if (this.listener != null) {
 						streamsBuilderFactoryBean.addListener(this.listener);
@@ -103,10 +119,14 @@ public class StreamsBuilderFactoryManager implements SmartLifecycle {
 					final List<ConsumerProperties> consumerProperties = bindingServicePropertiesPerSbfb.get(streamsBuilderFactoryBean);
 					final boolean autoStartupDisabledOnAtLeastOneConsumerBinding = consumerProperties.stream().anyMatch(consumerProperties1 -> !consumerProperties1.isAutoStartup());
 					if (!autoStartupDisabledOnAtLeastOneConsumerBinding) {
-						streamsBuilderFactoryBean.start();
-						this.kafkaStreamsRegistry.registerKafkaStreams(streamsBuilderFactoryBean);
+						startTasks.add(() -> {
+							streamsBuilderFactoryBean.start();
+							this.kafkaStreamsRegistry.registerKafkaStreams(streamsBuilderFactoryBean);
+							return null;
+						});
 					}
 				}
+				invokeAll(startTasks, "start");
 				if (this.kafkaStreamsBinderMetrics != null) {
 					this.kafkaStreamsBinderMetrics.addMetrics(streamsBuilderFactoryBeans);
 				}
@@ -124,14 +144,23 @@ public class StreamsBuilderFactoryManager implements SmartLifecycle {
 			try {
 				Set<StreamsBuilderFactoryBean> streamsBuilderFactoryBeans = this.kafkaStreamsBindingInformationCatalogue
 						.getStreamsBuilderFactoryBeans();
-				int n = 0;
+				List<Callable<Void>> stopTasks = new ArrayList<>();
 				for (StreamsBuilderFactoryBean streamsBuilderFactoryBean : streamsBuilderFactoryBeans) {
 					streamsBuilderFactoryBean.removeListener(this.listener);
-					streamsBuilderFactoryBean.stop();
+					stopTasks.add(() -> {
+						streamsBuilderFactoryBean.stop();
+						return null;
+					});
 				}
+				invokeAll(stopTasks, "stop");
+				List<Callable<Void>> destroyTasks = new ArrayList<>();
 				for (ProducerFactory<byte[], byte[]> dlqProducerFactory : this.kafkaStreamsBindingInformationCatalogue.getDlqProducerFactories()) {
-					((DisposableBean) dlqProducerFactory).destroy();
+					destroyTasks.add(() -> {
+						((DisposableBean) dlqProducerFactory).destroy();
+						return null;
+					});
 				}
+				invokeAll(destroyTasks, "destroy");
 			}
 			catch (Exception ex) {
 				throw new IllegalStateException(ex);
@@ -142,6 +171,45 @@ public class StreamsBuilderFactoryManager implements SmartLifecycle {
 		}
 	}
 
+	/*
+	 * Run the tasks one after the other, or with parallelLifecycle all at once, waiting for
+	 * all of them to complete; the failures are reported together, the first one being the
+	 * cause and the others suppressed.
+	 */
+	private void invokeAll(List<Callable<Void>> tasks, String operation) throws Exception {
+		if (!this.parallelLifecycle || tasks.size() < 2) {
+			for (Callable<Void> task : tasks) {
+				task.call();
+			}
+			return;
+		}
+		ExecutorService executor = Executors.newFixedThreadPool(tasks.size(),
+				new CustomizableThreadFactory("kafka-streams-" + operation + "-"));
+		try {
+			Exception failure = null;
+			for (Future<Void> future : executor.invokeAll(tasks)) {
+				try {
+					future.get();
+				}
+				catch (ExecutionException ex) {
+					Exception cause = ex.getCause() instanceof Exception ? (Exception) ex.getCause() : ex;
+					if (failure == null) {
+						failure = cause;
+					}
+					else {
+						failure.addSuppressed(cause);
+					}
+				}
+			}
+			if (failure != null) {
+				throw failure;
+			}
+		}
+		finally {
+			executor.shutdown();
+		}
+	}
+
 	@Override
 	public synchronized boolean isRunning() {
 		return this.running;
@@ -76,6 +76,26 @@ public class KafkaStreamsBinderConfigurationProperties
 
 	private boolean includeStoppedProcessorsForHealthCheck;
 
+	/**
+	 * Whether to infer the packed {@link org.springframework.cloud.stream.binder.kafka.streams.serde.PrimitiveSerdes}
+	 * for primitive arrays and lists of {@code Long}, {@code Integer} and {@code Double},
+	 * where the {@code JsonSerde} would otherwise be used. Off by default, since the packed
+	 * serdes cannot read data written by the {@code JsonSerde}.
+	 */
+	private boolean primitiveSerdeInference;
+
+	/**
+	 * Whether to start and stop the Kafka Streams processors of the application in
+	 * parallel rather than one after the other.
+	 */
+	private boolean parallelLifecycle;
+
+	/**
+	 * Whether the binder health indicator reports {@code OUT_OF_SERVICE} while state
+	 * stores are being restored, so that readiness can wait for restoration to finish.
+	 */
+	private boolean restoreReadiness;
+
 	public Map<String, Functions> getFunctions() {
 		return functions;
 	}
@@ -136,6 +156,30 @@ public class KafkaStreamsBinderConfigurationProperties
 		this.includeStoppedProcessorsForHealthCheck = includeStoppedProcessorsForHealthCheck;
 	}
 
+	public boolean isPrimitiveSerdeInference() {
+		return this.primitiveSerdeInference;
+	}
+
+	public void setPrimitiveSerdeInference(boolean primitiveSerdeInference) {
+		this.primitiveSerdeInference = primitiveSerdeInference;
+	}
+
+	public boolean isParallelLifecycle() {
+		return this.parallelLifecycle;
+	}
+
+	public void setParallelLifecycle(boolean parallelLifecycle) {
+		this.parallelLifecycle = parallelLifecycle;
+	}
+
+	public boolean isRestoreReadiness() {
+		return this.restoreReadiness;
+	}
+
+	public void setRestoreReadiness(boolean restoreReadiness) {
+		this.restoreReadiness = restoreReadiness;
+	}
+
 	public static class StateStoreRetry {
 
 		private int maxAttempts = 1;
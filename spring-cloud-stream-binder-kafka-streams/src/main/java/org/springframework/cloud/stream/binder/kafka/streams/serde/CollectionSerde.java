@@ -16,19 +16,16 @@
 
 package org.springframework.cloud.stream.binder.kafka.streams.serde;
 
-import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
-import java.io.DataInputStream;
-import java.io.DataOutputStream;
-import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashSet;
-import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.Map;
 import java.util.PriorityQueue;
 
+import org.apache.kafka.common.errors.SerializationException;
 import org.apache.kafka.common.serialization.Deserializer;
 import org.apache.kafka.common.serialization.Serde;
 import org.apache.kafka.common.serialization.Serdes;
@@ -137,6 +134,11 @@ public class CollectionSerde<E> implements Serde<Collection<E>> {
 		inner.deserializer().close();
 	}
 
+	/**
+	 * Writes the collection size followed by each element's length and bytes. The
+	 * elements are serialized first so that the output can be sized exactly and written
+	 * with a single allocation.
+	 */
 	private static class CollectionSerializer<E> implements Serializer<Collection<E>> {
 
 
@@ -155,22 +157,21 @@ public class CollectionSerde<E> implements Serde<Collection<E>> {
 
 		@Override
 		public byte[] serialize(String topic, Collection<E> collection) {
-			final int size = collection.size();
-			final ByteArrayOutputStream baos = new ByteArrayOutputStream();
-			final DataOutputStream dos = new DataOutputStream(baos);
-			final Iterator<E> iterator = collection.iterator();
-			try {
-				dos.writeInt(size);
-				while (iterator.hasNext()) {
-					final byte[] bytes = inner.serialize(topic, iterator.next());
-					dos.writeInt(bytes.length);
-					dos.write(bytes);
-				}
+			final byte[][] elements = new byte[collection.size()][];
+			int length = Integer.BYTES;
+			int count = 0;
+			for (E element : collection) {
+				final byte[] bytes = inner.serialize(topic, element);
+				elements[count++] = bytes;
+				length += Integer.BYTES + bytes.length;
 			}
-			catch (IOException e) {
-				throw new RuntimeException("Unable to serialize the provided collection", e);
+			final ByteBuffer buffer = ByteBuffer.allocate(length);
+			buffer.putInt(count);
+			for (int i = 0; i < count; i++) {
+				buffer.putInt(elements[i].length);
+				buffer.put(elements[i]);
 			}
-			return baos.toByteArray();
+			return buffer.array();
 		}
 
 		@Override
@@ -197,49 +198,61 @@ public class CollectionSerde<E> implements Serde<Collection<E>> {
 			if (bytes == null || bytes.length == 0) {
 				return null;
 			}
-
-			Collection<E> collection = getCollection();
-			final DataInputStream dataInputStream = new DataInputStream(new ByteArrayInputStream(bytes));
-
-			try {
-				final int records = dataInputStream.readInt();
-				for (int i = 0; i < records; i++) {
-					final byte[] valueBytes = new byte[dataInputStream.readInt()];
-					final int read = dataInputStream.read(valueBytes);
-					if (read != -1) {
-						collection.add(valueDeserializer.deserialize(topic, valueBytes));
-					}
+			final int records = readInt(bytes, 0);
+			// each element takes at least its length
+			if (records < 0 || records > (bytes.length - Integer.BYTES) / Integer.BYTES) {
+				throw new SerializationException("Unable to deserialize collection: invalid element count "
+						+ records);
+			}
+			// LinkedList and PriorityQueue are built from a presized list in one step
+			final boolean copy = !this.collectionClass.isAssignableFrom(ArrayList.class)
+					&& !this.collectionClass.isAssignableFrom(HashSet.class)
+					&& (this.collectionClass.isAssignableFrom(LinkedList.class)
+							|| this.collectionClass.isAssignableFrom(PriorityQueue.class));
+			final Collection<E> elements = copy ? new ArrayList<>(records) : getCollection(records);
+			int offset = Integer.BYTES;
+			for (int i = 0; i < records; i++) {
+				final int length = readInt(bytes, offset);
+				offset += Integer.BYTES;
+				if (length < 0 || length > bytes.length - offset) {
+					throw new SerializationException("Unable to deserialize collection: element " + i
+							+ " of " + records + " is truncated");
 				}
+				elements.add(valueDeserializer.deserialize(topic, Arrays.copyOfRange(bytes, offset, offset + length)));
+				offset += length;
 			}
-			catch (IOException e) {
-				throw new RuntimeException("Unable to deserialize collection", e);
+			if (!copy) {
+				return elements;
 			}
-
-			return collection;
+			return this.collectionClass.isAssignableFrom(LinkedList.class)
+					? new LinkedList<>(elements)
+					: new PriorityQueue<>(elements);
 		}
 
 		@Override
 		public void close() {
 		}
 
-		private Collection<E> getCollection() {
+		private Collection<E> getCollection(int size) {
 			Collection<E> collection;
 			if (this.collectionClass.isAssignableFrom(ArrayList.class)) {
-				collection = new ArrayList<>();
+				collection = new ArrayList<>(size);
 			}
 			else if (this.collectionClass.isAssignableFrom(HashSet.class)) {
-				collection = new HashSet<>();
-			}
-			else if (this.collectionClass.isAssignableFrom(LinkedList.class)) {
-				collection = new LinkedList<>();
-			}
-			else if (this.collectionClass.isAssignableFrom(PriorityQueue.class)) {
-				collection = new PriorityQueue<>();
+				collection = new HashSet<>(Math.max((int) (size / .75f) + 1, 16));
 			}
 			else {
 				throw new IllegalArgumentException("Unsupported collection type - " + this.collectionClass);
 			}
 			return collection;
 		}
+
+		private static int readInt(byte[] bytes, int offset) {
+			if (offset > bytes.length - Integer.BYTES) {
+				throw new SerializationException("Unable to deserialize collection: unexpected end of data");
+			}
+			return ((bytes[offset] & 0xff) << 24) | ((bytes[offset + 1] & 0xff) << 16)
+					| ((bytes[offset + 2] & 0xff) << 8) | (bytes[offset + 3] & 0xff);
+		}
 	}
 }
@@ -0,0 +1,186 @@
+/*
+ * Copyright 2026-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.stream.binder.kafka.streams.serde;
+
+import java.nio.ByteBuffer;
+import java.util.AbstractCollection;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.serialization.Deserializer;
+import org.apache.kafka.common.serialization.Serializer;
+
+/**
+ * A read-only {@link Collection} view over the encoding used by {@link CollectionSerde}
+ * (the element count, then the length and bytes of each element), as created by
+ * {@link LazyCollectionSerde}.
+ *
+ * The size is read from the encoding; elements are decoded only when they are accessed,
+ * every time they are accessed. {@link #append(Object)} and {@link #appendAll(Collection)}
+ * return a new view with the new elements spliced onto the existing encoding, without
+ * decoding the existing elements.
+ *
+ * @param <E> type of the elements
+ * @author agent
+ * @since 4.0
+ */
+public final class LazyCollection<E> extends AbstractCollection<E> {
+
+	private final byte[] bytes;
+
+	private final int size;
+
+	private final String topic;
+
+	private final Serializer<E> serializer;
+
+	private final Deserializer<E> deserializer;
+
+	private int[] offsets;
+
+	LazyCollection(byte[] bytes, String topic, Serializer<E> serializer, Deserializer<E> deserializer) {
+		if (bytes.length < Integer.BYTES) {
+			throw new SerializationException("Unable to deserialize collection: missing element count");
+		}
+		this.bytes = bytes;
+		this.size = readInt(bytes, 0);
+		this.topic = topic;
+		this.serializer = serializer;
+		this.deserializer = deserializer;
+	}
+
+	@Override
+	public int size() {
+		return this.size;
+	}
+
+	@Override
+	public Iterator<E> iterator() {
+		return new Iterator<E>() {
+
+			private int index;
+
+			private int offset = Integer.BYTES;
+
+			@Override
+			public boolean hasNext() {
+				return this.index < LazyCollection.this.size;
+			}
+
+			@Override
+			public E next() {
+				if (!hasNext()) {
+					throw new NoSuchElementException();
+				}
+				E element = decode(this.offset, this.index);
+				this.offset += Integer.BYTES + readInt(LazyCollection.this.bytes, this.offset);
+				this.index++;
+				return element;
+			}
+
+		};
+	}
+
+	/**
+	 * Decode the element at an index; the element offsets are indexed on first use.
+	 * @param index the index.
+	 * @return the element.
+	 */
+	public E get(int index) {
+		if (index < 0 || index >= this.size) {
+			throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + this.size);
+		}
+		if (this.offsets == null) {
+			int[] offsets = new int[this.size];
+			int offset = Integer.BYTES;
+			for (int i = 0; i < this.size; i++) {
+				offsets[i] = offset;
+				offset += Integer.BYTES + readInt(this.bytes, offset);
+			}
+			this.offsets = offsets;
+		}
+		return decode(this.offsets[index], index);
+	}
+
+	/**
+	 * Return a new view with an element added after the existing ones.
+	 * @param element the element.
+	 * @return the new view.
+	 */
+	public LazyCollection<E> append(E element) {
+		byte[] encoded = this.serializer.serialize(this.topic, element);
+		byte[] appended = Arrays.copyOf(this.bytes, this.bytes.length + Integer.BYTES + encoded.length);
+		ByteBuffer.wrap(appended)
+				.putInt(0, this.size + 1)
+				.position(this.bytes.length)
+				.putInt(encoded.length)
+				.put(encoded);
+		return new LazyCollection<>(appended, this.topic, this.serializer, this.deserializer);
+	}
+
+	/**
+	 * Return a new view with elements added after the existing ones.
+	 * @param elements the elements.
+	 * @return the new view.
+	 */
+	public LazyCollection<E> appendAll(Collection<? extends E> elements) {
+		if (elements.isEmpty()) {
+			return this;
+		}
+		byte[][] encoded = new byte[elements.size()][];
+		int length = this.bytes.length;
+		int count = 0;
+		for (E element : elements) {
+			byte[] bytes = this.serializer.serialize(this.topic, element);
+			encoded[count++] = bytes;
+			length += Integer.BYTES + bytes.length;
+		}
+		byte[] appended = Arrays.copyOf(this.bytes, length);
+		ByteBuffer buffer = ByteBuffer.wrap(appended);
+		buffer.putInt(0, this.size + count).position(this.bytes.length);
+		for (int i = 0; i < count; i++) {
+			buffer.putInt(encoded[i].length).put(encoded[i]);
+		}
+		return new LazyCollection<>(appended, this.topic, this.serializer, this.deserializer);
+	}
+
+	byte[] getBytes() {
+		return this.bytes;
+	}
+
+	private E decode(int offset, int index) {
+		int length = readInt(this.bytes, offset);
+		int start = offset + Integer.BYTES;
+		if (length < 0 || length > this.bytes.length - start) {
+			throw new SerializationException("Unable to deserialize collection: element " + index
+					+ " of " + this.size + " is truncated");
+		}
+		return this.deserializer.deserialize(this.topic, Arrays.copyOfRange(this.bytes, start, start + length));
+	}
+
+	private static int readInt(byte[] bytes, int offset) {
+		if (offset > bytes.length - Integer.BYTES) {
+			throw new SerializationException("Unable to deserialize collection: unexpected end of data");
+		}
+		return ((bytes[offset] & 0xff) << 24) | ((bytes[offset + 1] & 0xff) << 16)
+				| ((bytes[offset + 2] & 0xff) << 8) | (bytes[offset + 3] & 0xff);
+	}
+
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright 2026-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.stream.binder.kafka.streams.serde;
+
+import java.util.Map;
+
+import org.apache.kafka.common.serialization.Deserializer;
+import org.apache.kafka.common.serialization.Serde;
+import org.apache.kafka.common.serialization.Serializer;
+
+import org.springframework.kafka.support.serializer.JsonSerde;
+
+/**
+ * A {@link Serde} for {@link LazyCollection}s, read-only collection views that decode
+ * their elements on access. It uses the same encoding as {@link CollectionSerde}, so the
+ * two can be used interchangeably on the same data.
+ *
+ * This is meant for aggregates that are mostly appended to or inspected (for example
+ * their size) rather than fully read: deserializing does not decode any element, and a
+ * view that is appended to is serialized by returning its bytes as they are, so a
+ * read-append-write cycle does not decode the existing elements.
+ *
+ * <pre class="code">
+ * LazyCollectionSerde&lt;Foo&gt; foos = new LazyCollectionSerde&lt;&gt;(Foo.class);
+ * ...
+ *		.aggregate(foos::empty,
+ * 					(k, v, aggregate) -&gt; aggregate.append(v),
+ * 					Materialized.&lt;String, LazyCollection&lt;Foo&gt;, KeyValueStore&lt;Bytes, byte[]&gt;&gt;as(
+ * 						"foo-store")
+ * 						.withKeySerde(Serdes.String())
+ *						.withValueSerde(foos))
+ * </pre>
+ *
+ * By default, this Serde will use {@link JsonSerde} for serializing the elements.
+ *
+ * @param <E> type of the elements
+ * @author agent
+ * @since 4.0
+ */
+public class LazyCollectionSerde<E> implements Serde<LazyCollection<E>> {
+
+	private static final byte[] EMPTY = new byte[Integer.BYTES];
+
+	private final Serde<E> inner;
+
+	/**
+	 * Constructor to use when the application wants to specify the Serde of the elements.
+	 * @param serde the Serde of the elements
+	 */
+	public LazyCollectionSerde(Serde<E> serde) {
+		this.inner = serde;
+	}
+
+	/**
+	 * Constructor to delegate serialization operations for the elements to
+	 * {@link JsonSerde}.
+	 * @param targetTypeForJsonSerde target type used by the JsonSerde
+	 */
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	public LazyCollectionSerde(Class<?> targetTypeForJsonSerde) {
+		this.inner = new JsonSerde(targetTypeForJsonSerde);
+	}
+
+	/**
+	 * Return an empty view, for instance as the initial value of an aggregation.
+	 * @return the empty view.
+	 */
+	public LazyCollection<E> empty() {
+		return new LazyCollection<>(EMPTY, null, this.inner.serializer(), this.inner.deserializer());
+	}
+
+	@Override
+	public Serializer<LazyCollection<E>> serializer() {
+		return new Serializer<LazyCollection<E>>() {
+
+			@Override
+			public byte[] serialize(String topic, LazyCollection<E> data) {
+				return data != null ? data.getBytes() : null;
+			}
+
+		};
+	}
+
+	@Override
+	public Deserializer<LazyCollection<E>> deserializer() {
+		Serializer<E> serializer = this.inner.serializer();
+		Deserializer<E> deserializer = this.inner.deserializer();
+		return new Deserializer<LazyCollection<E>>() {
+
+			@Override
+			public LazyCollection<E> deserialize(String topic, byte[] data) {
+				if (data == null || data.length == 0) {
+					return null;
+				}
+				return new LazyCollection<>(data, topic, serializer, deserializer);
+			}
+
+		};
+	}
+
+	@Override
+	public void configure(Map<String, ?> configs, boolean isKey) {
+		this.inner.configure(configs, isKey);
+	}
+
+	@Override
+	public void close() {
+		this.inner.close();
+	}
+
+}
@@ -16,6 +16,8 @@
 
 package org.springframework.cloud.stream.binder.kafka.streams;
 
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
@@ -127,6 +129,88 @@ public class KafkaStreamsInteractiveQueryIntegrationTests {
 				.store(StoreQueryParameters.fromNameAndType("foo", storeType));
 	}
 
+	@Test
+	@SuppressWarnings("unchecked")
+	public void testStateStoreIsCachedUntilKafkaStreamsChange() {
+		StreamsBuilderFactoryBean mock = Mockito.mock(StreamsBuilderFactoryBean.class);
+		KafkaStreams mockKafkaStreams = Mockito.mock(KafkaStreams.class);
+		Mockito.when(mock.getKafkaStreams()).thenReturn(mockKafkaStreams);
+		KafkaStreamsRegistry kafkaStreamsRegistry = new KafkaStreamsRegistry();
+		kafkaStreamsRegistry.registerKafkaStreams(mock);
+		Mockito.when(mock.isRunning()).thenReturn(true);
+		Properties mockProperties = new Properties();
+		mockProperties.put(StreamsConfig.APPLICATION_ID_CONFIG, "cachedApp");
+		Mockito.when(mock.getStreamsConfiguration()).thenReturn(mockProperties);
+		QueryableStoreType<ReadOnlyKeyValueStore<Object, Object>> storeType = QueryableStoreTypes.keyValueStore();
+		ReadOnlyKeyValueStore<Object, Object> store = Mockito.mock(ReadOnlyKeyValueStore.class);
+		Mockito.when(mockKafkaStreams.store(Mockito.any(StoreQueryParameters.class))).thenReturn(store);
+		Mockito.when(mockKafkaStreams.state()).thenReturn(KafkaStreams.State.RUNNING);
+		InteractiveQueryService interactiveQueryService = new InteractiveQueryService(kafkaStreamsRegistry,
+				new KafkaStreamsBinderConfigurationProperties(new KafkaProperties()));
+
+		assertThat(interactiveQueryService.getQueryableStore("foo", storeType)).isSameAs(store);
+		assertThat(interactiveQueryService.getQueryableStore("foo", QueryableStoreTypes.keyValueStore())).isSameAs(store);
+		Mockito.verify(mockKafkaStreams, times(1)).store(Mockito.any(StoreQueryParameters.class));
+
+		kafkaStreamsRegistry.kafkaStreamsChanged();
+		assertThat(interactiveQueryService.getQueryableStore("foo", storeType)).isSameAs(store);
+		Mockito.verify(mockKafkaStreams, times(2)).store(Mockito.any(StoreQueryParameters.class));
+
+		Mockito.when(mockKafkaStreams.state()).thenReturn(KafkaStreams.State.PENDING_SHUTDOWN);
+		interactiveQueryService.getQueryableStore("foo", storeType);
+		Mockito.verify(mockKafkaStreams, times(3)).store(Mockito.any(StoreQueryParameters.class));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void testMultiKeyQueryGroupsKeysByHost() {
+		StreamsBuilderFactoryBean mock = Mockito.mock(StreamsBuilderFactoryBean.class);
+		KafkaStreams mockKafkaStreams = Mockito.mock(KafkaStreams.class);
+		Mockito.when(mock.getKafkaStreams()).thenReturn(mockKafkaStreams);
+		KafkaStreamsRegistry kafkaStreamsRegistry = new KafkaStreamsRegistry();
+		kafkaStreamsRegistry.registerKafkaStreams(mock);
+		Mockito.when(mock.isRunning()).thenReturn(true);
+		Properties mockProperties = new Properties();
+		mockProperties.put(StreamsConfig.APPLICATION_ID_CONFIG, "batchApp");
+		Mockito.when(mock.getStreamsConfiguration()).thenReturn(mockProperties);
+		Mockito.when(mockKafkaStreams.state()).thenReturn(KafkaStreams.State.RUNNING);
+
+		HostInfo local = new HostInfo("localhost", 8080);
+		HostInfo remote = new HostInfo("otherhost", 8080);
+		StringSerializer serializer = new StringSerializer();
+		Mockito.when(mockKafkaStreams.queryMetadataForKey("foo", "a", serializer))
+				.thenReturn(new KeyQueryMetadata(local, Collections.emptySet(), 0));
+		Mockito.when(mockKafkaStreams.queryMetadataForKey("foo", "b", serializer))
+				.thenReturn(new KeyQueryMetadata(remote, Collections.emptySet(), 1));
+		Mockito.when(mockKafkaStreams.queryMetadataForKey("foo", "c", serializer))
+				.thenReturn(new KeyQueryMetadata(remote, Collections.emptySet(), 1));
+		Mockito.when(mockKafkaStreams.queryMetadataForKey("foo", "d", serializer))
+				.thenReturn(KeyQueryMetadata.NOT_AVAILABLE);
+		Mockito.when(mockKafkaStreams.queryMetadataForKey("foo", "e", serializer))
+				.thenReturn(new KeyQueryMetadata(remote, Collections.singleton(local), 2));
+		ReadOnlyKeyValueStore<Object, Object> store = Mockito.mock(ReadOnlyKeyValueStore.class);
+		Mockito.when(store.get("a")).thenReturn("A");
+		Mockito.when(store.get("e")).thenReturn("E");
+		Mockito.when(mockKafkaStreams.store(Mockito.any(StoreQueryParameters.class))).thenReturn(store);
+
+		KafkaStreamsBinderConfigurationProperties binderConfigurationProperties =
+				new KafkaStreamsBinderConfigurationProperties(new KafkaProperties());
+		binderConfigurationProperties.getConfiguration().put("application.server", "localhost:8080");
+		InteractiveQueryService interactiveQueryService = new InteractiveQueryService(kafkaStreamsRegistry,
+				binderConfigurationProperties);
+
+		MultiKeyQueryResult<String, String> result = interactiveQueryService.queryKeys("foo",
+				Arrays.asList("a", "b", "c", "d", "e"), serializer, false);
+		assertThat(result.getLocalValues()).containsOnlyKeys("a").containsEntry("a", "A");
+		assertThat(result.getRemoteKeys()).containsOnlyKeys(remote);
+		assertThat(result.getRemoteKeys().get(remote)).containsExactly("b", "c", "e");
+		assertThat(result.getUnavailableKeys()).containsExactly("d");
+
+		result = interactiveQueryService.queryKeys("foo", Arrays.asList("a", "b", "e"), serializer, true);
+		assertThat(result.getLocalValues()).containsOnlyKeys("a", "e");
+		assertThat(result.getRemoteKeys().get(remote)).containsExactly("b");
+	}
+
 	@Test
 	public void testStateStoreRetrievalRetryForHostInfoService() {
 		StreamsBuilderFactoryBean mock = Mockito.mock(StreamsBuilderFactoryBean.class);
@@ -0,0 +1,187 @@
+/*
+ * Copyright 2026-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.stream.binder.kafka.streams;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.kafka.clients.admin.AdminClient;
+import org.apache.kafka.clients.admin.ListTopicsResult;
+import org.apache.kafka.clients.admin.TopicListing;
+import org.apache.kafka.common.KafkaFuture;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.streams.KafkaStreams;
+import org.apache.kafka.streams.StreamsConfig;
+import org.apache.kafka.streams.processor.StateRestoreListener;
+import org.junit.Test;
+
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.boot.autoconfigure.kafka.KafkaProperties;
+import org.springframework.cloud.stream.binder.kafka.streams.KafkaStreamsStateRestoreListener.StoreRestoreProgress;
+import org.springframework.cloud.stream.binder.kafka.streams.properties.KafkaStreamsBinderConfigurationProperties;
+import org.springframework.kafka.config.KafkaStreamsConfiguration;
+import org.springframework.kafka.config.StreamsBuilderFactoryBean;
+import org.springframework.kafka.core.CleanupConfig;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+/**
+ * @author agent
+ */
+public class KafkaStreamsStateRestoreListenerTests {
+
+	@Test
+	public void testRestoreProgressIsTrackedPerStore() {
+		KafkaStreamsStateRestoreListener listener = new KafkaStreamsStateRestoreListener("app");
+		TopicPartition p0 = new TopicPartition("app-store-changelog", 0);
+		TopicPartition p1 = new TopicPartition("app-store-changelog", 1);
+		assertThat(listener.isRestoring()).isFalse();
+
+		listener.onRestoreStart(p0, "store", 10, 110);
+		listener.onRestoreStart(p1, "store", 0, 50);
+		StoreRestoreProgress progress = listener.getStores().get("store");
+		assertThat(listener.isRestoring()).isTrue();
+		assertThat(progress.getRemainingRecords()).isEqualTo(150);
+
+		listener.onBatchRestored(p0, "store", 60, 50);
+		assertThat(progress.getRestoredRecords()).isEqualTo(50);
+		assertThat(progress.getRemainingRecords()).isEqualTo(100);
+
+		listener.onBatchRestored(p1, "store", 50, 50);
+		listener.onRestoreEnd(p1, "store", 50);
+		assertThat(progress.isRestoring()).isTrue();
+		assertThat(progress.getRemainingRecords()).isEqualTo(50);
+
+		listener.onBatchRestored(p0, "store", 110, 50);
+		listener.onRestoreEnd(p0, "store", 100);
+		assertThat(listener.isRestoring()).isFalse();
+		assertThat(progress.getRestoredRecords()).isEqualTo(150);
+		assertThat(progress.getRemainingRecords()).isZero();
+		assertThat(progress.getRate()).isGreaterThanOrEqualTo(0);
+	}
+
+	@Test
+	public void testRestorationsInProgressAreOverWhenRunning() {
+		KafkaStreamsStateRestoreListener listener = new KafkaStreamsStateRestoreListener("app");
+		// the task of this partition migrates away before the restoration ends
+		listener.onRestoreStart(new TopicPartition("app-store-changelog", 0), "store", 0, 100);
+		listener.kafkaStreamsStateChanged(KafkaStreams.State.REBALANCING);
+		assertThat(listener.isRestoring()).isTrue();
+
+		listener.kafkaStreamsStateChanged(KafkaStreams.State.RUNNING);
+		assertThat(listener.isRestoring()).isFalse();
+		assertThat(listener.getStores().get("store").getRemainingRecords()).isZero();
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void testHealthIndicatorIsOutOfServiceWhileRestoring() throws Exception {
+		KafkaStreams kafkaStreams = mock(KafkaStreams.class);
+		given(kafkaStreams.state()).willReturn(KafkaStreams.State.RUNNING);
+		StreamsBuilderFactoryBean factoryBean = new StreamsBuilderFactoryBean(new KafkaStreamsConfiguration(
+				Collections.singletonMap(StreamsConfig.APPLICATION_ID_CONFIG, "app")));
+		KafkaStreamsRegistry registry = mock(KafkaStreamsRegistry.class);
+		given(registry.getKafkaStreams()).willReturn(Collections.singleton(kafkaStreams));
+		given(registry.streamBuilderFactoryBean(kafkaStreams)).willReturn(factoryBean);
+		KafkaStreamsBindingInformationCatalogue catalogue = new KafkaStreamsBindingInformationCatalogue();
+		catalogue.addStreamBuilderFactoryPerBinding("input", factoryBean);
+		KafkaStreamsStateRestoreListener listener = new KafkaStreamsStateRestoreListener("app");
+		catalogue.addStateRestoreListener(factoryBean, listener);
+		KafkaProperties kafkaProperties = new KafkaProperties();
+		KafkaStreamsBinderConfigurationProperties properties =
+				new KafkaStreamsBinderConfigurationProperties(kafkaProperties);
+		properties.setRestoreReadiness(true);
+		KafkaStreamsBinderHealthIndicator healthIndicator = new KafkaStreamsBinderHealthIndicator(registry,
+				properties, kafkaProperties, catalogue);
+		AdminClient adminClient = mock(AdminClient.class);
+		ListTopicsResult listTopicsResult = mock(ListTopicsResult.class);
+		given(listTopicsResult.listings())
+				.willReturn(KafkaFuture.<Collection<TopicListing>>completedFuture(Collections.emptyList()));
+		given(adminClient.listTopics()).willReturn(listTopicsResult);
+		ReflectionTestUtils.setField(healthIndicator, "adminClient", adminClient);
+
+		listener.onRestoreStart(new TopicPartition("app-store-changelog", 0), "store", 0, 100);
+		Health health = healthIndicator.health();
+		assertThat(health.getStatus()).isEqualTo(Status.OUT_OF_SERVICE);
+		assertThat((Map<String, Object>) health.getDetails().get("restoringStateStores"))
+				.containsEntry("app.store", "remainingRecords=100");
+
+		listener.kafkaStreamsStateChanged(KafkaStreams.State.RUNNING);
+		assertThat(healthIndicator.health().getStatus()).isEqualTo(Status.UP);
+	}
+
+	@Test
+	public void testApplicationListenersAreChainedAfterTheBinderListeners() {
+		KafkaStreamsStateRestoreListener listener = new KafkaStreamsStateRestoreListener("app");
+		List<KafkaStreams.State> binderStates = new ArrayList<>();
+		BinderStreamsBuilderFactoryBean factoryBean = new BinderStreamsBuilderFactoryBean(
+				new KafkaStreamsConfiguration(Collections.singletonMap(StreamsConfig.APPLICATION_ID_CONFIG, "app")),
+				new CleanupConfig(), (newState, oldState) -> {
+					binderStates.add(newState);
+					listener.kafkaStreamsStateChanged(newState);
+				}, listener);
+		// as documented for a StreamsBuilderFactoryBeanCustomizer
+		List<KafkaStreams.State> applicationStates = new ArrayList<>();
+		factoryBean.setStateListener((newState, oldState) -> applicationStates.add(newState));
+		StateRestoreListener applicationRestoreListener = mock(StateRestoreListener.class);
+		factoryBean.setStateRestoreListener(applicationRestoreListener);
+
+		TopicPartition partition = new TopicPartition("app-store-changelog", 0);
+		factoryBean.getCompositeStateRestoreListener().onRestoreStart(partition, "store", 0, 100);
+		assertThat(listener.isRestoring()).isTrue();
+		verify(applicationRestoreListener).onRestoreStart(partition, "store", 0, 100);
+
+		factoryBean.getCompositeStateListener().onChange(KafkaStreams.State.RUNNING,
+				KafkaStreams.State.REBALANCING);
+		assertThat(binderStates).containsExactly(KafkaStreams.State.RUNNING);
+		assertThat(applicationStates).containsExactly(KafkaStreams.State.RUNNING);
+		assertThat(listener.isRestoring()).isFalse();
+	}
+
+	@Test
+	public void testStoreCallbacksSeeExistingAndNewStores() {
+		KafkaStreamsStateRestoreListener listener = new KafkaStreamsStateRestoreListener("app");
+		listener.onRestoreStart(new TopicPartition("a-changelog", 0), "a", 0, 1);
+		List<String> stores = new ArrayList<>();
+		listener.addStoreCallback((store, progress) -> stores.add(store));
+		listener.onRestoreStart(new TopicPartition("b-changelog", 0), "b", 0, 1);
+		listener.onRestoreStart(new TopicPartition("b-changelog", 1), "b", 0, 1);
+		assertThat(stores).containsExactly("a", "b");
+	}
+
+	@Test
+	public void testCatalogueCallbacksSeeExistingAndNewListeners() {
+		KafkaStreamsBindingInformationCatalogue catalogue = new KafkaStreamsBindingInformationCatalogue();
+		KafkaStreamsStateRestoreListener first = new KafkaStreamsStateRestoreListener("first");
+		catalogue.addStateRestoreListener(new StreamsBuilderFactoryBean(), first);
+		List<String> applicationIds = new ArrayList<>();
+		catalogue.addStateRestoreListenerCallback(listener -> applicationIds.add(listener.getApplicationId()));
+		catalogue.addStateRestoreListener(new StreamsBuilderFactoryBean(),
+				new KafkaStreamsStateRestoreListener("second"));
+		assertThat(applicationIds).containsExactly("first", "second");
+		assertThat(catalogue.getStateRestoreListeners()).hasSize(2);
+	}
+
+}
@@ -17,13 +17,20 @@
 package org.springframework.cloud.stream.binder.kafka.streams.serde;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedList;
 import java.util.List;
+import java.util.PriorityQueue;
 
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.serialization.Serdes;
 import org.junit.Test;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 
 /**
  *
@@ -62,6 +69,50 @@ public class CollectionSerdeTest {
 
 	}
 
+	@Test
+	public void testCollectionTypesRoundTrip() {
+		List<Integer> numbers = Arrays.asList(3, 1, 2, 3);
+
+		CollectionSerde<Integer> listSerde = new CollectionSerde<>(Serdes.Integer(), ArrayList.class);
+		byte[] serialized = listSerde.serializer().serialize("", numbers);
+		assertThat(serialized).hasSize(Integer.BYTES + numbers.size() * (Integer.BYTES + Integer.BYTES));
+		assertThat(listSerde.deserializer().deserialize("", serialized)).isInstanceOf(ArrayList.class)
+				.containsExactly(3, 1, 2, 3);
+
+		Collection<Integer> linkedList = new CollectionSerde<>(Serdes.Integer(), LinkedList.class).deserializer()
+				.deserialize("", serialized);
+		assertThat(linkedList).isInstanceOf(LinkedList.class).containsExactly(3, 1, 2, 3);
+
+		Collection<Integer> queue = new CollectionSerde<>(Serdes.Integer(), PriorityQueue.class).deserializer()
+				.deserialize("", serialized);
+		assertThat(queue).isInstanceOf(PriorityQueue.class);
+		assertThat(((PriorityQueue<Integer>) queue).poll()).isEqualTo(1);
+
+		Collection<Integer> set = new CollectionSerde<>(Serdes.Integer(), HashSet.class).deserializer()
+				.deserialize("", serialized);
+		assertThat(set).isInstanceOf(HashSet.class).containsExactlyInAnyOrder(1, 2, 3);
+	}
+
+	@Test
+	public void testEmptyCollectionRoundTrip() {
+		CollectionSerde<String> serde = new CollectionSerde<>(Serdes.String(), ArrayList.class);
+		byte[] serialized = serde.serializer().serialize("", new ArrayList<>());
+		assertThat(serialized).hasSize(Integer.BYTES);
+		assertThat(serde.deserializer().deserialize("", serialized)).isEmpty();
+	}
+
+	@Test
+	public void testTruncatedCollectionIsRejected() {
+		CollectionSerde<Integer> serde = new CollectionSerde<>(Serdes.Integer(), ArrayList.class);
+		byte[] serialized = serde.serializer().serialize("", Arrays.asList(1, 2, 3));
+
+		// missing elements, a truncated length and a truncated element
+		for (int length : new int[] { Integer.BYTES + 8, Integer.BYTES + 10, serialized.length - 1 }) {
+			assertThatExceptionOfType(SerializationException.class).isThrownBy(() -> serde.deserializer()
+					.deserialize("", Arrays.copyOf(serialized, length)));
+		}
+	}
+
 	static class Foo {
 
 		private int num;
@@ -0,0 +1,69 @@
+/*
+ * Copyright 2026-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.stream.binder.kafka.streams.serde;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+
+import org.apache.kafka.common.serialization.Deserializer;
+import org.apache.kafka.common.serialization.Serdes;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+
+/**
+ * @author agent
+ */
+public class LazyCollectionSerdeTests {
+
+	@Test
+	public void testAppendDoesNotDecodeExistingElements() {
+		Deserializer<String> elementDeserializer = spy(Serdes.String().deserializer());
+		LazyCollectionSerde<String> serde = new LazyCollectionSerde<>(
+				Serdes.serdeFrom(Serdes.String().serializer(), elementDeserializer));
+
+		LazyCollection<String> collection = serde.empty().append("a").appendAll(Arrays.asList("b", "c"));
+		byte[] serialized = serde.serializer().serialize("topic", collection);
+		LazyCollection<String> deserialized = serde.deserializer().deserialize("topic", serialized);
+		assertThat(deserialized).hasSize(3);
+
+		LazyCollection<String> appended = deserialized.append("d");
+		then(elementDeserializer).should(never()).deserialize(any(), any());
+		assertThat(serde.serializer().serialize("topic", appended)).isSameAs(appended.getBytes());
+
+		assertThat(appended).containsExactly("a", "b", "c", "d");
+		assertThat(appended.get(2)).isEqualTo("c");
+	}
+
+	@Test
+	public void testCompatibleWithCollectionSerde() {
+		CollectionSerde<String> collectionSerde = new CollectionSerde<>(Serdes.String(), ArrayList.class);
+		LazyCollectionSerde<String> lazySerde = new LazyCollectionSerde<>(Serdes.String());
+
+		byte[] serialized = collectionSerde.serializer().serialize("topic", Arrays.asList("x", "y"));
+		LazyCollection<String> lazy = lazySerde.deserializer().deserialize("topic", serialized).append("z");
+		Collection<String> eager = collectionSerde.deserializer()
+				.deserialize("topic", lazySerde.serializer().serialize("topic", lazy));
+		assertThat(eager).containsExactly("x", "y", "z");
+	}
+
+}
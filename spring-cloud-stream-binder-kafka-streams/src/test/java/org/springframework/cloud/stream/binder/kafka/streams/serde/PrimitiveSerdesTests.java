@@ -0,0 +1,80 @@
+/*
+ * Copyright 2026-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.stream.binder.kafka.streams.serde;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.serialization.Serde;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+/**
+ * @author agent
+ */
+public class PrimitiveSerdesTests {
+
+	@Test
+	public void testPrimitiveArraysArePacked() {
+		Serde<long[]> longs = PrimitiveSerdes.longArray();
+		byte[] serialized = longs.serializer().serialize("", new long[] { 1L, Long.MAX_VALUE, -3L });
+		assertThat(serialized).hasSize(3 * Long.BYTES);
+		assertThat(longs.deserializer().deserialize("", serialized)).containsExactly(1L, Long.MAX_VALUE, -3L);
+
+		Serde<int[]> ints = PrimitiveSerdes.intArray();
+		serialized = ints.serializer().serialize("", new int[] { 7, -1 });
+		assertThat(serialized).hasSize(2 * Integer.BYTES);
+		assertThat(ints.deserializer().deserialize("", serialized)).containsExactly(7, -1);
+
+		Serde<double[]> doubles = PrimitiveSerdes.doubleArray();
+		serialized = doubles.serializer().serialize("", new double[] { 1.5, Double.NaN });
+		assertThat(doubles.deserializer().deserialize("", serialized)).containsExactly(1.5, Double.NaN);
+
+		assertThat(longs.serializer().serialize("", null)).isNull();
+		assertThat(longs.deserializer().deserialize("", null)).isNull();
+		assertThat(longs.deserializer().deserialize("", new byte[0])).isEmpty();
+	}
+
+	@Test
+	public void testListsArePacked() {
+		Serde<List<Long>> longs = PrimitiveSerdes.longList();
+		byte[] serialized = longs.serializer().serialize("", Arrays.asList(4L, 5L));
+		assertThat(serialized).hasSize(2 * Long.BYTES);
+		assertThat(longs.deserializer().deserialize("", serialized)).containsExactly(4L, 5L);
+		assertThat(PrimitiveSerdes.longArray().deserializer().deserialize("", serialized)).containsExactly(4L, 5L);
+
+		Serde<List<Integer>> ints = PrimitiveSerdes.intList();
+		assertThat(ints.deserializer().deserialize("", ints.serializer().serialize("", Arrays.asList(1, 2, 3))))
+				.containsExactly(1, 2, 3);
+
+		Serde<List<Double>> doubles = PrimitiveSerdes.doubleList();
+		assertThat(doubles.deserializer().deserialize("", doubles.serializer().serialize("", Arrays.asList(0.5))))
+				.containsExactly(0.5);
+	}
+
+	@Test
+	public void testInvalidData() {
+		assertThatExceptionOfType(SerializationException.class)
+				.isThrownBy(() -> PrimitiveSerdes.intList().serializer().serialize("", Arrays.asList(1, null)));
+		assertThatExceptionOfType(SerializationException.class)
+				.isThrownBy(() -> PrimitiveSerdes.longArray().deserializer().deserialize("", new byte[5]));
+	}
+
+}
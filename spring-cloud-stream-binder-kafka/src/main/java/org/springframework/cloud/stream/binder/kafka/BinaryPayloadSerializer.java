@@ -0,0 +1,44 @@
+/*
+ * Copyright 2026-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.stream.binder.kafka;
+
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.serialization.Serializer;
+
+/**
+ * The binder's default key and value serializer: accepts {@code byte[]},
+ * {@link java.nio.ByteBuffer} and {@link org.apache.kafka.common.utils.Bytes} values and
+ * hands their backing array to the producer without copying whenever possible.
+ *
+ * @author agent
+ * @since 4.0
+ */
+public class BinaryPayloadSerializer implements Serializer<Object> {
+
+	@Override
+	public byte[] serialize(String topic, Object data) {
+		if (data == null) {
+			return null;
+		}
+		if (!BinaryPayloads.isBinary(data)) {
+			throw new SerializationException("Can't serialize data of type " + data.getClass().getName()
+					+ "; only byte[], ByteBuffer and Bytes are supported");
+		}
+		return BinaryPayloads.toByteArray(data);
+	}
+
+}
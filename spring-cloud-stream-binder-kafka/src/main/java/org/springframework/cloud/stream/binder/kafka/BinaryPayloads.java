@@ -0,0 +1,102 @@
+/*
+ * Copyright 2026-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.stream.binder.kafka;
+
+import java.nio.ByteBuffer;
+
+import org.apache.kafka.common.utils.Bytes;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * Helpers for the binary payload and header types supported by the binder:
+ * {@code byte[]}, {@link ByteBuffer} and {@link Bytes}. Conversions to {@code byte[]}
+ * return the backing array, without copying, whenever it holds exactly the data.
+ *
+ * @author agent
+ * @since 4.0
+ */
+final class BinaryPayloads {
+
+	private BinaryPayloads() {
+	}
+
+	static boolean isBinary(@Nullable Object value) {
+		return value instanceof byte[] || value instanceof ByteBuffer || value instanceof Bytes;
+	}
+
+	static boolean isBinaryType(Class<?> type) {
+		return byte[].class.equals(type) || ByteBuffer.class.isAssignableFrom(type) || Bytes.class.equals(type);
+	}
+
+	/**
+	 * Return the data of a binary value as a byte array.
+	 * @param value a {@code byte[]}, {@link ByteBuffer} or {@link Bytes}.
+	 * @return the bytes; the value's own array when possible.
+	 */
+	static byte[] toByteArray(Object value) {
+		if (value instanceof byte[]) {
+			return (byte[]) value;
+		}
+		if (value instanceof Bytes) {
+			return ((Bytes) value).get();
+		}
+		ByteBuffer buffer = (ByteBuffer) value;
+		if (buffer.hasArray() && buffer.arrayOffset() == 0 && buffer.position() == 0
+				&& buffer.remaining() == buffer.array().length) {
+			return buffer.array();
+		}
+		byte[] bytes = new byte[buffer.remaining()];
+		buffer.duplicate().get(bytes);
+		return bytes;
+	}
+
+	/**
+	 * Convert a byte array to the given binary type, without copying.
+	 * @param bytes the bytes.
+	 * @param type {@code byte[]}, {@link ByteBuffer} or {@link Bytes}.
+	 * @return the converted value.
+	 */
+	static Object fromByteArray(byte[] bytes, Class<?> type) {
+		if (ByteBuffer.class.isAssignableFrom(type)) {
+			return ByteBuffer.wrap(bytes);
+		}
+		if (Bytes.class.equals(type)) {
+			return new Bytes(bytes);
+		}
+		return bytes;
+	}
+
+	/**
+	 * Return the size of a binary value, or 0 for other values.
+	 * @param value the value.
+	 * @return the size in bytes.
+	 */
+	static int size(@Nullable Object value) {
+		if (value instanceof byte[]) {
+			return ((byte[]) value).length;
+		}
+		if (value instanceof ByteBuffer) {
+			return ((ByteBuffer) value).remaining();
+		}
+		if (value instanceof Bytes) {
+			return ((Bytes) value).get().length;
+		}
+		return 0;
+	}
+
+}
@@ -256,8 +256,8 @@ public class BinderHeaderMapper extends AbstractKafkaHeaderMapper {
 		headers.forEach((key, rawValue) -> {
 			if (matches(key, rawValue)) {
 				Object valueToAdd = headerValueToAddOut(key, rawValue);
-				if (valueToAdd instanceof byte[]) {
-					target.add(new RecordHeader(key, (byte[]) valueToAdd));
+				if (BinaryPayloads.isBinary(valueToAdd)) {
+					target.add(new RecordHeader(key, BinaryPayloads.toByteArray(valueToAdd)));
 				}
 				else {
 					try {
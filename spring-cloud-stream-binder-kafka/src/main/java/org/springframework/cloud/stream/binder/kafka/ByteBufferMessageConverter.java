@@ -0,0 +1,88 @@
+/*
+ * Copyright 2026-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.stream.binder.kafka;
+
+import java.nio.ByteBuffer;
+import java.util.Collections;
+
+import org.apache.kafka.common.utils.Bytes;
+
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.converter.AbstractMessageConverter;
+import org.springframework.messaging.converter.MessageConverter;
+import org.springframework.util.MimeTypeUtils;
+
+/**
+ * A {@link MessageConverter} for {@link ByteBuffer} and {@link Bytes} payloads, as
+ * produced by the {@code ByteBufferDeserializer} and {@code BytesDeserializer} with
+ * native decoding. Inbound, such payloads are passed to {@code byte[]}, {@code ByteBuffer}
+ * or {@code Bytes} handler arguments, and {@code byte[]} payloads to {@code ByteBuffer}
+ * or {@code Bytes} arguments; outbound, they are converted to {@code byte[]}. The
+ * backing arrays are shared rather than copied whenever possible.
+ *
+ * @author agent
+ * @since 4.0
+ */
+public class ByteBufferMessageConverter extends AbstractMessageConverter {
+
+	public ByteBufferMessageConverter() {
+		super(Collections.singletonList(MimeTypeUtils.ALL));
+	}
+
+	@Override
+	protected boolean supportsMimeType(MessageHeaders headers) {
+		return true;
+	}
+
+	@Override
+	protected boolean supports(Class<?> aClass) {
+		return BinaryPayloads.isBinaryType(aClass);
+	}
+
+	@Override
+	protected boolean canConvertFrom(Message<?> message, Class<?> targetClass) {
+		Object payload = message.getPayload();
+		return supports(targetClass)
+				&& (payload instanceof ByteBuffer || payload instanceof Bytes
+						|| (payload instanceof byte[] && !byte[].class.equals(targetClass)));
+	}
+
+	@Override
+	protected Object convertFromInternal(Message<?> message, Class<?> targetClass,
+			Object conversionHint) {
+
+		Object payload = message.getPayload();
+		if (targetClass.isInstance(payload)) {
+			return payload;
+		}
+		return BinaryPayloads.fromByteArray(BinaryPayloads.toByteArray(payload), targetClass);
+	}
+
+	@Override
+	protected boolean canConvertTo(Object payload, MessageHeaders headers) {
+		return (payload instanceof ByteBuffer || payload instanceof Bytes) && supportsMimeType(headers);
+	}
+
+	@Override
+	protected Object convertToInternal(Object payload, MessageHeaders headers,
+			Object conversionHint) {
+
+		return BinaryPayloads.toByteArray(payload);
+	}
+
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright 2026-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.stream.binder.kafka;
+
+import java.io.IOException;
+
+/**
+ * Stores the payloads of the claim check mode: payloads larger than the binding's
+ * threshold are stored here and replaced in Kafka by their reference.
+ *
+ * @author agent
+ * @since 4.0
+ * @see FileSystemClaimCheckStore
+ */
+public interface ClaimCheckStore {
+
+	/**
+	 * Store a payload.
+	 * @param topic the topic the payload is sent to.
+	 * @param payload the payload.
+	 * @return the reference of the stored payload.
+	 * @throws IOException if the payload cannot be stored.
+	 */
+	String store(String topic, byte[] payload) throws IOException;
+
+	/**
+	 * Retrieve a stored payload.
+	 * @param reference the reference returned by {@link #store(String, byte[])}.
+	 * @return the payload.
+	 * @throws IOException if the payload cannot be retrieved.
+	 */
+	byte[] retrieve(String reference) throws IOException;
+
+}
@@ -0,0 +1,176 @@
+/*
+ * Copyright 2026-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.stream.binder.kafka;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Type;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.producer.Producer;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.header.internals.RecordHeader;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.kafka.core.ProducerPostProcessor;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.kafka.support.converter.RecordMessageConverter;
+import org.springframework.lang.Nullable;
+import org.springframework.messaging.Message;
+
+/**
+ * Claim check support: on the producer side, binary values larger than a threshold are
+ * written to a {@link ClaimCheckStore} and the record carries the reference instead, with
+ * a {@value #CLAIM_CHECK_HEADER} header holding the original size; on the consumer side,
+ * the reference is resolved when the record is converted to a message, so records that
+ * are filtered out or never dispatched are never fetched from the store.
+ * <p>
+ * The raw record (used for DLQ publishing) keeps the reference, so the payload is not
+ * stored again.
+ *
+ * @author agent
+ * @since 4.0
+ */
+final class ClaimChecks {
+
+	/**
+	 * Header marking a claim check record; the value is the original payload size (int).
+	 */
+	static final String CLAIM_CHECK_HEADER = "x-claim-check";
+
+	private ClaimChecks() {
+	}
+
+	/**
+	 * Return a producer post processor that moves large values to the store.
+	 * @param store the store.
+	 * @param threshold the size above which values are stored.
+	 * @return the post processor.
+	 */
+	static <K, V> ProducerPostProcessor<K, V> producerPostProcessor(ClaimCheckStore store, int threshold) {
+		return producer -> {
+			ProxyFactory proxyFactory = new ProxyFactory(producer);
+			proxyFactory.addInterface(Producer.class);
+			proxyFactory.addAdvice((MethodInterceptor) invocation -> {
+				Object[] arguments = invocation.getArguments();
+				if ("send".equals(invocation.getMethod().getName())
+						&& arguments.length > 0 && arguments[0] instanceof ProducerRecord) {
+					arguments[0] = claimCheck((ProducerRecord<?, ?>) arguments[0], store, threshold);
+				}
+				return invocation.proceed();
+			});
+			@SuppressWarnings("unchecked")
+			Producer<K, V> proxied = (Producer<K, V>) proxyFactory.getProxy();
+			return proxied;
+		};
+	}
+
+	static ProducerRecord<?, ?> claimCheck(ProducerRecord<?, ?> record, ClaimCheckStore store, int threshold) {
+		Object value = record.value();
+		if (!BinaryPayloads.isBinary(value) || BinaryPayloads.size(value) <= threshold) {
+			// a header inherited from a forwarded record does not describe this value
+			if (record.headers().lastHeader(CLAIM_CHECK_HEADER) == null) {
+				return record;
+			}
+			Headers headers = new RecordHeaders(record.headers().toArray());
+			headers.remove(CLAIM_CHECK_HEADER);
+			return new ProducerRecord<>(record.topic(), record.partition(), record.timestamp(), record.key(),
+					value, headers);
+		}
+		byte[] payload = BinaryPayloads.toByteArray(value);
+		String reference;
+		try {
+			reference = store.store(record.topic(), payload);
+		}
+		catch (IOException ex) {
+			throw new UncheckedIOException("Failed to store the claim check payload for topic "
+					+ record.topic(), ex);
+		}
+		Headers headers = new RecordHeaders(record.headers().toArray());
+		headers.remove(CLAIM_CHECK_HEADER);
+		headers.add(new RecordHeader(CLAIM_CHECK_HEADER,
+				ByteBuffer.allocate(Integer.BYTES).putInt(payload.length).array()));
+		return new ProducerRecord<>(record.topic(), record.partition(), record.timestamp(), record.key(),
+				reference.getBytes(StandardCharsets.UTF_8), headers);
+	}
+
+	/**
+	 * Resolve a claim check record; other records are returned as is.
+	 * @param record the record.
+	 * @param store the store.
+	 * @return the record with the stored payload as value, without the
+	 * {@value #CLAIM_CHECK_HEADER} header.
+	 */
+	static ConsumerRecord<?, ?> resolve(ConsumerRecord<?, ?> record, ClaimCheckStore store) {
+		Header header = record.headers().lastHeader(CLAIM_CHECK_HEADER);
+		if (header == null || !BinaryPayloads.isBinary(record.value())) {
+			return record;
+		}
+		String reference = new String(BinaryPayloads.toByteArray(record.value()), StandardCharsets.UTF_8);
+		byte[] payload;
+		try {
+			payload = store.retrieve(reference);
+		}
+		catch (IOException ex) {
+			throw new UncheckedIOException("Failed to retrieve the claim check payload " + reference, ex);
+		}
+		// a forwarded message must not carry the header of a payload it no longer references
+		Headers headers = new RecordHeaders(record.headers().toArray());
+		headers.remove(CLAIM_CHECK_HEADER);
+		return new ConsumerRecord<>(record.topic(), record.partition(), record.offset(), record.timestamp(),
+				record.timestampType(), record.serializedKeySize(), payload.length, record.key(), payload,
+				headers, Optional.empty());
+	}
+
+	/**
+	 * A {@link RecordMessageConverter} that resolves claim check records before
+	 * delegating.
+	 */
+	static class ClaimCheckRecordMessageConverter implements RecordMessageConverter {
+
+		private final RecordMessageConverter delegate;
+
+		private final ClaimCheckStore store;
+
+		ClaimCheckRecordMessageConverter(RecordMessageConverter delegate, ClaimCheckStore store) {
+			this.delegate = delegate;
+			this.store = store;
+		}
+
+		@Override
+		public Message<?> toMessage(ConsumerRecord<?, ?> record, @Nullable Acknowledgment acknowledgment,
+				@Nullable Consumer<?, ?> consumer, @Nullable Type payloadType) {
+
+			return this.delegate.toMessage(resolve(record, this.store), acknowledgment, consumer, payloadType);
+		}
+
+		@Override
+		public ProducerRecord<?, ?> fromMessage(Message<?> message, String defaultTopic) {
+			return this.delegate.fromMessage(message, defaultTopic);
+		}
+
+	}
+
+}
@@ -0,0 +1,246 @@
+/*
+ * Copyright 2026-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.stream.binder.kafka;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.apache.kafka.common.Metric;
+import org.apache.kafka.common.MetricName;
+
+import org.springframework.cloud.stream.binder.kafka.properties.KafkaConsumerProperties;
+import org.springframework.kafka.listener.ConcurrentMessageListenerContainer;
+import org.springframework.lang.Nullable;
+
+/**
+ * Changes the concurrency of a consumer binding's listener container at runtime. The
+ * container is restarted in place with the new concurrency; the binding, its channels
+ * and its error infrastructure are left untouched. The concurrency is bounded by the
+ * number of listened partitions.
+ *
+ * Since {@link ConcurrentMessageListenerContainer} cannot add or remove a single child
+ * container, every change stops all the consumers of the binding and starts them again:
+ * they all leave and rejoin the group, which costs two rebalances. The autoscaler
+ * therefore waits for a cooldown period after each change.
+ * <p>
+ * Static members (with a {@code group.instance.id}) do not leave the group when they
+ * stop; the partitions of the consumers removed by a scale down would stay unassigned
+ * until their session times out. These consumers are therefore removed from the group
+ * explicitly, before the container is started again.
+ *
+ * @author agent
+ * @since 4.0
+ */
+public class ConsumerConcurrencyScaler {
+
+	private static final Log LOG = LogFactory.getLog(ConsumerConcurrencyScaler.class);
+
+	private static final String FETCH_MANAGER_METRICS_GROUP = "consumer-fetch-manager-metrics";
+
+	private static final String CONSUMER_METRICS_GROUP = "consumer-metrics";
+
+	private static final String RECORDS_LAG_MAX = "records-lag-max";
+
+	private static final String POLL_IDLE_RATIO_AVG = "poll-idle-ratio-avg";
+
+	private final String bindingName;
+
+	private final ConcurrentMessageListenerContainer<?, ?> container;
+
+	private final int maxConcurrency;
+
+	private final Executor executor;
+
+	@Nullable
+	private final String groupInstanceId;
+
+	@Nullable
+	private final Consumer<List<String>> staticMemberRemover;
+
+	private volatile boolean scaling;
+
+	private volatile long lastChange = System.nanoTime();
+
+	ConsumerConcurrencyScaler(String bindingName, ConcurrentMessageListenerContainer<?, ?> container,
+			int maxConcurrency, Executor executor) {
+
+		this(bindingName, container, maxConcurrency, executor, null, null);
+	}
+
+	/**
+	 * Create a scaler for a container of static members.
+	 * @param bindingName the binding name.
+	 * @param container the container.
+	 * @param maxConcurrency the upper bound for the concurrency.
+	 * @param executor the executor that restarts the container.
+	 * @param groupInstanceId the {@code group.instance.id} of the binding's consumers,
+	 * before the suffix of each child container; null without static membership.
+	 * @param staticMemberRemover removes the given static members from the group.
+	 */
+	ConsumerConcurrencyScaler(String bindingName, ConcurrentMessageListenerContainer<?, ?> container,
+			int maxConcurrency, Executor executor, @Nullable String groupInstanceId,
+			@Nullable Consumer<List<String>> staticMemberRemover) {
+
+		this.bindingName = bindingName;
+		this.container = container;
+		this.maxConcurrency = maxConcurrency;
+		this.executor = executor;
+		this.groupInstanceId = groupInstanceId;
+		this.staticMemberRemover = staticMemberRemover;
+	}
+
+	public String getBindingName() {
+		return this.bindingName;
+	}
+
+	public int getConcurrency() {
+		return this.container.getConcurrency();
+	}
+
+	/**
+	 * Return the upper bound for the concurrency (the number of listened partitions, or
+	 * {@link Integer#MAX_VALUE} if unknown, for example with a destination pattern).
+	 * @return the maximum concurrency.
+	 */
+	public int getMaxConcurrency() {
+		return this.maxConcurrency;
+	}
+
+	/**
+	 * Return whether a concurrency change is in progress.
+	 * @return true while the container is being restarted.
+	 */
+	public boolean isScaling() {
+		return this.scaling;
+	}
+
+	/**
+	 * Change the concurrency; the value is bounded by 1 and {@link #getMaxConcurrency()}.
+	 * If the container is running, it is stopped and restarted asynchronously with the
+	 * new concurrency, so that all the consumers of the binding rejoin the group; static
+	 * members removed by a scale down are removed from the group.
+	 * @param concurrency the requested concurrency.
+	 * @return the concurrency that will be applied, or the current concurrency if a
+	 * change is already in progress.
+	 */
+	public synchronized int setConcurrency(int concurrency) {
+		int target = Math.max(1, Math.min(concurrency, this.maxConcurrency));
+		if (this.scaling || target == this.container.getConcurrency()) {
+			return this.container.getConcurrency();
+		}
+		if (!this.container.isRunning()) {
+			this.container.setConcurrency(target);
+			return target;
+		}
+		if (LOG.isInfoEnabled()) {
+			LOG.info("Changing concurrency of binding '" + this.bindingName + "' from "
+					+ this.container.getConcurrency() + " to " + target);
+		}
+		this.scaling = true;
+		int current = this.container.getConcurrency();
+		this.container.stop(() -> this.executor.execute(() -> {
+			try {
+				removeStaticMembers(target, current);
+				this.container.setConcurrency(target);
+				this.container.start();
+			}
+			finally {
+				this.lastChange = System.nanoTime();
+				this.scaling = false;
+			}
+		}));
+		return target;
+	}
+
+	/*
+	 * The child containers suffix the group.instance.id with their index, like their
+	 * client id.
+	 */
+	private void removeStaticMembers(int target, int current) {
+		if (this.groupInstanceId == null || this.staticMemberRemover == null || target >= current) {
+			return;
+		}
+		List<String> removed = new ArrayList<>(current - target);
+		for (int i = target; i < current; i++) {
+			removed.add(this.groupInstanceId + "-" + i);
+		}
+		try {
+			this.staticMemberRemover.accept(removed);
+		}
+		catch (Exception ex) {
+			LOG.warn("Failed to remove the static members " + removed + " of binding '" + this.bindingName
+					+ "'; their partitions are reassigned when their session times out", ex);
+		}
+	}
+
+	/**
+	 * Add or remove one consumer based on the current lag and utilization of the
+	 * container's consumers, unless the concurrency changed during the cooldown period.
+	 * @param autoscaling the autoscaling settings.
+	 */
+	void autoscale(KafkaConsumerProperties.Autoscaling autoscaling) {
+		if (this.scaling || !this.container.isRunning()
+				|| System.nanoTime() - this.lastChange < TimeUnit.MILLISECONDS.toNanos(autoscaling.getCooldown())) {
+			return;
+		}
+		double maxLag = -1;
+		double idleRatioTotal = 0;
+		int idleRatioCount = 0;
+		for (Map<MetricName, ? extends Metric> clientMetrics : this.container.metrics().values()) {
+			for (Map.Entry<MetricName, ? extends Metric> entry : clientMetrics.entrySet()) {
+				MetricName metricName = entry.getKey();
+				Object value = entry.getValue().metricValue();
+				if (!(value instanceof Number) || !Double.isFinite(((Number) value).doubleValue())) {
+					continue;
+				}
+				double metricValue = ((Number) value).doubleValue();
+				if (FETCH_MANAGER_METRICS_GROUP.equals(metricName.group())
+						&& RECORDS_LAG_MAX.equals(metricName.name())) {
+					maxLag = Math.max(maxLag, metricValue);
+				}
+				else if (CONSUMER_METRICS_GROUP.equals(metricName.group())
+						&& POLL_IDLE_RATIO_AVG.equals(metricName.name())) {
+					idleRatioTotal += metricValue;
+					idleRatioCount++;
+				}
+			}
+		}
+		if (maxLag < 0 || idleRatioCount == 0) {
+			return;
+		}
+		double utilization = 1 - idleRatioTotal / idleRatioCount;
+		int current = this.container.getConcurrency();
+		int max = autoscaling.getMaxConcurrency() > 0
+				? Math.min(autoscaling.getMaxConcurrency(), this.maxConcurrency)
+				: this.maxConcurrency;
+		if (maxLag > autoscaling.getScaleUpLag() && utilization >= autoscaling.getScaleUpUtilization()
+				&& current < max) {
+			setConcurrency(current + 1);
+		}
+		else if (maxLag < autoscaling.getScaleDownLag() && utilization < autoscaling.getScaleDownUtilization()
+				&& current > Math.max(1, autoscaling.getMinConcurrency())) {
+			setConcurrency(current - 1);
+		}
+	}
+
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright 2026-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.stream.binder.kafka;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ScheduledFuture;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.kafka.listener.MessageListenerContainer;
+
+/**
+ * Pauses and resumes the listener container of a consumer binding on behalf of the
+ * binder's flow control features. Each feature pauses the container with its own
+ * reason; the container is only resumed once no reason remains. A container that was
+ * paused by someone else (for example through the bindings actuator endpoint) is never
+ * resumed by this controller.
+ *
+ * @author agent
+ * @since 4.0
+ */
+public class ConsumerFlowController {
+
+	private static final Log LOG = LogFactory.getLog(ConsumerFlowController.class);
+
+	private final String bindingName;
+
+	private final MessageListenerContainer container;
+
+	private final Set<String> pauseReasons = new HashSet<>();
+
+	private final List<ScheduledFuture<?>> tasks = new ArrayList<>();
+
+	private boolean pausedByController;
+
+	ConsumerFlowController(String bindingName, MessageListenerContainer container) {
+		this.bindingName = bindingName;
+		this.container = container;
+	}
+
+	public String getBindingName() {
+		return this.bindingName;
+	}
+
+	public MessageListenerContainer getContainer() {
+		return this.container;
+	}
+
+	/**
+	 * Pause the container for the given reason, if it is not already paused. Features
+	 * call this again while their condition holds (for example on each backpressure
+	 * check), so a reason that was recorded while the application had the container
+	 * paused is applied once the application resumes it.
+	 * @param reason the reason.
+	 */
+	public synchronized void pause(String reason) {
+		this.pauseReasons.add(reason);
+		if (!this.container.isPauseRequested()) {
+			if (LOG.isDebugEnabled()) {
+				LOG.debug("Pausing binding '" + this.bindingName + "': " + reason);
+			}
+			this.container.pause();
+			this.pausedByController = true;
+		}
+	}
+
+	/**
+	 * Remove the given pause reason; resume the container if there is no reason left
+	 * and the container was paused by this controller.
+	 * @param reason the reason.
+	 */
+	public synchronized void resume(String reason) {
+		if (this.pauseReasons.remove(reason) && this.pauseReasons.isEmpty()
+				&& this.pausedByController) {
+			if (LOG.isDebugEnabled()) {
+				LOG.debug("Resuming binding '" + this.bindingName + "': " + reason);
+			}
+			this.container.resume();
+			this.pausedByController = false;
+		}
+	}
+
+	/**
+	 * Return whether the container is currently paused for the given reason.
+	 * @param reason the reason.
+	 * @return true if paused for that reason.
+	 */
+	public synchronized boolean isPausedFor(String reason) {
+		return this.pauseReasons.contains(reason);
+	}
+
+	synchronized void addTask(ScheduledFuture<?> task) {
+		this.tasks.add(task);
+	}
+
+	synchronized void cancelTasks() {
+		this.tasks.forEach(task -> task.cancel(false));
+		this.tasks.clear();
+	}
+
+}
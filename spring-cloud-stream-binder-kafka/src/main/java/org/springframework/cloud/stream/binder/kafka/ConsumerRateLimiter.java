@@ -0,0 +1,98 @@
+/*
+ * Copyright 2026-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.stream.binder.kafka;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The rate limiter of a consumer binding, shared by all the concurrent consumers of the
+ * binding's listener container. Rates can be changed at runtime; a rate of zero or less
+ * means unlimited.
+ *
+ * @author agent
+ * @since 4.0
+ */
+public class ConsumerRateLimiter {
+
+	private final String bindingName;
+
+	private final TokenBucket records;
+
+	private final TokenBucket bytes;
+
+	private final AtomicLong throttleCount = new AtomicLong();
+
+	private final AtomicLong throttledNanos = new AtomicLong();
+
+	ConsumerRateLimiter(String bindingName, double recordsPerSecond, double bytesPerSecond) {
+		this.bindingName = bindingName;
+		this.records = new TokenBucket(recordsPerSecond);
+		this.bytes = new TokenBucket(bytesPerSecond);
+	}
+
+	public String getBindingName() {
+		return this.bindingName;
+	}
+
+	public double getRecordsPerSecond() {
+		return this.records.getRatePerSecond();
+	}
+
+	public void setRecordsPerSecond(double recordsPerSecond) {
+		this.records.setRatePerSecond(recordsPerSecond);
+	}
+
+	public double getBytesPerSecond() {
+		return this.bytes.getRatePerSecond();
+	}
+
+	public void setBytesPerSecond(double bytesPerSecond) {
+		this.bytes.setRatePerSecond(bytesPerSecond);
+	}
+
+	/**
+	 * Return how many times the binding has been throttled (paused).
+	 * @return the count.
+	 */
+	public long getThrottleCount() {
+		return this.throttleCount.get();
+	}
+
+	/**
+	 * Return the total time the binding has been throttled.
+	 * @param unit the time unit.
+	 * @return the time.
+	 */
+	public double getThrottledTime(TimeUnit unit) {
+		return (double) this.throttledNanos.get() / unit.toNanos(1);
+	}
+
+	long acquire(int recordCount, long byteCount) {
+		return Math.max(this.records.consume(recordCount), this.bytes.consume(byteCount));
+	}
+
+	long getWaitNanos() {
+		return Math.max(this.records.getWaitNanos(), this.bytes.getWaitNanos());
+	}
+
+	void throttled(long nanos) {
+		this.throttleCount.incrementAndGet();
+		this.throttledNanos.addAndGet(nanos);
+	}
+
+}
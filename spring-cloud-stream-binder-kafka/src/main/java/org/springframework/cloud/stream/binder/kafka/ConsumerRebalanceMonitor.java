@@ -0,0 +1,239 @@
+/*
+ * Copyright 2026-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.stream.binder.kafka;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRebalanceListener;
+import org.apache.kafka.common.TopicPartition;
+
+import org.springframework.kafka.listener.ConsumerAwareRebalanceListener;
+import org.springframework.lang.Nullable;
+
+/**
+ * Rebalance statistics of a message driven consumer binding, shared by all the
+ * concurrent consumers of the binding's listener container: how many times the consumers
+ * were assigned partitions, how long they were paused between a revocation and the
+ * following assignment, how long the binding's rebalance callbacks took and which
+ * partitions each consumer thread currently owns.
+ *
+ * @author agent
+ * @since 4.0
+ */
+public class ConsumerRebalanceMonitor {
+
+	private final String bindingName;
+
+	private final AtomicLong rebalanceCount = new AtomicLong();
+
+	private final AtomicLong pauseCount = new AtomicLong();
+
+	private final AtomicLong pauseNanos = new AtomicLong();
+
+	private final AtomicLong callbackCount = new AtomicLong();
+
+	private final AtomicLong callbackNanos = new AtomicLong();
+
+	private final Map<String, Set<TopicPartition>> assignments = new ConcurrentHashMap<>();
+
+	private final ThreadLocal<Long> revokedAt = new ThreadLocal<>();
+
+	ConsumerRebalanceMonitor(String bindingName) {
+		this.bindingName = bindingName;
+	}
+
+	public String getBindingName() {
+		return this.bindingName;
+	}
+
+	/**
+	 * Return how many times the consumers of the binding have been assigned partitions;
+	 * each consumer of the container counts each rebalance it takes part in.
+	 * @return the count.
+	 */
+	public long getRebalanceCount() {
+		return this.rebalanceCount.get();
+	}
+
+	/**
+	 * Return how many revocations were followed by an assignment.
+	 * @return the count.
+	 */
+	public long getPauseCount() {
+		return this.pauseCount.get();
+	}
+
+	/**
+	 * Return the total time between revocations and the following assignments, during
+	 * which the consumers did not process records.
+	 * @param unit the time unit.
+	 * @return the time.
+	 */
+	public double getPauseTime(TimeUnit unit) {
+		return (double) this.pauseNanos.get() / unit.toNanos(1);
+	}
+
+	/**
+	 * Return how many times the binding's rebalance callbacks were invoked.
+	 * @return the count.
+	 */
+	public long getCallbackCount() {
+		return this.callbackCount.get();
+	}
+
+	/**
+	 * Return the total time spent in the binding's rebalance callbacks, including the
+	 * {@link KafkaBindingRebalanceListener} and offset resets.
+	 * @param unit the time unit.
+	 * @return the time.
+	 */
+	public double getCallbackTime(TimeUnit unit) {
+		return (double) this.callbackNanos.get() / unit.toNanos(1);
+	}
+
+	/**
+	 * Return the number of partitions currently owned by the consumers of the binding.
+	 * @return the partition count.
+	 */
+	public int getPartitionCount() {
+		int count = 0;
+		for (Set<TopicPartition> partitions : this.assignments.values()) {
+			count += partitions.size();
+		}
+		return count;
+	}
+
+	/**
+	 * Return the partitions currently owned by the consumers of the binding, keyed by
+	 * consumer thread name.
+	 * @return the assignments.
+	 */
+	public Map<String, Set<TopicPartition>> getAssignments() {
+		Map<String, Set<TopicPartition>> assignments = new HashMap<>();
+		this.assignments.forEach((thread, partitions) ->
+				assignments.put(thread, Set.copyOf(partitions)));
+		return assignments;
+	}
+
+	/**
+	 * Return a listener that records the rebalances of the consumers and times the
+	 * callbacks of the delegate.
+	 * @param delegate the binding's rebalance listener, if any.
+	 * @return the listener.
+	 */
+	ConsumerAwareRebalanceListener listener(@Nullable ConsumerRebalanceListener delegate) {
+		return new MonitoringRebalanceListener(delegate);
+	}
+
+	private void revoked(Collection<TopicPartition> partitions) {
+		this.revokedAt.set(System.nanoTime());
+		Set<TopicPartition> owned = this.assignments.get(Thread.currentThread().getName());
+		if (owned != null) {
+			owned.removeAll(partitions);
+			if (owned.isEmpty()) {
+				this.assignments.remove(Thread.currentThread().getName());
+			}
+		}
+	}
+
+	private void assigned(Collection<TopicPartition> partitions) {
+		this.rebalanceCount.incrementAndGet();
+		Long revoked = this.revokedAt.get();
+		if (revoked != null) {
+			this.revokedAt.remove();
+			this.pauseCount.incrementAndGet();
+			this.pauseNanos.addAndGet(System.nanoTime() - revoked);
+		}
+		if (!partitions.isEmpty()) {
+			this.assignments.computeIfAbsent(Thread.currentThread().getName(),
+					thread -> ConcurrentHashMap.newKeySet()).addAll(partitions);
+		}
+	}
+
+	private void timed(Runnable callback) {
+		long start = System.nanoTime();
+		try {
+			callback.run();
+		}
+		finally {
+			this.callbackCount.incrementAndGet();
+			this.callbackNanos.addAndGet(System.nanoTime() - start);
+		}
+	}
+
+	private final class MonitoringRebalanceListener implements ConsumerAwareRebalanceListener {
+
+		@Nullable
+		private final ConsumerRebalanceListener delegate;
+
+		MonitoringRebalanceListener(@Nullable ConsumerRebalanceListener delegate) {
+			this.delegate = delegate;
+		}
+
+		@Override
+		public void onPartitionsRevokedBeforeCommit(Consumer<?, ?> consumer, Collection<TopicPartition> partitions) {
+			revoked(partitions);
+			if (this.delegate instanceof ConsumerAwareRebalanceListener) {
+				timed(() -> ((ConsumerAwareRebalanceListener) this.delegate)
+						.onPartitionsRevokedBeforeCommit(consumer, partitions));
+			}
+			else if (this.delegate != null) {
+				timed(() -> this.delegate.onPartitionsRevoked(partitions));
+			}
+		}
+
+		@Override
+		public void onPartitionsRevokedAfterCommit(Consumer<?, ?> consumer, Collection<TopicPartition> partitions) {
+			if (this.delegate instanceof ConsumerAwareRebalanceListener) {
+				timed(() -> ((ConsumerAwareRebalanceListener) this.delegate)
+						.onPartitionsRevokedAfterCommit(consumer, partitions));
+			}
+		}
+
+		@Override
+		public void onPartitionsLost(Consumer<?, ?> consumer, Collection<TopicPartition> partitions) {
+			revoked(partitions);
+			if (this.delegate instanceof ConsumerAwareRebalanceListener) {
+				timed(() -> ((ConsumerAwareRebalanceListener) this.delegate).onPartitionsLost(consumer, partitions));
+			}
+			else if (this.delegate != null) {
+				timed(() -> this.delegate.onPartitionsLost(partitions));
+			}
+		}
+
+		@Override
+		public void onPartitionsAssigned(Consumer<?, ?> consumer, Collection<TopicPartition> partitions) {
+			assigned(partitions);
+			if (this.delegate instanceof ConsumerAwareRebalanceListener) {
+				timed(() -> ((ConsumerAwareRebalanceListener) this.delegate)
+						.onPartitionsAssigned(consumer, partitions));
+			}
+			else if (this.delegate != null) {
+				timed(() -> this.delegate.onPartitionsAssigned(partitions));
+			}
+		}
+
+	}
+
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2026-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.stream.binder.kafka;
+
+import java.util.Map;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.clients.consumer.OffsetCommitCallback;
+import org.apache.kafka.common.TopicPartition;
+
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.ConsumerPostProcessor;
+
+/**
+ * Support for anonymous bindings that are assigned their partitions directly: their
+ * consumers have no {@code group.id}, so they never contact the group coordinator, and
+ * offset commits (which would fail without a group) are ignored.
+ *
+ * @author agent
+ * @since 4.0
+ */
+final class DirectAssignment {
+
+	private DirectAssignment() {
+	}
+
+	/**
+	 * Remove the group from the consumers created by the factory and ignore their
+	 * commits; must be called before the consumers are created.
+	 * @param consumerFactory the factory.
+	 */
+	@SuppressWarnings("unchecked")
+	static void withoutGroup(ConsumerFactory<?, ?> consumerFactory) {
+		consumerFactory.removeConfig(ConsumerConfig.GROUP_ID_CONFIG);
+		((ConsumerFactory<Object, Object>) consumerFactory).addPostProcessor(consumerPostProcessor());
+	}
+
+	static ConsumerPostProcessor<Object, Object> consumerPostProcessor() {
+		return consumer -> {
+			ProxyFactory proxyFactory = new ProxyFactory(consumer);
+			proxyFactory.addInterface(Consumer.class);
+			proxyFactory.addAdvice((MethodInterceptor) invocation -> {
+				String method = invocation.getMethod().getName();
+				if ("commitSync".equals(method)) {
+					return null;
+				}
+				if ("commitAsync".equals(method)) {
+					Object[] arguments = invocation.getArguments();
+					if (arguments.length == 2 && arguments[1] != null) {
+						@SuppressWarnings("unchecked")
+						Map<TopicPartition, OffsetAndMetadata> offsets =
+								(Map<TopicPartition, OffsetAndMetadata>) arguments[0];
+						((OffsetCommitCallback) arguments[1]).onComplete(offsets, null);
+					}
+					return null;
+				}
+				return invocation.proceed();
+			});
+			@SuppressWarnings("unchecked")
+			Consumer<Object, Object> proxied = (Consumer<Object, Object>) proxyFactory.getProxy();
+			return proxied;
+		};
+	}
+
+}
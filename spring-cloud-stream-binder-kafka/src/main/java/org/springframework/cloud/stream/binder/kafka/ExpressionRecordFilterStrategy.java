@@ -0,0 +1,50 @@
+/*
+ * Copyright 2026-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.stream.binder.kafka;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+
+import org.springframework.expression.EvaluationContext;
+import org.springframework.expression.Expression;
+import org.springframework.kafka.listener.adapter.RecordFilterStrategy;
+
+/**
+ * A {@link RecordFilterStrategy} that evaluates an expression against a
+ * {@link RawRecord}; records for which the expression does not evaluate to true are
+ * discarded.
+ *
+ * @author agent
+ * @since 4.0
+ */
+class ExpressionRecordFilterStrategy implements RecordFilterStrategy<Object, Object> {
+
+	private final Expression expression;
+
+	private final EvaluationContext evaluationContext;
+
+	ExpressionRecordFilterStrategy(Expression expression, EvaluationContext evaluationContext) {
+		this.expression = expression;
+		this.evaluationContext = evaluationContext;
+	}
+
+	@Override
+	public boolean filter(ConsumerRecord<Object, Object> consumerRecord) {
+		return !Boolean.TRUE.equals(this.expression.getValue(this.evaluationContext,
+				new RawRecord(consumerRecord), Boolean.class));
+	}
+
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright 2026-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.stream.binder.kafka;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.UUID;
+
+import org.springframework.util.Assert;
+
+/**
+ * A {@link ClaimCheckStore} that stores each payload in its own file, in a directory per
+ * topic. The directory must be shared by the producers and the consumers, for example on
+ * a network file system; it is mainly intended for development and testing. Stored
+ * payloads are never deleted by the binder.
+ *
+ * @author agent
+ * @since 4.0
+ */
+public class FileSystemClaimCheckStore implements ClaimCheckStore {
+
+	private final Path directory;
+
+	public FileSystemClaimCheckStore(Path directory) {
+		this.directory = directory.toAbsolutePath().normalize();
+	}
+
+	@Override
+	public String store(String topic, byte[] payload) throws IOException {
+		String reference = topic + "/" + UUID.randomUUID();
+		Path file = resolve(reference);
+		Files.createDirectories(file.getParent());
+		Path temp = Files.createTempFile(file.getParent(), ".", ".tmp");
+		Files.write(temp, payload);
+		Files.move(temp, file);
+		return reference;
+	}
+
+	@Override
+	public byte[] retrieve(String reference) throws IOException {
+		return Files.readAllBytes(resolve(reference));
+	}
+
+	private Path resolve(String reference) {
+		Path file = this.directory.resolve(reference).normalize();
+		Assert.isTrue(file.startsWith(this.directory) && !file.equals(this.directory),
+				() -> "Invalid claim check reference: " + reference);
+		return file;
+	}
+
+}
@@ -0,0 +1,332 @@
+/*
+ * Copyright 2026-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.stream.binder.kafka;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.function.LongSupplier;
+import java.util.stream.Collectors;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRebalanceListener;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.TopicPartition;
+
+import org.springframework.integration.IntegrationMessageHeaderAccessor;
+import org.springframework.integration.support.MessageBuilder;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.kafka.support.KafkaNull;
+import org.springframework.kafka.support.converter.BatchMessageConverter;
+import org.springframework.lang.Nullable;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.MessagingException;
+import org.springframework.messaging.support.ErrorMessage;
+import org.springframework.util.Assert;
+
+/**
+ * Batch variant of a polled consumer binding: each {@link #pollBatch(MessageHandler, int)}
+ * hands the application all the records fetched by one poll (up to a maximum), converted
+ * once into a single {@code Message<List<?>>} with the batch headers (one list entry per
+ * record), and commits their offsets once after the handler returns.
+ * <p>
+ * When the handler fails, the failed records are sent one by one to the binding's error
+ * channel, so the binding's dead letter publishing applies per record. The handler can
+ * throw a {@link BatchListenerFailedException} to identify the failed record; the
+ * records before it are committed and the records after it are redelivered. If the
+ * failed index is unknown, all the records of the batch are considered failed. Failed
+ * records are committed when {@code enableDlq} or {@code autoCommitOnError} is set, and
+ * redelivered otherwise.
+ * <p>
+ * The source uses its own consumer, created on the first poll; an application should
+ * either use this source or the binding's {@code PollableMessageSource}, not both. The
+ * consumer honours the binding's {@code startOffset}, {@code resetOffsets} and start
+ * timestamp settings; with static membership, it gets its own {@code group.instance.id}
+ * (the binding's one with a {@code -batch} suffix) so that it does not fence the
+ * binding's consumer.
+ *
+ * @author agent
+ * @since 4.0
+ */
+public class KafkaBatchPollableSource {
+
+	private static final Log LOG = LogFactory.getLog(KafkaBatchPollableSource.class);
+
+	private static final String BATCH_SUFFIX = "-batch";
+
+	private final ConsumerFactory<?, ?> consumerFactory;
+
+	private final String[] topics;
+
+	private final String clientId;
+
+	private final Duration pollTimeout;
+
+	private final BatchMessageConverter messageConverter;
+
+	private final MessageChannel errorChannel;
+
+	private final boolean commitFailed;
+
+	@Nullable
+	private final StartTimestampRebalanceListener startTimestampPositioner;
+
+	@Nullable
+	private final Object resetTo;
+
+	private final Set<TopicPartition> sought = new HashSet<>();
+
+	private final LinkedList<ConsumerRecord<?, ?>> pending = new LinkedList<>();
+
+	private Consumer<?, ?> consumer;
+
+	KafkaBatchPollableSource(ConsumerFactory<?, ?> consumerFactory, String[] topics, String clientId,
+			long pollTimeout, BatchMessageConverter messageConverter, MessageChannel errorChannel,
+			boolean commitFailed, @Nullable LongSupplier startTimestamp, @Nullable Object resetTo) {
+
+		this.consumerFactory = consumerFactory;
+		this.topics = topics;
+		this.clientId = clientId;
+		this.pollTimeout = Duration.ofMillis(pollTimeout);
+		this.messageConverter = messageConverter;
+		this.errorChannel = errorChannel;
+		this.commitFailed = commitFailed;
+		this.startTimestampPositioner = startTimestamp != null
+				? new StartTimestampRebalanceListener(startTimestamp, resetTo != null, null)
+				: null;
+		this.resetTo = resetTo;
+	}
+
+	/**
+	 * Poll for a batch of records and pass them to the handler as a single message.
+	 * @param handler the handler.
+	 * @param maxRecords the maximum number of records in the batch.
+	 * @return the number of records passed to the handler; 0 if none were available.
+	 */
+	public synchronized int pollBatch(MessageHandler handler, int maxRecords) {
+		Assert.isTrue(maxRecords > 0, "'maxRecords' must be greater than 0");
+		List<ConsumerRecord<?, ?>> batch = nextBatch(maxRecords);
+		if (batch.isEmpty()) {
+			return 0;
+		}
+		Message<?> message = this.messageConverter.toMessage(batch, null, this.consumer, null);
+		try {
+			handler.handleMessage(message);
+		}
+		catch (RuntimeException ex) {
+			handleFailure(batch, ex);
+			return batch.size();
+		}
+		if (!commit(batch, batch.size())) {
+			redeliver(batch);
+		}
+		return batch.size();
+	}
+
+	/**
+	 * Close the consumer, if it was created.
+	 */
+	public synchronized void close() {
+		if (this.consumer != null) {
+			this.consumer.close();
+			this.consumer = null;
+			this.pending.clear();
+		}
+	}
+
+	private List<ConsumerRecord<?, ?>> nextBatch(int maxRecords) {
+		if (this.pending.isEmpty()) {
+			for (ConsumerRecord<?, ?> record : consumer().poll(this.pollTimeout)) {
+				this.pending.add(record);
+			}
+		}
+		List<ConsumerRecord<?, ?>> batch = new ArrayList<>(Math.min(maxRecords, this.pending.size()));
+		while (batch.size() < maxRecords && !this.pending.isEmpty()) {
+			batch.add(this.pending.poll());
+		}
+		return batch;
+	}
+
+	private Consumer<?, ?> consumer() {
+		if (this.consumer == null) {
+			Properties overrides = new Properties();
+			Object instanceId = this.consumerFactory.getConfigurationProperties()
+					.get(ConsumerConfig.GROUP_INSTANCE_ID_CONFIG);
+			if (instanceId != null) {
+				overrides.put(ConsumerConfig.GROUP_INSTANCE_ID_CONFIG, instanceId + BATCH_SUFFIX);
+			}
+			this.consumer = this.consumerFactory.createConsumer(null, this.clientId, BATCH_SUFFIX, overrides);
+			this.consumer.subscribe(Arrays.asList(this.topics), new ConsumerRebalanceListener() {
+
+				@Override
+				public void onPartitionsRevoked(Collection<TopicPartition> partitions) {
+					discardPending(partitions);
+					LOG.info("Revoked: " + partitions);
+				}
+
+				@Override
+				public void onPartitionsAssigned(Collection<TopicPartition> partitions) {
+					LOG.info("Assigned: " + partitions);
+					position(partitions);
+				}
+
+				@Override
+				public void onPartitionsLost(Collection<TopicPartition> partitions) {
+					discardPending(partitions);
+					LOG.info("Lost: " + partitions);
+				}
+
+			});
+		}
+		return this.consumer;
+	}
+
+	/*
+	 * Apply the binding's start timestamp or offset reset to the partitions assigned for
+	 * the first time, as the listener containers do.
+	 */
+	private void position(Collection<TopicPartition> partitions) {
+		if (this.startTimestampPositioner != null) {
+			this.startTimestampPositioner.seek(this.consumer, partitions);
+			return;
+		}
+		if (this.resetTo == null) {
+			return;
+		}
+		List<TopicPartition> toSeek = partitions.stream()
+				.filter(this.sought::add)
+				.collect(Collectors.toList());
+		if (toSeek.isEmpty()) {
+			return;
+		}
+		if ("earliest".equals(this.resetTo)) {
+			this.consumer.seekToBeginning(toSeek);
+		}
+		else {
+			this.consumer.seekToEnd(toSeek);
+		}
+	}
+
+	private void discardPending(Collection<TopicPartition> partitions) {
+		Iterator<ConsumerRecord<?, ?>> iterator = this.pending.iterator();
+		while (iterator.hasNext()) {
+			ConsumerRecord<?, ?> record = iterator.next();
+			if (partitions.contains(new TopicPartition(record.topic(), record.partition()))) {
+				iterator.remove();
+			}
+		}
+	}
+
+	private void handleFailure(List<ConsumerRecord<?, ?>> batch, RuntimeException ex) {
+		int failedIndex = -1;
+		if (ex instanceof BatchListenerFailedException) {
+			BatchListenerFailedException failed = (BatchListenerFailedException) ex;
+			failedIndex = failed.getRecord() != null ? batch.indexOf(failed.getRecord()) : failed.getIndex();
+		}
+		List<ConsumerRecord<?, ?>> failedRecords = failedIndex >= 0 && failedIndex < batch.size()
+				? batch.subList(failedIndex, failedIndex + 1)
+				: batch;
+		for (ConsumerRecord<?, ?> record : failedRecords) {
+			sendToErrorChannel(record, ex);
+		}
+		int committed = failedIndex >= 0 && failedIndex < batch.size()
+				? failedIndex + (this.commitFailed ? 1 : 0)
+				: (this.commitFailed ? batch.size() : 0);
+		redeliver(commit(batch, committed) ? batch.subList(committed, batch.size()) : batch);
+	}
+
+	private void sendToErrorChannel(ConsumerRecord<?, ?> record, RuntimeException ex) {
+		Message<?> failedMessage = MessageBuilder
+				.withPayload(record.value() != null ? record.value() : KafkaNull.INSTANCE)
+				.setHeader(KafkaHeaders.RAW_DATA, record)
+				.build();
+		Map<String, Object> headers = new HashMap<>();
+		headers.put(KafkaHeaders.RAW_DATA, record);
+		headers.put(IntegrationMessageHeaderAccessor.SOURCE_DATA, record);
+		try {
+			this.errorChannel.send(new ErrorMessage(
+					new MessagingException(failedMessage, "Batch handler failed", ex), headers));
+		}
+		catch (Exception sendEx) {
+			LOG.error("Failed to handle the failed record " + record.topic() + "-" + record.partition()
+					+ "@" + record.offset(), sendEx);
+		}
+	}
+
+	/*
+	 * A failed commit (e.g. a CommitFailedException after a rebalance) is not a handler
+	 * failure: the records were processed, so they are only redelivered, to this consumer
+	 * or to the new owner of their partitions.
+	 */
+	private boolean commit(List<ConsumerRecord<?, ?>> batch, int count) {
+		Map<TopicPartition, OffsetAndMetadata> offsets = new HashMap<>();
+		for (ConsumerRecord<?, ?> record : batch.subList(0, count)) {
+			offsets.put(new TopicPartition(record.topic(), record.partition()),
+					new OffsetAndMetadata(record.offset() + 1));
+		}
+		if (offsets.isEmpty()) {
+			return true;
+		}
+		try {
+			this.consumer.commitSync(offsets);
+			return true;
+		}
+		catch (RuntimeException ex) {
+			LOG.warn("Failed to commit " + offsets + "; the records will be redelivered", ex);
+			return false;
+		}
+	}
+
+	/*
+	 * Seek each partition that is still assigned back to its first record that was not
+	 * committed, together with any fetched records that were not handed out yet.
+	 */
+	private void redeliver(List<ConsumerRecord<?, ?>> records) {
+		if (records.isEmpty()) {
+			return;
+		}
+		Map<TopicPartition, Long> seeks = new HashMap<>();
+		for (ConsumerRecord<?, ?> record : records) {
+			seeks.putIfAbsent(new TopicPartition(record.topic(), record.partition()), record.offset());
+		}
+		discardPending(seeks.keySet());
+		Set<TopicPartition> assignment = this.consumer.assignment();
+		seeks.forEach((partition, offset) -> {
+			if (assignment.contains(partition)) {
+				this.consumer.seek(partition, offset);
+			}
+		});
+	}
+
+}
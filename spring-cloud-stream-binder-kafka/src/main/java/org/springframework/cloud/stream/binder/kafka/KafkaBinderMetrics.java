@@ -30,6 +30,8 @@ import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
 import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.binder.MeterBinder;
@@ -76,6 +78,40 @@ public class KafkaBinderMetrics
 	 */
 	public static final String OFFSET_LAG_METRIC_NAME = "spring.cloud.stream.binder.kafka.offset";
 
+	/**
+	 * Rate limit throttling micrometer metric name (number of times and total time a
+	 * binding was paused by its rate limiter).
+	 */
+	public static final String RATE_LIMIT_THROTTLE_METRIC_NAME = "spring.cloud.stream.binder.kafka.rate.limit.throttle";
+
+	/**
+	 * Configured rate limit micrometer metric name.
+	 */
+	public static final String RATE_LIMIT_METRIC_NAME = "spring.cloud.stream.binder.kafka.rate.limit";
+
+	/**
+	 * Rebalance micrometer metric name (number of partition assignments of the consumers
+	 * of a binding).
+	 */
+	public static final String REBALANCE_METRIC_NAME = "spring.cloud.stream.binder.kafka.rebalance";
+
+	/**
+	 * Rebalance pause micrometer metric name (time between a revocation and the
+	 * following assignment).
+	 */
+	public static final String REBALANCE_PAUSE_METRIC_NAME = "spring.cloud.stream.binder.kafka.rebalance.pause";
+
+	/**
+	 * Rebalance callback micrometer metric name (time spent in the rebalance callbacks
+	 * of a binding).
+	 */
+	public static final String REBALANCE_CALLBACK_METRIC_NAME = "spring.cloud.stream.binder.kafka.rebalance.callback";
+
+	/**
+	 * Assigned partitions micrometer metric name.
+	 */
+	public static final String ASSIGNED_PARTITIONS_METRIC_NAME = "spring.cloud.stream.binder.kafka.assigned.partitions";
+
 	private final KafkaMessageChannelBinder binder;
 
 	private final KafkaBinderConfigurationProperties binderConfigurationProperties;
@@ -150,6 +186,56 @@ public class KafkaBinderMetrics
 						10, DELAY_BETWEEN_TASK_EXECUTION, TimeUnit.SECONDS);
 			}
 		}
+		bindRateLimiters(registry);
+		bindRebalanceMonitors(registry);
+	}
+
+	private void bindRateLimiters(MeterRegistry registry) {
+		for (ConsumerRateLimiter rateLimiter : this.binder.getConsumerRateLimiters().values()) {
+			String bindingName = rateLimiter.getBindingName();
+			FunctionTimer.builder(RATE_LIMIT_THROTTLE_METRIC_NAME, rateLimiter,
+					ConsumerRateLimiter::getThrottleCount,
+					limiter -> limiter.getThrottledTime(TimeUnit.NANOSECONDS), TimeUnit.NANOSECONDS)
+					.tag("binding", bindingName)
+					.description("Pauses of a consumer binding caused by its rate limit")
+					.register(registry);
+			Gauge.builder(RATE_LIMIT_METRIC_NAME, rateLimiter, ConsumerRateLimiter::getRecordsPerSecond)
+					.tag("binding", bindingName)
+					.tag("unit", "records")
+					.description("Configured records per second limit of a consumer binding")
+					.register(registry);
+			Gauge.builder(RATE_LIMIT_METRIC_NAME, rateLimiter, ConsumerRateLimiter::getBytesPerSecond)
+					.tag("binding", bindingName)
+					.tag("unit", "bytes")
+					.description("Configured bytes per second limit of a consumer binding")
+					.register(registry);
+		}
+	}
+
+	private void bindRebalanceMonitors(MeterRegistry registry) {
+		for (ConsumerRebalanceMonitor monitor : this.binder.getConsumerRebalanceMonitors().values()) {
+			String bindingName = monitor.getBindingName();
+			FunctionCounter.builder(REBALANCE_METRIC_NAME, monitor, ConsumerRebalanceMonitor::getRebalanceCount)
+					.tag("binding", bindingName)
+					.description("Partition assignments of the consumers of a binding")
+					.register(registry);
+			FunctionTimer.builder(REBALANCE_PAUSE_METRIC_NAME, monitor,
+					ConsumerRebalanceMonitor::getPauseCount,
+					mon -> mon.getPauseTime(TimeUnit.NANOSECONDS), TimeUnit.NANOSECONDS)
+					.tag("binding", bindingName)
+					.description("Time between a revocation and the following assignment of a consumer binding")
+					.register(registry);
+			FunctionTimer.builder(REBALANCE_CALLBACK_METRIC_NAME, monitor,
+					ConsumerRebalanceMonitor::getCallbackCount,
+					mon -> mon.getCallbackTime(TimeUnit.NANOSECONDS), TimeUnit.NANOSECONDS)
+					.tag("binding", bindingName)
+					.description("Time spent in the rebalance callbacks of a consumer binding")
+					.register(registry);
+			Gauge.builder(ASSIGNED_PARTITIONS_METRIC_NAME, monitor, ConsumerRebalanceMonitor::getPartitionCount)
+					.tag("binding", bindingName)
+					.description("Partitions currently assigned to the consumers of a binding")
+					.register(registry);
+		}
 	}
 
 	private Runnable computeUnconsumedMessagesRunnable(String topic, String group, Map<String, Consumer<?, ?>> metadataConsumers) {
@@ -0,0 +1,40 @@
+/*
+ * Copyright 2026-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.stream.binder.kafka;
+
+/**
+ * Reports the pressure of whatever a consumer binding feeds downstream (for example
+ * the number of in-flight requests to a remote service). When the pressure reaches
+ * the binding's {@code backpressure.highWatermark}, the binder pauses the binding's
+ * listener container; it is resumed when the pressure drops to the
+ * {@code backpressure.lowWatermark}.
+ *
+ * @author agent
+ * @since 4.0
+ */
+@FunctionalInterface
+public interface KafkaBindingBackpressureIndicator {
+
+	/**
+	 * Return the current pressure for the binding. Invoked on the binder's flow
+	 * control thread, not on the consumer thread.
+	 * @param bindingName the name of the consumer binding.
+	 * @return the pressure; 0 means no pressure, 1 means saturated.
+	 */
+	double getPressure(String bindingName);
+
+}
@@ -24,6 +24,11 @@ import org.apache.kafka.common.TopicPartition;
 /**
  * A rebalance listener that provides access to the binding name consumer object. It can
  * be used to perform seek operations on the consumer after a rebalance.
+ * <p>
+ * With the cooperative rebalance protocol
+ * ({@code spring.cloud.stream.kafka.binder.rebalance.protocol=cooperative}), the methods
+ * are called with the incrementally revoked and assigned partitions only, and are not
+ * called when a rebalance does not change the consumer's partitions.
  *
  * @author Gary Russell
  * @since 2.1
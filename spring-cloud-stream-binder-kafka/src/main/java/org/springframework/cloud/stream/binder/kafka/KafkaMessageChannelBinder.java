@@ -20,6 +20,7 @@ import java.io.PrintWriter;
 import java.io.StringWriter;
 import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -28,11 +29,17 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.TreeMap;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BiFunction;
+import java.util.function.LongSupplier;
 import java.util.function.Predicate;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -41,6 +48,7 @@ import org.apache.kafka.clients.consumer.Consumer;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
 import org.apache.kafka.clients.consumer.ConsumerRebalanceListener;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.CooperativeStickyAssignor;
 import org.apache.kafka.clients.producer.Producer;
 import org.apache.kafka.clients.producer.ProducerConfig;
 import org.apache.kafka.clients.producer.ProducerRecord;
@@ -50,7 +58,6 @@ import org.apache.kafka.common.header.Headers;
 import org.apache.kafka.common.header.internals.RecordHeader;
 import org.apache.kafka.common.header.internals.RecordHeaders;
 import org.apache.kafka.common.serialization.ByteArrayDeserializer;
-import org.apache.kafka.common.serialization.ByteArraySerializer;
 
 import org.springframework.beans.BeansException;
 import org.springframework.beans.factory.DisposableBean;
@@ -69,6 +76,7 @@ import org.springframework.cloud.stream.binder.kafka.config.ClientFactoryCustomi
 import org.springframework.cloud.stream.binder.kafka.config.ConsumerConfigCustomizer;
 import org.springframework.cloud.stream.binder.kafka.config.ProducerConfigCustomizer;
 import org.springframework.cloud.stream.binder.kafka.properties.KafkaBinderConfigurationProperties;
+import org.springframework.cloud.stream.binder.kafka.properties.KafkaClaimCheckProperties;
 import org.springframework.cloud.stream.binder.kafka.properties.KafkaConsumerProperties;
 import org.springframework.cloud.stream.binder.kafka.properties.KafkaConsumerProperties.StandardHeaders;
 import org.springframework.cloud.stream.binder.kafka.properties.KafkaExtendedBindingProperties;
@@ -104,6 +112,7 @@ import org.springframework.kafka.core.DefaultKafkaProducerFactory;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.core.ProducerFactory;
 import org.springframework.kafka.listener.AbstractMessageListenerContainer;
+import org.springframework.kafka.listener.AcknowledgingConsumerAwareMessageListener;
 import org.springframework.kafka.listener.CommonErrorHandler;
 import org.springframework.kafka.listener.ConcurrentMessageListenerContainer;
 import org.springframework.kafka.listener.ConsumerAwareRebalanceListener;
@@ -111,6 +120,7 @@ import org.springframework.kafka.listener.ConsumerProperties;
 import org.springframework.kafka.listener.ContainerProperties;
 import org.springframework.kafka.listener.DefaultAfterRollbackProcessor;
 import org.springframework.kafka.listener.DefaultErrorHandler;
+import org.springframework.kafka.listener.adapter.RecordFilterStrategy;
 import org.springframework.kafka.support.Acknowledgment;
 import org.springframework.kafka.support.ExponentialBackOffWithMaxRetries;
 import org.springframework.kafka.support.KafkaHeaderMapper;
@@ -119,6 +129,7 @@ import org.springframework.kafka.support.ProducerListener;
 import org.springframework.kafka.support.SendResult;
 import org.springframework.kafka.support.TopicPartitionOffset;
 import org.springframework.kafka.support.TopicPartitionOffset.SeekPosition;
+import org.springframework.kafka.support.converter.BatchMessagingMessageConverter;
 import org.springframework.kafka.support.converter.MessageConverter;
 import org.springframework.kafka.support.converter.MessagingMessageConverter;
 import org.springframework.kafka.support.converter.RecordMessageConverter;
@@ -133,6 +144,7 @@ import org.springframework.messaging.MessagingException;
 import org.springframework.messaging.support.ChannelInterceptor;
 import org.springframework.messaging.support.ErrorMessage;
 import org.springframework.messaging.support.InterceptableChannel;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.util.Assert;
 import org.springframework.util.CollectionUtils;
@@ -165,7 +177,8 @@ public class KafkaMessageChannelBinder extends
 		AbstractMessageChannelBinder<ExtendedConsumerProperties<KafkaConsumerProperties>, ExtendedProducerProperties<KafkaProducerProperties>, KafkaTopicProvisioner>
 		// @checkstyle:on
 		implements
-		ExtendedPropertiesBinder<MessageChannel, KafkaConsumerProperties, KafkaProducerProperties> {
+		ExtendedPropertiesBinder<MessageChannel, KafkaConsumerProperties, KafkaProducerProperties>,
+		DisposableBean {
 
 	/**
 	 * Kafka header for x-exception-fqcn.
@@ -213,6 +226,12 @@ public class KafkaMessageChannelBinder extends
 
 	private static final SpelExpressionParser PARSER = new SpelExpressionParser();
 
+	private static final String BACKPRESSURE_PAUSE_REASON = "backpressure";
+
+	private static final long SHARED_CONSUMER_REFRESH_DELAY = 100L;
+
+	private static final long SHARED_CONSUMER_REDELIVERY_ATTEMPTS = 50L;
+
 	private final KafkaBinderConfigurationProperties configurationProperties;
 
 	private final Map<String, TopicInformation> topicsInUse = new ConcurrentHashMap<>();
@@ -239,7 +258,29 @@ public class KafkaMessageChannelBinder extends
 
 	private ConsumerConfigCustomizer consumerConfigCustomizer;
 
-	private final List<AbstractMessageListenerContainer<?, ?>> kafkaMessageListenerContainers = new ArrayList<>();
+	private final List<AbstractMessageListenerContainer<?, ?>> kafkaMessageListenerContainers = new CopyOnWriteArrayList<>();
+
+	private final Map<String, ProducerFactory<byte[], byte[]>> bindingProducerFactories = new ConcurrentHashMap<>();
+
+	private final Map<ConsumerDestination, ConsumerFlowController> flowControllers = new ConcurrentHashMap<>();
+
+	private final Map<String, ConsumerRateLimiter> rateLimiters = new ConcurrentHashMap<>();
+
+	private final Map<String, ConsumerConcurrencyScaler> concurrencyScalers = new ConcurrentHashMap<>();
+
+	private final Map<String, ConsumerRebalanceMonitor> rebalanceMonitors = new ConcurrentHashMap<>();
+
+	private final Map<String, KafkaBatchPollableSource> batchPollableSources = new ConcurrentHashMap<>();
+
+	private final Map<ConsumerDestination, String> polledBindingNames = new ConcurrentHashMap<>();
+
+	private final Map<String, SharedConsumerGroup> sharedConsumerGroups = new ConcurrentHashMap<>();
+
+	private ScheduledExecutorService flowControlScheduler;
+
+	private ExecutorService lifecycleExecutor;
+
+	private ExecutorService conversionExecutor;
 
 	public KafkaMessageChannelBinder(
 			KafkaBinderConfigurationProperties configurationProperties,
@@ -382,6 +423,7 @@ public class KafkaMessageChannelBinder extends
 			final ProducerDestination destination,
 			ExtendedProducerProperties<KafkaProducerProperties> producerProperties,
 			MessageChannel channel, MessageChannel errorChannel) throws Exception {
+		final String bindingName = bindingNameHolder.get();
 		/*
 		 * IMPORTANT: With a transactional binder, individual producer properties for
 		 * Kafka are ignored; the global binder
@@ -396,6 +438,19 @@ public class KafkaMessageChannelBinder extends
 				? transMan.getProducerFactory()
 				: getProducerFactory(null, producerProperties, destination.getName() + ".producer",
 				destination.getName());
+		int chunkSize = producerProperties.getExtension().getChunkSize();
+		if (chunkSize > 0) {
+			Assert.state(transMan == null, "Chunking is not supported with transactions");
+			// before the claim check post processor, so that references are not chunked
+			producerFB.addPostProcessor(RecordChunks.producerPostProcessor(chunkSize));
+		}
+		KafkaClaimCheckProperties claimCheck = producerProperties.getExtension().getClaimCheck();
+		if (claimCheck.isEnabled()) {
+			Assert.state(transMan == null, "The claim check mode is not supported with transactions");
+			// before any producer is created
+			producerFB.addPostProcessor(ClaimChecks.producerPostProcessor(getClaimCheckStore(claimCheck),
+					claimCheck.getThreshold()));
+		}
 		Collection<PartitionInfo> partitions = provisioningProvider.getPartitionsForTopic(
 				producerProperties.getPartitionCount(), false, () -> {
 					Producer<byte[], byte[]> producer = producerFB.createProducer();
@@ -406,6 +461,9 @@ public class KafkaMessageChannelBinder extends
 				}, destination.getName());
 		this.topicsInUse.put(destination.getName(),
 				new TopicInformation(null, partitions, false));
+		if (bindingName != null) {
+			this.bindingProducerFactories.put(bindingName, producerFB);
+		}
 		if (producerProperties.isPartitioned()
 				&& producerProperties.getPartitionCount() < partitions.size()) {
 			if (this.logger.isInfoEnabled()) {
@@ -535,9 +593,9 @@ public class KafkaMessageChannelBinder extends
 			String transactionIdPrefix,
 			ExtendedProducerProperties<KafkaProducerProperties> producerProperties, String beanName, String destination) {
 		Map<String, Object> props = new HashMap<>();
-		props.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, ByteArraySerializer.class);
+		props.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, BinaryPayloadSerializer.class);
 		props.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG,
-				ByteArraySerializer.class);
+				BinaryPayloadSerializer.class);
 		props.put(ProducerConfig.ACKS_CONFIG,
 				String.valueOf(this.configurationProperties.getRequiredAcks()));
 		Map<String, Object> mergedConfig = this.configurationProperties
@@ -607,6 +665,7 @@ public class KafkaMessageChannelBinder extends
 			final ConsumerDestination destination, final String group,
 			final ExtendedConsumerProperties<KafkaConsumerProperties> extendedConsumerProperties) {
 
+		final String bindingName = bindingNameHolder.get();
 		boolean anonymous = !StringUtils.hasText(group);
 		Assert.isTrue(
 				!anonymous || !extendedConsumerProperties.getExtension().isEnableDlq(),
@@ -627,17 +686,27 @@ public class KafkaMessageChannelBinder extends
 						+ "use the regex pattern to specify multiple topics instead");
 		boolean groupManagement = extendedConsumerProperties.getExtension()
 				.isAutoRebalanceEnabled();
+		boolean directAssignment = anonymous && extendedConsumerProperties.getExtension().isDirectAssignment();
+		if (directAssignment) {
+			Assert.state(!usingPatterns && transactionManager(
+					extendedConsumerProperties.getExtension().getTransactionManager()) == null,
+					"Direct assignment is not supported with a topic pattern or transactions");
+			DirectAssignment.withoutGroup(consumerFactory);
+			groupManagement = false;
+		}
+		// all the partitions for each instance with direct assignment
+		boolean allPartitions = groupManagement || directAssignment;
 		if (!extendedConsumerProperties.isMultiplex()) {
 			listenedPartitions.addAll(processTopic(consumerGroup,
 					extendedConsumerProperties, consumerFactory, partitionCount,
-					usingPatterns, groupManagement, destination.getName()));
+					usingPatterns, allPartitions, destination.getName()));
 		}
 		else {
 			for (String name : StringUtils
 					.commaDelimitedListToStringArray(destination.getName())) {
 				listenedPartitions.addAll(processTopic(consumerGroup,
 						extendedConsumerProperties, consumerFactory, partitionCount,
-						usingPatterns, groupManagement, name.trim()));
+						usingPatterns, allPartitions, name.trim()));
 			}
 		}
 
@@ -651,10 +720,20 @@ public class KafkaMessageChannelBinder extends
 				Assert.isTrue(!CollectionUtils.isEmpty(listenedPartitions),
 						"A list of partitions must be provided");
 		}
+		if (extendedConsumerProperties.getExtension().isSharedConsumer()) {
+			Assert.state(!anonymous && groupManagement && !usingPatterns && !extendedConsumerProperties.isBatchMode(),
+					"A shared consumer requires a named group, auto rebalancing, record mode and no topic pattern");
+			Assert.state(!extendedConsumerProperties.getExtension().getReassembly().isEnabled(),
+					"Chunked record reassembly is not supported with a shared consumer");
+			return createSharedConsumerEndpoint(destination, consumerGroup, topics, consumerFactory,
+					extendedConsumerProperties);
+		}
 		final TopicPartitionOffset[] topicPartitionOffsets = groupManagement
 				? null
-				: getTopicPartitionOffsets(listenedPartitions, extendedConsumerProperties, consumerFactory);
-		final ContainerProperties containerProperties = anonymous
+				: directAssignment
+						? getDirectAssignmentOffsets(listenedPartitions, extendedConsumerProperties.getExtension())
+						: getTopicPartitionOffsets(listenedPartitions, extendedConsumerProperties, consumerFactory);
+		final ContainerProperties containerProperties = (anonymous && !directAssignment)
 				|| groupManagement
 						? usingPatterns
 								? new ContainerProperties(Pattern.compile(topics[0]))
@@ -679,6 +758,13 @@ public class KafkaMessageChannelBinder extends
 			concurrency = extendedConsumerProperties.getConcurrency();
 		}
 		resetOffsetsForAutoRebalance(extendedConsumerProperties, consumerFactory, containerProperties);
+		if (containerProperties.getTopicPartitions() == null) {
+			ConsumerRebalanceMonitor rebalanceMonitor = new ConsumerRebalanceMonitor(
+					bindingName != null ? bindingName : destination.getName());
+			this.rebalanceMonitors.put(rebalanceMonitor.getBindingName(), rebalanceMonitor);
+			containerProperties.setConsumerRebalanceListener(
+					rebalanceMonitor.listener(containerProperties.getConsumerRebalanceListener()));
+		}
 		containerProperties.setAuthExceptionRetryInterval(this.configurationProperties.getAuthorizationExceptionRetryInterval());
 		@SuppressWarnings("rawtypes")
 		final ConcurrentMessageListenerContainer<?, ?> messageListenerContainer = new ConcurrentMessageListenerContainer(
@@ -733,10 +819,18 @@ public class KafkaMessageChannelBinder extends
 		final KafkaMessageDrivenChannelAdapter<?, ?> kafkaMessageDrivenChannelAdapter =
 				new KafkaMessageDrivenChannelAdapter<>(messageListenerContainer,
 						extendedConsumerProperties.isBatchMode() ? ListenerMode.batch : ListenerMode.record);
-		MessageConverter messageConverter = getMessageConverter(extendedConsumerProperties);
+		RecordFilterStrategy<Object, Object> recordFilterStrategy = getRecordFilterStrategy(
+				extendedConsumerProperties.getExtension());
+		MessageConverter messageConverter = parallelConversion(getMessageConverter(extendedConsumerProperties),
+				consumerFactory, extendedConsumerProperties, recordFilterStrategy);
 		kafkaMessageDrivenChannelAdapter.setMessageConverter(messageConverter);
 		kafkaMessageDrivenChannelAdapter.setBeanFactory(getBeanFactory());
 		kafkaMessageDrivenChannelAdapter.setApplicationContext(applicationContext);
+		if (recordFilterStrategy != null) {
+			((KafkaMessageDrivenChannelAdapter<Object, Object>) kafkaMessageDrivenChannelAdapter)
+					.setRecordFilterStrategy(recordFilterStrategy);
+			kafkaMessageDrivenChannelAdapter.setAckDiscarded(true);
+		}
 		ErrorInfrastructure errorInfrastructure = registerErrorInfrastructure(destination,
 				consumerGroup, extendedConsumerProperties);
 
@@ -788,6 +882,10 @@ public class KafkaMessageChannelBinder extends
 		else {
 			kafkaMessageDrivenChannelAdapter.setErrorChannel(errorInfrastructure.getErrorChannel());
 		}
+		configureFlowControl(destination, bindingName != null ? bindingName : destination.getName(),
+				extendedConsumerProperties, messageListenerContainer,
+				listenedPartitions.isEmpty() ? Integer.MAX_VALUE : listenedPartitions.size(),
+				consumerGroup, consumerFactory);
 		final String commonErrorHandlerBeanName = extendedConsumerProperties.getExtension().getCommonErrorHandlerBeanName();
 		if (StringUtils.hasText(commonErrorHandlerBeanName)) {
 			final CommonErrorHandler commonErrorHandler = getApplicationContext().getBean(commonErrorHandlerBeanName,
@@ -813,6 +911,308 @@ public class KafkaMessageChannelBinder extends
 		return kafkaMessageDrivenChannelAdapter;
 	}
 
+	/*
+	 * Bindings of the same group share a single container, provided they have the same
+	 * container settings; each binding gets an endpoint that converts and sends the
+	 * records of its topics, with its own retry and error handling.
+	 */
+	private MessageProducer createSharedConsumerEndpoint(ConsumerDestination destination, String consumerGroup,
+			String[] topics, ConsumerFactory<?, ?> consumerFactory,
+			ExtendedConsumerProperties<KafkaConsumerProperties> extendedConsumerProperties) {
+
+		KafkaConsumerProperties extension = extendedConsumerProperties.getExtension();
+		Assert.state(transactionManager(extension.getTransactionManager()) == null
+				&& !extension.isResetOffsets()
+				&& getStartTimestamp(extension) == null
+				&& !extension.getBackpressure().isEnabled()
+				&& !extension.getRateLimit().isEnabled()
+				&& !extension.getAutoscaling().isEnabled()
+				&& extension.getRecordFilterExpression() == null
+				&& !StringUtils.hasText(extension.getRecordFilterBeanName())
+				&& !StringUtils.hasText(extension.getCommonErrorHandlerBeanName()),
+				"A shared consumer does not support transactions, 'resetOffsets', a start timestamp, flow control, "
+						+ "record filtering or a binding specific common error handler");
+		ContainerProperties.AckMode ackMode = extension.getAckMode();
+		if (ackMode == null) {
+			if (extension.isAckEachRecord()) {
+				ackMode = ContainerProperties.AckMode.RECORD;
+			}
+			else if (!extension.isAutoCommitOffset()) {
+				ackMode = ContainerProperties.AckMode.MANUAL;
+			}
+			else {
+				ackMode = ContainerProperties.AckMode.BATCH;
+			}
+		}
+		final ContainerProperties.AckMode sharedAckMode = ackMode;
+		String settings = "ackMode=" + sharedAckMode + ", startOffset=" + extension.getStartOffset()
+				+ ", concurrency=" + extendedConsumerProperties.getConcurrency() + ", idleEventInterval="
+				+ extension.getIdleEventInterval() + ", configuration=" + new TreeMap<>(extension.getConfiguration());
+		SharedConsumerGroup sharedGroup = this.sharedConsumerGroups.computeIfAbsent(consumerGroup,
+				k -> new SharedConsumerGroup(consumerGroup, settings,
+						(group, groupTopics) -> createSharedContainer(group, groupTopics, consumerGroup,
+								consumerFactory, sharedAckMode, extendedConsumerProperties),
+						this.kafkaMessageListenerContainers::remove, getFlowControlScheduler(),
+						task -> getLifecycleExecutor().execute(task), SHARED_CONSUMER_REFRESH_DELAY));
+		Assert.state(settings.equals(sharedGroup.getSettings()), () -> "Binding '" + destination.getName()
+				+ "' cannot share the consumer of group '" + consumerGroup + "': its settings [" + settings
+				+ "] differ from the shared container's [" + sharedGroup.getSettings() + "]");
+
+		MessageConverter messageConverter = getMessageConverter(extendedConsumerProperties);
+		Assert.isInstanceOf(RecordMessageConverter.class, messageConverter,
+				"'messageConverter' must be a 'RecordMessageConverter' for shared consumers");
+		SharedConsumerEndpoint endpoint = new SharedConsumerEndpoint(topics, sharedGroup,
+				(RecordMessageConverter) messageConverter);
+		endpoint.setBeanFactory(getBeanFactory());
+		endpoint.setErrorMessageStrategy(getErrorMessageStrategy());
+		ErrorInfrastructure errorInfrastructure = registerErrorInfrastructure(destination,
+				consumerGroup, extendedConsumerProperties);
+		if (extendedConsumerProperties.getMaxAttempts() > 1) {
+			endpoint.setRetryTemplate(buildRetryTemplate(extendedConsumerProperties),
+					errorInfrastructure.getRecoverer());
+		}
+		else {
+			endpoint.setErrorChannel(errorInfrastructure.getErrorChannel());
+		}
+		this.ackModeInfo.put(destination, sharedAckMode);
+		return endpoint;
+	}
+
+	@SuppressWarnings("unchecked")
+	private AbstractMessageListenerContainer<?, ?> createSharedContainer(SharedConsumerGroup group, String[] topics,
+			String consumerGroup, ConsumerFactory<?, ?> consumerFactory, ContainerProperties.AckMode ackMode,
+			ExtendedConsumerProperties<KafkaConsumerProperties> extendedConsumerProperties) {
+
+		ContainerProperties containerProperties = new ContainerProperties(topics);
+		containerProperties.setAckMode(ackMode);
+		containerProperties.setIdleEventInterval(extendedConsumerProperties.getExtension().getIdleEventInterval());
+		containerProperties.setAuthExceptionRetryInterval(
+				this.configurationProperties.getAuthorizationExceptionRetryInterval());
+		containerProperties.setMessageListener(
+				(AcknowledgingConsumerAwareMessageListener<Object, Object>) group::onRecord);
+		ConcurrentMessageListenerContainer<?, ?> container = new ConcurrentMessageListenerContainer<>(
+				consumerFactory, containerProperties);
+		container.setConcurrency(extendedConsumerProperties.getConcurrency());
+		AbstractApplicationContext applicationContext = getApplicationContext();
+		container.setApplicationContext(applicationContext);
+		if (getApplicationEventPublisher() != null) {
+			container.setApplicationEventPublisher(getApplicationEventPublisher());
+		}
+		else if (applicationContext != null) {
+			container.setApplicationEventPublisher(applicationContext);
+		}
+		container.setBeanName(consumerGroup + ".shared.container");
+		DefaultErrorHandler errorHandler = new DefaultErrorHandler((record, exception) -> {
+			if (isMemberNotAvailable(exception)) {
+				// the container should have been replaced by now; the record must not be skipped
+				group.requestRefresh();
+				throw new IllegalStateException("The shared consumer of group '" + consumerGroup
+						+ "' was not replaced in time; redelivering " + record.topic() + "-" + record.partition()
+						+ "@" + record.offset(), exception);
+			}
+			this.logger.error("Backoff exhausted for " + record.topic() + "-" + record.partition() + "@"
+					+ record.offset(), exception);
+		});
+		errorHandler.setBackOffFunction((record, exception) -> {
+			if (isMemberNotAvailable(exception)) {
+				return new FixedBackOff(SHARED_CONSUMER_REFRESH_DELAY, SHARED_CONSUMER_REDELIVERY_ATTEMPTS);
+			}
+			// the binding already retried the record
+			SharedConsumerEndpoint member = group.getMember(record.topic());
+			return member != null && member.isRetrying() ? new FixedBackOff(0L, 0L) : null;
+		});
+		container.setCommonErrorHandler(errorHandler);
+		((ListenerContainerCustomizer<Object>) getContainerCustomizer())
+				.configure(container, String.join(",", topics), consumerGroup);
+		this.kafkaMessageListenerContainers.add(container);
+		return container;
+	}
+
+	private static boolean isMemberNotAvailable(Throwable exception) {
+		Throwable cause = exception;
+		while (cause != null && !(cause instanceof SharedConsumerGroup.MemberNotAvailableException)) {
+			cause = cause.getCause();
+		}
+		return cause != null;
+	}
+
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	private void configureFlowControl(ConsumerDestination destination, String bindingName,
+			ExtendedConsumerProperties<KafkaConsumerProperties> extendedConsumerProperties,
+			ConcurrentMessageListenerContainer container, int maxConcurrency, String consumerGroup,
+			ConsumerFactory<?, ?> consumerFactory) {
+
+		KafkaConsumerProperties extension = extendedConsumerProperties.getExtension();
+		ConsumerFlowController flowController = new ConsumerFlowController(bindingName, container);
+		this.flowControllers.put(destination, flowController);
+		Object groupInstanceId = consumerFactory.getConfigurationProperties()
+				.get(ConsumerConfig.GROUP_INSTANCE_ID_CONFIG);
+		ConsumerConcurrencyScaler concurrencyScaler = new ConsumerConcurrencyScaler(bindingName, container,
+				maxConcurrency, task -> getLifecycleExecutor().execute(task),
+				groupInstanceId != null ? groupInstanceId.toString() : null,
+				members -> provisioningProvider.removeStaticMembers(consumerGroup, members));
+		this.concurrencyScalers.put(bindingName, concurrencyScaler);
+		KafkaConsumerProperties.Autoscaling autoscaling = extension.getAutoscaling();
+		if (autoscaling.isEnabled()) {
+			flowController.addTask(getFlowControlScheduler().scheduleWithFixedDelay(() -> {
+				try {
+					concurrencyScaler.autoscale(autoscaling);
+				}
+				catch (Exception ex) {
+					this.logger.debug("Failed to autoscale binding: " + bindingName, ex);
+				}
+			}, autoscaling.getCheckInterval(), autoscaling.getCheckInterval(), TimeUnit.MILLISECONDS));
+		}
+		KafkaConsumerProperties.RateLimit rateLimit = extension.getRateLimit();
+		if (rateLimit.isEnabled()) {
+			ConsumerRateLimiter rateLimiter = new ConsumerRateLimiter(bindingName,
+					rateLimit.getRecordsPerSecond(), rateLimit.getBytesPerSecond());
+			this.rateLimiters.put(bindingName, rateLimiter);
+			RateLimitingInterceptor interceptor = new RateLimitingInterceptor(rateLimiter, flowController,
+					getFlowControlScheduler());
+			if (extendedConsumerProperties.isBatchMode()) {
+				container.setBatchInterceptor(interceptor.batchInterceptor());
+			}
+			else {
+				container.setRecordInterceptor(interceptor.recordInterceptor());
+			}
+		}
+		configureBackpressure(flowController, bindingName, extension.getBackpressure(), container);
+	}
+
+	private void configureBackpressure(ConsumerFlowController flowController, String bindingName,
+			KafkaConsumerProperties.Backpressure backpressure, ConcurrentMessageListenerContainer<?, ?> container) {
+
+		if (!backpressure.isEnabled()) {
+			return;
+		}
+		List<KafkaBindingBackpressureIndicator> indicators = new ArrayList<>();
+		if (!ObjectUtils.isEmpty(backpressure.getProducerBindings())) {
+			indicators.add(new ProducerBufferBackpressureIndicator(backpressure.getProducerBindings(),
+					this.bindingProducerFactories::get));
+		}
+		if (StringUtils.hasText(backpressure.getIndicatorBeanName())) {
+			indicators.add(getApplicationContext().getBean(backpressure.getIndicatorBeanName(),
+					KafkaBindingBackpressureIndicator.class));
+		}
+		Assert.state(!indicators.isEmpty(), "Backpressure is enabled for binding '" + bindingName
+				+ "' but neither 'producerBindings' nor 'indicatorBeanName' is set");
+		Assert.state(backpressure.getLowWatermark() < backpressure.getHighWatermark(),
+				"'backpressure.lowWatermark' must be less than 'backpressure.highWatermark'");
+		flowController.addTask(getFlowControlScheduler().scheduleWithFixedDelay(() -> {
+			if (!container.isRunning()) {
+				return;
+			}
+			try {
+				double pressure = 0;
+				for (KafkaBindingBackpressureIndicator indicator : indicators) {
+					pressure = Math.max(pressure, indicator.getPressure(bindingName));
+				}
+				if (pressure >= backpressure.getHighWatermark()) {
+					flowController.pause(BACKPRESSURE_PAUSE_REASON);
+				}
+				else if (pressure <= backpressure.getLowWatermark()) {
+					flowController.resume(BACKPRESSURE_PAUSE_REASON);
+				}
+			}
+			catch (Exception ex) {
+				this.logger.debug("Failed to evaluate backpressure for binding: " + bindingName, ex);
+			}
+		}, backpressure.getCheckInterval(), backpressure.getCheckInterval(), TimeUnit.MILLISECONDS));
+	}
+
+	private synchronized ScheduledExecutorService getFlowControlScheduler() {
+		if (this.flowControlScheduler == null) {
+			CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("kafka-binder-flow-control-");
+			threadFactory.setDaemon(true);
+			this.flowControlScheduler = Executors.newSingleThreadScheduledExecutor(threadFactory);
+		}
+		return this.flowControlScheduler;
+	}
+
+	/*
+	 * Blocking container lifecycle work (restarts, shared container refreshes) runs here, so
+	 * that it does not delay the pause/resume tasks of the flow control scheduler.
+	 */
+	private synchronized ExecutorService getLifecycleExecutor() {
+		if (this.lifecycleExecutor == null) {
+			CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("kafka-binder-lifecycle-");
+			threadFactory.setDaemon(true);
+			this.lifecycleExecutor = Executors.newSingleThreadExecutor(threadFactory);
+		}
+		return this.lifecycleExecutor;
+	}
+
+	/*
+	 * Runs the conversions of the bindings with parallel conversion, so that the
+	 * converters and header mappers do not run on the common fork-join pool.
+	 */
+	private synchronized ExecutorService getConversionExecutor() {
+		if (this.conversionExecutor == null) {
+			CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("kafka-binder-conversion-");
+			threadFactory.setDaemon(true);
+			this.conversionExecutor = Executors.newFixedThreadPool(
+					Math.max(1, this.configurationProperties.getParallelConversionThreads()), threadFactory);
+		}
+		return this.conversionExecutor;
+	}
+
+	@Override
+	public synchronized void destroy() {
+		if (this.flowControlScheduler != null) {
+			this.flowControlScheduler.shutdownNow();
+			this.flowControlScheduler = null;
+		}
+		if (this.lifecycleExecutor != null) {
+			this.lifecycleExecutor.shutdownNow();
+			this.lifecycleExecutor = null;
+		}
+		if (this.conversionExecutor != null) {
+			this.conversionExecutor.shutdownNow();
+			this.conversionExecutor = null;
+		}
+	}
+
+	@Override
+	protected void afterUnbindConsumer(ConsumerDestination destination, String group,
+			ExtendedConsumerProperties<KafkaConsumerProperties> consumerProperties) {
+
+		ConsumerFlowController flowController = this.flowControllers.remove(destination);
+		if (flowController != null) {
+			flowController.cancelTasks();
+			this.rateLimiters.remove(flowController.getBindingName());
+			this.concurrencyScalers.remove(flowController.getBindingName());
+			this.rebalanceMonitors.remove(flowController.getBindingName());
+		}
+		String polledBindingName = this.polledBindingNames.remove(destination);
+		if (polledBindingName != null) {
+			KafkaBatchPollableSource batchPollableSource = this.batchPollableSources.remove(polledBindingName);
+			if (batchPollableSource != null) {
+				batchPollableSource.close();
+			}
+		}
+	}
+
+	/*
+	 * The filter is applied by the adapter to the raw records, before any header mapping
+	 * or conversion takes place.
+	 */
+	@SuppressWarnings("unchecked")
+	@Nullable
+	private RecordFilterStrategy<Object, Object> getRecordFilterStrategy(KafkaConsumerProperties extension) {
+		Expression recordFilterExpression = extension.getRecordFilterExpression();
+		String recordFilterBeanName = extension.getRecordFilterBeanName();
+		Assert.state(recordFilterExpression == null || !StringUtils.hasText(recordFilterBeanName),
+				"Only one of 'recordFilterExpression' and 'recordFilterBeanName' can be set");
+		if (recordFilterExpression != null) {
+			return new ExpressionRecordFilterStrategy(recordFilterExpression, getEvaluationContext());
+		}
+		if (StringUtils.hasText(recordFilterBeanName)) {
+			return getApplicationContext().getBean(recordFilterBeanName, RecordFilterStrategy.class);
+		}
+		return null;
+	}
+
 	private BiFunction<ConsumerRecord<?, ?>, Exception, TopicPartition> createDestResolver(
 			KafkaConsumerProperties extension) {
 
@@ -859,6 +1259,7 @@ public class KafkaMessageChannelBinder extends
 		bindingNameHolder.remove();
 		Assert.notNull(bindingName, "'bindingName' cannot be null");
 		final KafkaBindingRebalanceListener userRebalanceListener = this.rebalanceListener;
+		final boolean cooperative = isCooperativeRebalance();
 		containerProperties
 				.setConsumerRebalanceListener(new ConsumerAwareRebalanceListener() {
 
@@ -868,21 +1269,28 @@ public class KafkaMessageChannelBinder extends
 					public void onPartitionsRevokedBeforeCommit(Consumer<?, ?> consumer,
 							Collection<TopicPartition> partitions) {
 
-						userRebalanceListener.onPartitionsRevokedBeforeCommit(bindingName,
-								consumer, partitions);
+						if (!skip(partitions)) {
+							userRebalanceListener.onPartitionsRevokedBeforeCommit(bindingName,
+									consumer, partitions);
+						}
 					}
 
 					@Override
 					public void onPartitionsRevokedAfterCommit(Consumer<?, ?> consumer,
 							Collection<TopicPartition> partitions) {
 
-						userRebalanceListener.onPartitionsRevokedAfterCommit(bindingName,
-								consumer, partitions);
+						if (!skip(partitions)) {
+							userRebalanceListener.onPartitionsRevokedAfterCommit(bindingName,
+									consumer, partitions);
+						}
 					}
 
 					@Override
 					public void onPartitionsAssigned(Consumer<?, ?> consumer,
 							Collection<TopicPartition> partitions) {
+						if (skip(partitions)) {
+							return;
+						}
 						try {
 							Boolean initial = this.initialAssignment.get();
 							if (initial == null) {
@@ -896,6 +1304,15 @@ public class KafkaMessageChannelBinder extends
 						}
 					}
 
+					/*
+					 * With cooperative rebalancing, the partitions are the ones that moved;
+					 * a rebalance that moves none of this consumer's partitions is not
+					 * propagated.
+					 */
+					private boolean skip(Collection<TopicPartition> partitions) {
+						return cooperative && partitions.isEmpty();
+					}
+
 				});
 	}
 
@@ -935,6 +1352,13 @@ public class KafkaMessageChannelBinder extends
 			final ExtendedConsumerProperties<KafkaConsumerProperties> extendedConsumerProperties,
 			final ConsumerFactory<?, ?> consumerFactory, final ContainerProperties containerProperties) {
 
+		LongSupplier startTimestamp = getStartTimestamp(extendedConsumerProperties.getExtension());
+		if (startTimestamp != null) {
+			containerProperties.setConsumerRebalanceListener(new StartTimestampRebalanceListener(startTimestamp,
+					extendedConsumerProperties.getExtension().isResetOffsets(),
+					containerProperties.getConsumerRebalanceListener()));
+			return;
+		}
 		final Object resetTo = checkReset(extendedConsumerProperties.getExtension().isResetOffsets(),
 				consumerFactory.getConfigurationProperties()
 				.get(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG));
@@ -982,6 +1406,22 @@ public class KafkaMessageChannelBinder extends
 		}
 	}
 
+	/*
+	 * A duration-based start is evaluated when the supplier is called, e.g. on each
+	 * assignment, rather than when the binding is created.
+	 */
+	@Nullable
+	private LongSupplier getStartTimestamp(KafkaConsumerProperties extension) {
+		Assert.isTrue(extension.getStartOffsetTimestamp() == null || extension.getStartOffsetDuration() == null,
+				"Only one of 'startOffsetTimestamp' and 'startOffsetDuration' can be set");
+		if (extension.getStartOffsetDuration() != null) {
+			long duration = extension.getStartOffsetDuration().toMillis();
+			return () -> System.currentTimeMillis() - duration;
+		}
+		Long timestamp = extension.getStartOffsetTimestamp();
+		return timestamp != null ? () -> timestamp : null;
+	}
+
 	private Object checkReset(boolean resetOffsets, final Object resetTo) {
 		if (!resetOffsets) {
 			return null;
@@ -1027,10 +1467,12 @@ public class KafkaMessageChannelBinder extends
 
 		consumerProperties.setClientId(clientId);
 
+		final AtomicReference<PrefetchingKafkaMessageSource> prefetchingSource = new AtomicReference<>();
 		consumerProperties.setConsumerRebalanceListener(new ConsumerRebalanceListener() {
 
 			@Override
 			public void onPartitionsRevoked(Collection<TopicPartition> partitions) {
+				flushPrefetched(partitions);
 				KafkaMessageChannelBinder.this.logger.info("Revoked: " + partitions);
 			}
 
@@ -1039,6 +1481,18 @@ public class KafkaMessageChannelBinder extends
 				KafkaMessageChannelBinder.this.logger.info("Assigned: " + partitions);
 			}
 
+			@Override
+			public void onPartitionsLost(Collection<TopicPartition> partitions) {
+				flushPrefetched(partitions);
+				KafkaMessageChannelBinder.this.logger.info("Lost: " + partitions);
+			}
+
+			private void flushPrefetched(Collection<TopicPartition> partitions) {
+				if (prefetchingSource.get() != null) {
+					prefetchingSource.get().flush(partitions);
+				}
+			}
+
 		});
 
 		consumerProperties.setPollTimeout(extension.getPollTimeout());
@@ -1071,8 +1525,25 @@ public class KafkaMessageChannelBinder extends
 		}
 
 		getMessageSourceCustomizer().configure(source, destination.getName(), group);
-		return new PolledConsumerResources(source, registerErrorInfrastructure(
-				destination, group, extendedConsumerProperties, true));
+		ErrorInfrastructure errorInfrastructure = registerErrorInfrastructure(
+				destination, group, extendedConsumerProperties, true);
+		BatchMessagingMessageConverter batchMessageConverter = new BatchMessagingMessageConverter();
+		batchMessageConverter.setHeaderMapper(getHeaderMapper(extendedConsumerProperties));
+		this.batchPollableSources.put(name, new KafkaBatchPollableSource(consumerFactory, topics, clientId,
+				extension.getPollTimeout(), batchMessageConverter, errorInfrastructure.getErrorChannel(),
+				extension.isEnableDlq() || isAutoCommitOnError(extendedConsumerProperties),
+				getStartTimestamp(extension), checkReset(extension.isResetOffsets(),
+						consumerFactory.getConfigurationProperties().get(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG))));
+		this.polledBindingNames.put(destination, name);
+		KafkaConsumerProperties.Prefetch prefetch = extension.getPrefetch();
+		if (prefetch.isEnabled()) {
+			CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("kafka-prefetch-" + name + "-");
+			threadFactory.setDaemon(true);
+			prefetchingSource.set(new PrefetchingKafkaMessageSource(source, prefetch.getMaxRecords(),
+					prefetch.getMaxBytes(), extension.getPollTimeout(), threadFactory));
+			return new PolledConsumerResources(prefetchingSource.get(), errorInfrastructure);
+		}
+		return new PolledConsumerResources(source, errorInfrastructure);
 	}
 
 	@Override
@@ -1114,9 +1585,43 @@ public class KafkaMessageChannelBinder extends
 		if (messageConverter instanceof MessagingMessageConverter) {
 			((MessagingMessageConverter) messageConverter).setHeaderMapper(getHeaderMapper(extendedConsumerProperties));
 		}
+		KafkaClaimCheckProperties claimCheck = extendedConsumerProperties.getExtension().getClaimCheck();
+		if (claimCheck.isEnabled() && messageConverter instanceof RecordMessageConverter) {
+			messageConverter = new ClaimChecks.ClaimCheckRecordMessageConverter(
+					(RecordMessageConverter) messageConverter, getClaimCheckStore(claimCheck));
+		}
 		return messageConverter;
 	}
 
+	private ClaimCheckStore getClaimCheckStore(KafkaClaimCheckProperties claimCheck) {
+		if (StringUtils.hasText(claimCheck.getStoreBeanName())) {
+			return getApplicationContext().getBean(claimCheck.getStoreBeanName(), ClaimCheckStore.class);
+		}
+		return new FileSystemClaimCheckStore(Paths.get(claimCheck.getDirectory()));
+	}
+
+	/*
+	 * Wrap the record converter so that the records of each poll are converted on the
+	 * conversion executor while the listener handles the previous ones; the records that
+	 * the filter discards are not converted.
+	 */
+	@SuppressWarnings("unchecked")
+	private MessageConverter parallelConversion(MessageConverter messageConverter,
+			ConsumerFactory<?, ?> consumerFactory,
+			ExtendedConsumerProperties<KafkaConsumerProperties> extendedConsumerProperties,
+			@Nullable RecordFilterStrategy<Object, Object> recordFilterStrategy) {
+
+		if (!extendedConsumerProperties.getExtension().isParallelConversion()
+				|| extendedConsumerProperties.isBatchMode()
+				|| !(messageConverter instanceof RecordMessageConverter)) {
+			return messageConverter;
+		}
+		ParallelRecordMessageConverter parallelConverter = new ParallelRecordMessageConverter(
+				(RecordMessageConverter) messageConverter, getConversionExecutor(), 2, recordFilterStrategy);
+		((ConsumerFactory<Object, Object>) consumerFactory).addPostProcessor(parallelConverter.consumerPostProcessor());
+		return parallelConverter;
+	}
+
 	private KafkaHeaderMapper getHeaderMapper(
 			final ExtendedConsumerProperties<KafkaConsumerProperties> extendedConsumerProperties) {
 		KafkaHeaderMapper mapper = null;
@@ -1187,6 +1692,16 @@ public class KafkaMessageChannelBinder extends
 					: getProducerFactory(null,
 							new ExtendedProducerProperties<>(dlqProducerProperties),
 							destination.getName() + ".dlq.producer", destination.getName());
+			if (transMan == null && dlqProducerProperties.getChunkSize() > 0) {
+				((ProducerFactory<Object, Object>) producerFactory).addPostProcessor(
+						RecordChunks.producerPostProcessor(dlqProducerProperties.getChunkSize()));
+			}
+			KafkaClaimCheckProperties dlqClaimCheck = dlqProducerProperties.getClaimCheck();
+			if (transMan == null && dlqClaimCheck.isEnabled()) {
+				((ProducerFactory<Object, Object>) producerFactory).addPostProcessor(
+						ClaimChecks.producerPostProcessor(getClaimCheckStore(dlqClaimCheck),
+								dlqClaimCheck.getThreshold()));
+			}
 			final KafkaTemplate<?, ?> kafkaTemplate = new KafkaTemplate<>(
 					producerFactory);
 
@@ -1226,14 +1741,14 @@ public class KafkaMessageChannelBinder extends
 						// Finally merge with dlq producer properties or the transaction producer properties.
 						configuration.putAll(configs);
 						if (record.key() != null
-								&& !record.key().getClass().isInstance(byte[].class)) {
+								&& !BinaryPayloads.isBinary(record.key())) {
 							ensureDlqMessageCanBeProperlySerialized(configuration,
 									(Map<String, String> config) -> !config
 											.containsKey("key.serializer"),
 									"Key");
 						}
 						if (record.value() != null
-								&& !record.value().getClass().isInstance(byte[].class)) {
+								&& !BinaryPayloads.isBinary(record.value())) {
 							ensureDlqMessageCanBeProperlySerialized(configuration,
 									(Map<String, String> config) -> !config
 											.containsKey("value.serializer"),
@@ -1286,7 +1801,7 @@ public class KafkaMessageChannelBinder extends
 						try {
 							MessageValues messageValues = EmbeddedHeaderUtils
 									.extractHeaders(MessageBuilder
-											.withPayload((byte[]) record.value()).build(),
+											.withPayload(BinaryPayloads.toByteArray(record.value())).build(),
 											false);
 							messageValues.put(X_ORIGINAL_TOPIC, record.topic());
 							messageValues.put(X_ORIGINAL_PARTITION, record.partition());
@@ -1434,6 +1949,9 @@ public class KafkaMessageChannelBinder extends
 		props.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG,
 				anonymous ? "latest" : "earliest");
 		props.put(ConsumerConfig.GROUP_ID_CONFIG, consumerGroup);
+		if (isCooperativeRebalance()) {
+			props.put(ConsumerConfig.PARTITION_ASSIGNMENT_STRATEGY_CONFIG, CooperativeStickyAssignor.class.getName());
+		}
 
 		Map<String, Object> mergedConfig = this.configurationProperties
 				.mergedConsumerConfiguration();
@@ -1455,18 +1973,50 @@ public class KafkaMessageChannelBinder extends
 			props.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG,
 					consumerProperties.getExtension().getStartOffset().name());
 		}
+		if (this.configurationProperties.getRebalance().isStaticMembership() && !anonymous
+				&& !props.containsKey(ConsumerConfig.GROUP_INSTANCE_ID_CONFIG)) {
+			// a suffix is added for each consumer of a concurrent container
+			String bindingName = bindingNameHolder.get();
+			props.put(ConsumerConfig.GROUP_INSTANCE_ID_CONFIG, getGroupInstanceId(consumerProperties)
+					+ "-" + (bindingName != null ? bindingName : destination));
+		}
 
 		if (this.consumerConfigCustomizer != null) {
 			this.consumerConfigCustomizer.configure(props, bindingNameHolder.get(), destination);
 		}
 		DefaultKafkaConsumerFactory<Object, Object> factory = new DefaultKafkaConsumerFactory<>(props);
 		factory.setBeanName(beanName);
+		KafkaConsumerProperties.Reassembly reassembly = consumerProperties.getExtension().getReassembly();
+		if (reassembly.isEnabled()) {
+			Assert.state(transactionManager(consumerProperties.getExtension().getTransactionManager()) == null,
+					"Chunked record reassembly is not supported with transactions");
+			factory.addPostProcessor(RecordChunks.consumerPostProcessor(reassembly.getMaxBytes(),
+					reassembly.getOrphanTimeout()));
+		}
 		if (this.clientFactoryCustomizer != null) {
 			this.clientFactoryCustomizer.configure(factory);
 		}
 		return factory;
 	}
 
+	private boolean isCooperativeRebalance() {
+		return this.configurationProperties.getRebalance().getProtocol()
+				== KafkaBinderConfigurationProperties.Rebalance.Protocol.cooperative;
+	}
+
+	private String getGroupInstanceId(ExtendedConsumerProperties<KafkaConsumerProperties> consumerProperties) {
+		String instanceId = this.configurationProperties.getRebalance().getInstanceId();
+		if (StringUtils.hasText(instanceId)) {
+			return instanceId;
+		}
+		// the host name is not unique, e.g. for several instances on the same host
+		Assert.state(consumerProperties.getInstanceCount() > 1,
+				"Static membership requires a unique instance id; set "
+						+ "'spring.cloud.stream.kafka.binder.rebalance.instance-id' or "
+						+ "'spring.cloud.stream.instance-count' and 'spring.cloud.stream.instance-index'");
+		return "instance-" + consumerProperties.getInstanceIndex();
+	}
+
 	private boolean isAutoCommitOnError(
 			ExtendedConsumerProperties<KafkaConsumerProperties> properties) {
 		return properties.getExtension().getAutoCommitOnError() != null
@@ -1483,6 +2033,16 @@ public class KafkaMessageChannelBinder extends
 				new TopicPartitionOffset[listenedPartitions.size()];
 		int i = 0;
 		SeekPosition seekPosition = null;
+		LongSupplier startTimestamp = getStartTimestamp(extendedConsumerProperties.getExtension());
+		if (startTimestamp != null && extendedConsumerProperties.getExtension().isResetOffsets()) {
+			// the container resolves all the timestamps with a single offsetsForTimes()
+			long timestamp = startTimestamp.getAsLong();
+			for (PartitionInfo partition : listenedPartitions) {
+				TopicPartitionOffsets[i++] = new TopicPartitionOffset(partition.topic(), partition.partition(),
+						timestamp, SeekPosition.TIMESTAMP);
+			}
+			return TopicPartitionOffsets;
+		}
 		Object resetTo = checkReset(extendedConsumerProperties.getExtension().isResetOffsets(),
 				consumerFactory.getConfigurationProperties().get(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG));
 		if (resetTo != null) {
@@ -1496,6 +2056,26 @@ public class KafkaMessageChannelBinder extends
 		return TopicPartitionOffsets;
 	}
 
+	/*
+	 * Without a group there are no committed offsets; start from the latest records,
+	 * unless a start offset or timestamp is configured.
+	 */
+	private TopicPartitionOffset[] getDirectAssignmentOffsets(Collection<PartitionInfo> listenedPartitions,
+			KafkaConsumerProperties extension) {
+
+		LongSupplier startTimestamp = getStartTimestamp(extension);
+		Long timestamp = startTimestamp != null ? startTimestamp.getAsLong() : null;
+		return listenedPartitions.stream()
+				.map(partition -> timestamp != null
+						? new TopicPartitionOffset(partition.topic(), partition.partition(), timestamp,
+								SeekPosition.TIMESTAMP)
+						: new TopicPartitionOffset(partition.topic(), partition.partition(),
+								extension.getStartOffset() == KafkaConsumerProperties.StartOffset.earliest
+										? SeekPosition.BEGINNING
+										: SeekPosition.END))
+				.toArray(TopicPartitionOffset[]::new);
+	}
+
 	private String toDisplayString(String original, int maxCharacters) {
 		if (original.length() <= maxCharacters) {
 			return original;
@@ -1522,6 +2102,48 @@ public class KafkaMessageChannelBinder extends
 		return Collections.unmodifiableList(kafkaMessageListenerContainers);
 	}
 
+	/**
+	 * Return the rate limiters of the consumer bindings that have
+	 * {@code rateLimit.enabled}, keyed by binding name.
+	 * @return the rate limiters.
+	 * @since 4.0
+	 */
+	public Map<String, ConsumerRateLimiter> getConsumerRateLimiters() {
+		return Collections.unmodifiableMap(this.rateLimiters);
+	}
+
+	/**
+	 * Return the concurrency scalers of the message driven consumer bindings, keyed by
+	 * binding name.
+	 * @return the concurrency scalers.
+	 * @since 4.0
+	 */
+	public Map<String, ConsumerConcurrencyScaler> getConsumerConcurrencyScalers() {
+		return Collections.unmodifiableMap(this.concurrencyScalers);
+	}
+
+	/**
+	 * Return the rebalance monitors of the message driven consumer bindings that
+	 * subscribe to their topics, keyed by binding name.
+	 * @return the rebalance monitors.
+	 * @since 4.0
+	 */
+	public Map<String, ConsumerRebalanceMonitor> getConsumerRebalanceMonitors() {
+		return Collections.unmodifiableMap(this.rebalanceMonitors);
+	}
+
+	/**
+	 * Return the batch source of a polled consumer binding; see
+	 * {@link KafkaBatchPollableSource}.
+	 * @param bindingName the polled consumer binding name.
+	 * @return the batch source, or null if there is no such polled binding.
+	 * @since 4.0
+	 */
+	@Nullable
+	public KafkaBatchPollableSource getBatchPollableSource(String bindingName) {
+		return this.batchPollableSources.get(bindingName);
+	}
+
 	private final class ProducerConfigurationMessageHandler
 			extends KafkaProducerMessageHandler<byte[], byte[]> {
 
@@ -1575,6 +2197,7 @@ public class KafkaMessageChannelBinder extends
 
 		@Override
 		public void stop() {
+			KafkaMessageChannelBinder.this.bindingProducerFactories.values().remove(this.producerFactory);
 			if (this.producerFactory instanceof DisposableBean) {
 				try {
 					((DisposableBean) producerFactory).destroy();
@@ -1703,8 +2326,8 @@ public class KafkaMessageChannelBinder extends
 		}
 
 		private String keyOrValue(Object keyOrValue) {
-			if (keyOrValue instanceof byte[]) {
-				return "byte[" + ((byte[]) keyOrValue).length + "]";
+			if (BinaryPayloads.isBinary(keyOrValue)) {
+				return keyOrValue.getClass().getSimpleName() + "[" + BinaryPayloads.size(keyOrValue) + "]";
 			}
 			else {
 				return toDisplayString(ObjectUtils.nullSafeToString(keyOrValue), 50);
@@ -0,0 +1,167 @@
+/*
+ * Copyright 2026-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.stream.binder.kafka;
+
+import java.lang.reflect.Type;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.producer.ProducerRecord;
+
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.kafka.core.ConsumerPostProcessor;
+import org.springframework.kafka.listener.adapter.RecordFilterStrategy;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.kafka.support.converter.RecordMessageConverter;
+import org.springframework.lang.Nullable;
+import org.springframework.messaging.Message;
+
+/**
+ * A {@link RecordMessageConverter} that converts the records returned by each poll in
+ * parallel, ahead of the listener. The binding's consumers are wrapped (see
+ * {@link #consumerPostProcessor()}) so that each poll submits the conversion of all its
+ * records to an executor; the listener then takes the converted messages in order, on
+ * the consumer thread, so ordering and offset handling are unchanged.
+ * <p>
+ * Records that must be converted with an {@link Acknowledgment} (manual ack modes) or a
+ * specific payload type are converted on the consumer thread, as usual. Records discarded
+ * by the binding's record filter are not converted ahead, nor are claim check records,
+ * whose payloads are only fetched when the listener takes them.
+ *
+ * @author agent
+ * @since 4.0
+ */
+class ParallelRecordMessageConverter implements RecordMessageConverter {
+
+	private final RecordMessageConverter delegate;
+
+	private final Executor executor;
+
+	private final int minRecords;
+
+	@Nullable
+	private final RecordFilterStrategy<Object, Object> recordFilterStrategy;
+
+	/*
+	 * A consumer is only used by its container thread, which both polls and converts.
+	 */
+	private final ThreadLocal<Map<ConsumerRecord<?, ?>, CompletableFuture<Message<?>>>> conversions =
+			new ThreadLocal<>();
+
+	ParallelRecordMessageConverter(RecordMessageConverter delegate, Executor executor, int minRecords,
+			@Nullable RecordFilterStrategy<Object, Object> recordFilterStrategy) {
+
+		this.delegate = delegate;
+		this.executor = executor;
+		this.minRecords = minRecords;
+		this.recordFilterStrategy = recordFilterStrategy;
+	}
+
+	/**
+	 * Return a consumer post processor that starts converting the records of each poll.
+	 * @return the post processor.
+	 */
+	ConsumerPostProcessor<Object, Object> consumerPostProcessor() {
+		return consumer -> {
+			ProxyFactory proxyFactory = new ProxyFactory(consumer);
+			proxyFactory.addInterface(Consumer.class);
+			Consumer<?, ?>[] proxy = new Consumer<?, ?>[1];
+			proxyFactory.addAdvice((MethodInterceptor) invocation -> {
+				String method = invocation.getMethod().getName();
+				if ("close".equals(method)) {
+					discard();
+				}
+				Object result = invocation.proceed();
+				if ("poll".equals(method) && result instanceof ConsumerRecords) {
+					convertAll((ConsumerRecords<?, ?>) result, proxy[0]);
+				}
+				return result;
+			});
+			@SuppressWarnings("unchecked")
+			Consumer<Object, Object> proxied = (Consumer<Object, Object>) proxyFactory.getProxy();
+			proxy[0] = proxied;
+			return proxied;
+		};
+	}
+
+	void convertAll(ConsumerRecords<?, ?> records, Consumer<?, ?> consumer) {
+		discard();
+		if (records.count() < this.minRecords) {
+			return;
+		}
+		Map<ConsumerRecord<?, ?>, CompletableFuture<Message<?>>> futures = new IdentityHashMap<>(records.count());
+		for (ConsumerRecord<?, ?> record : records) {
+			if (!isConvertedAhead(record)) {
+				continue;
+			}
+			futures.put(record, CompletableFuture.supplyAsync(
+					() -> this.delegate.toMessage(record, null, consumer, null), this.executor));
+		}
+		this.conversions.set(futures);
+	}
+
+	@SuppressWarnings("unchecked")
+	private boolean isConvertedAhead(ConsumerRecord<?, ?> record) {
+		return record.headers().lastHeader(ClaimChecks.CLAIM_CHECK_HEADER) == null
+				&& (this.recordFilterStrategy == null
+						|| !this.recordFilterStrategy.filter((ConsumerRecord<Object, Object>) record));
+	}
+
+	private void discard() {
+		Map<ConsumerRecord<?, ?>, CompletableFuture<Message<?>>> futures = this.conversions.get();
+		if (futures != null) {
+			futures.values().forEach(future -> future.cancel(false));
+			this.conversions.remove();
+		}
+	}
+
+	@Override
+	public Message<?> toMessage(ConsumerRecord<?, ?> record, @Nullable Acknowledgment acknowledgment,
+			@Nullable Consumer<?, ?> consumer, @Nullable Type payloadType) {
+
+		Map<ConsumerRecord<?, ?>, CompletableFuture<Message<?>>> futures = this.conversions.get();
+		CompletableFuture<Message<?>> future = futures != null ? futures.remove(record) : null;
+		if (future == null || acknowledgment != null || (payloadType != null && !Object.class.equals(payloadType))) {
+			if (future != null) {
+				future.cancel(false);
+			}
+			return this.delegate.toMessage(record, acknowledgment, consumer, payloadType);
+		}
+		try {
+			return future.join();
+		}
+		catch (CompletionException ex) {
+			if (ex.getCause() instanceof RuntimeException) {
+				throw (RuntimeException) ex.getCause();
+			}
+			throw ex;
+		}
+	}
+
+	@Override
+	public ProducerRecord<?, ?> fromMessage(Message<?> message, String defaultTopic) {
+		return this.delegate.fromMessage(message, defaultTopic);
+	}
+
+}
@@ -0,0 +1,453 @@
+/*
+ * Copyright 2026-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.stream.binder.kafka;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.apache.kafka.common.TopicPartition;
+
+import org.springframework.context.Lifecycle;
+import org.springframework.integration.IntegrationMessageHeaderAccessor;
+import org.springframework.integration.StaticMessageHeaderAccessor;
+import org.springframework.integration.acks.AcknowledgmentCallback;
+import org.springframework.integration.core.MessageSource;
+import org.springframework.integration.core.Pausable;
+import org.springframework.integration.kafka.inbound.KafkaMessageSource;
+import org.springframework.integration.support.MessageBuilder;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.lang.Nullable;
+import org.springframework.messaging.Message;
+
+/**
+ * A {@link MessageSource} that fetches records from a {@link KafkaMessageSource} on a
+ * background thread into a bounded buffer per partition, so that {@link #receive()} does
+ * not wait for the broker when records are available. {@link #receive()} takes from the
+ * partitions' buffers in turn, so a partition with a large backlog does not delay the
+ * others. Each buffer is capped in records and in payload bytes; only binary payloads
+ * have a known size, so other records are bounded by the record cap alone. When the
+ * buffer of the next fetched record's partition is full, the fetcher waits for the
+ * application to catch up.
+ * <p>
+ * Acknowledgments still go through the delegate, which commits an offset only once all
+ * the records before it are acknowledged; buffered records of revoked partitions must be
+ * discarded with {@link #flush(Collection)} from the consumer rebalance listener.
+ * <p>
+ * The consumer is only used by the fetcher thread: acknowledgments, as well as
+ * {@link #pause()} and {@link #resume()}, are queued and applied by the fetcher before its
+ * next poll, and the {@link KafkaHeaders#CONSUMER} header is removed from the messages.
+ *
+ * @author agent
+ * @since 4.0
+ */
+class PrefetchingKafkaMessageSource implements MessageSource<Object>, Lifecycle, Pausable {
+
+	private static final Log LOG = LogFactory.getLog(PrefetchingKafkaMessageSource.class);
+
+	private final KafkaMessageSource<?, ?> delegate;
+
+	private final int maxRecords;
+
+	private final long maxBytes;
+
+	private final long waitMillis;
+
+	private final ThreadFactory threadFactory;
+
+	// a null key holds the records whose partition is unknown
+	private final Map<TopicPartition, PartitionBuffer> buffers = new LinkedHashMap<>();
+
+	private final ReentrantLock lock = new ReentrantLock();
+
+	private final Condition notFull = this.lock.newCondition();
+
+	private final Queue<Runnable> consumerTasks = new ConcurrentLinkedQueue<>();
+
+	@Nullable
+	private Message<Object> pending;
+
+	private volatile boolean running;
+
+	private volatile boolean paused;
+
+	private Thread fetcher;
+
+	PrefetchingKafkaMessageSource(KafkaMessageSource<?, ?> delegate, int maxRecords, long maxBytes,
+			long waitMillis, ThreadFactory threadFactory) {
+
+		this.delegate = delegate;
+		this.maxRecords = maxRecords;
+		this.maxBytes = maxBytes;
+		this.waitMillis = waitMillis;
+		this.threadFactory = threadFactory;
+	}
+
+	@Override
+	public Message<Object> receive() {
+		this.lock.lock();
+		try {
+			Iterator<Map.Entry<TopicPartition, PartitionBuffer>> iterator = this.buffers.entrySet().iterator();
+			while (iterator.hasNext()) {
+				Map.Entry<TopicPartition, PartitionBuffer> entry = iterator.next();
+				TopicPartition partition = entry.getKey();
+				PartitionBuffer buffer = entry.getValue();
+				Message<Object> message = buffer.poll();
+				if (message != null) {
+					// move the partition behind the others, so that they are read in turn
+					iterator.remove();
+					if (!buffer.isEmpty()) {
+						this.buffers.put(partition, buffer);
+					}
+					this.notFull.signal();
+					return message;
+				}
+				iterator.remove();
+			}
+			return null;
+		}
+		finally {
+			this.lock.unlock();
+		}
+	}
+
+	/**
+	 * Discard the buffered records of the given partitions; they will be fetched again
+	 * by the partitions' next owner.
+	 * @param partitions the partitions.
+	 */
+	void flush(Collection<TopicPartition> partitions) {
+		this.lock.lock();
+		try {
+			this.buffers.keySet().removeAll(partitions);
+			TopicPartition pendingPartition = this.pending != null ? partition(this.pending) : null;
+			if (pendingPartition != null && partitions.contains(pendingPartition)) {
+				this.pending = null;
+			}
+			this.notFull.signal();
+		}
+		finally {
+			this.lock.unlock();
+		}
+	}
+
+	int getBufferedRecords() {
+		this.lock.lock();
+		try {
+			return this.buffers.values().stream().mapToInt(PartitionBuffer::size).sum();
+		}
+		finally {
+			this.lock.unlock();
+		}
+	}
+
+	@Override
+	public void pause() {
+		this.paused = true;
+		execute(this.delegate::pause);
+	}
+
+	@Override
+	public void resume() {
+		this.paused = false;
+		execute(this.delegate::resume);
+	}
+
+	@Override
+	public boolean isPaused() {
+		return this.paused;
+	}
+
+	@Override
+	public synchronized void start() {
+		if (!this.running) {
+			this.delegate.start();
+			this.running = true;
+			this.fetcher = this.threadFactory.newThread(this::fetch);
+			this.fetcher.start();
+		}
+	}
+
+	@Override
+	public synchronized void stop() {
+		if (this.running) {
+			this.running = false;
+			this.lock.lock();
+			try {
+				this.notFull.signal();
+			}
+			finally {
+				this.lock.unlock();
+			}
+			try {
+				this.fetcher.join(this.waitMillis * 2);
+			}
+			catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+			}
+			// the fetcher is gone; apply the acknowledgments it did not get to
+			runConsumerTasks();
+			this.delegate.stop();
+			this.lock.lock();
+			try {
+				this.buffers.clear();
+				this.pending = null;
+			}
+			finally {
+				this.lock.unlock();
+			}
+		}
+	}
+
+	@Override
+	public boolean isRunning() {
+		return this.running;
+	}
+
+	private void fetch() {
+		while (this.running) {
+			try {
+				runConsumerTasks();
+				if (!hasPending()) {
+					Message<Object> message = this.delegate.receive();
+					if (message != null) {
+						hold(confine(message));
+					}
+				}
+				offerPending();
+			}
+			catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+				return;
+			}
+			catch (Exception ex) {
+				LOG.error("Failed to prefetch records", ex);
+				sleep();
+			}
+		}
+	}
+
+	/*
+	 * Hand a consumer operation over to the fetcher thread, waking it up if it is waiting
+	 * for the application to catch up.
+	 */
+	private void execute(Runnable task) {
+		this.consumerTasks.add(task);
+		this.lock.lock();
+		try {
+			this.notFull.signal();
+		}
+		finally {
+			this.lock.unlock();
+		}
+	}
+
+	private void runConsumerTasks() {
+		Runnable task;
+		while ((task = this.consumerTasks.poll()) != null) {
+			try {
+				task.run();
+			}
+			catch (Exception ex) {
+				LOG.error("Failed to apply a consumer operation", ex);
+			}
+		}
+	}
+
+	private Message<Object> confine(Message<Object> message) {
+		MessageBuilder<Object> builder = MessageBuilder.fromMessage(message)
+				.removeHeader(KafkaHeaders.CONSUMER);
+		AcknowledgmentCallback callback = StaticMessageHeaderAccessor.getAcknowledgmentCallback(message);
+		if (callback != null) {
+			builder.setHeader(IntegrationMessageHeaderAccessor.ACKNOWLEDGMENT_CALLBACK,
+					new FetcherAcknowledgmentCallback(callback, partition(message)));
+		}
+		return builder.build();
+	}
+
+	private boolean hasPending() {
+		this.lock.lock();
+		try {
+			return this.pending != null;
+		}
+		finally {
+			this.lock.unlock();
+		}
+	}
+
+	private void hold(Message<Object> message) {
+		this.lock.lock();
+		try {
+			this.pending = message;
+		}
+		finally {
+			this.lock.unlock();
+		}
+	}
+
+	/*
+	 * Move the fetched record to its partition's buffer, waiting for room (or for a
+	 * consumer operation to apply) if that buffer is full.
+	 */
+	private void offerPending() throws InterruptedException {
+		this.lock.lock();
+		try {
+			Message<Object> message = this.pending;
+			if (message == null) {
+				return;
+			}
+			PartitionBuffer buffer = this.buffers.computeIfAbsent(partition(message), key -> new PartitionBuffer());
+			if (buffer.isFull() && this.consumerTasks.isEmpty()) {
+				this.notFull.await(this.waitMillis, TimeUnit.MILLISECONDS);
+				// the partition may have been read from or flushed in the meantime
+				message = this.pending;
+				if (message == null) {
+					return;
+				}
+				buffer = this.buffers.computeIfAbsent(partition(message), key -> new PartitionBuffer());
+			}
+			if (!buffer.isFull()) {
+				buffer.add(message);
+				this.pending = null;
+			}
+		}
+		finally {
+			this.lock.unlock();
+		}
+	}
+
+	private void sleep() {
+		try {
+			Thread.sleep(this.waitMillis);
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private static long size(Message<?> message) {
+		return BinaryPayloads.size(message.getPayload());
+	}
+
+	@Nullable
+	private static TopicPartition partition(Message<?> message) {
+		Object topic = message.getHeaders().get(KafkaHeaders.RECEIVED_TOPIC);
+		Object partition = message.getHeaders().get(KafkaHeaders.RECEIVED_PARTITION_ID);
+		if (topic instanceof String && partition instanceof Integer) {
+			return new TopicPartition((String) topic, (Integer) partition);
+		}
+		return null;
+	}
+
+	/**
+	 * The buffered records of one partition, in fetch order.
+	 */
+	private final class PartitionBuffer {
+
+		private final Deque<Message<Object>> records = new ArrayDeque<>();
+
+		private long bytes;
+
+		void add(Message<Object> message) {
+			this.records.add(message);
+			this.bytes += size(message);
+		}
+
+		@Nullable
+		Message<Object> poll() {
+			Message<Object> message = this.records.poll();
+			if (message != null) {
+				this.bytes -= size(message);
+			}
+			return message;
+		}
+
+		boolean isFull() {
+			return this.records.size() >= PrefetchingKafkaMessageSource.this.maxRecords
+					|| this.bytes >= PrefetchingKafkaMessageSource.this.maxBytes;
+		}
+
+		boolean isEmpty() {
+			return this.records.isEmpty();
+		}
+
+		int size() {
+			return this.records.size();
+		}
+
+	}
+
+	/**
+	 * Queues the acknowledgment for the fetcher thread; after a requeue, the buffered
+	 * records of the partition are discarded, since the consumer has been positioned
+	 * back on the requeued record.
+	 */
+	private final class FetcherAcknowledgmentCallback implements AcknowledgmentCallback {
+
+		private final AcknowledgmentCallback delegate;
+
+		@Nullable
+		private final TopicPartition partition;
+
+		private volatile boolean acknowledged;
+
+		FetcherAcknowledgmentCallback(AcknowledgmentCallback delegate, @Nullable TopicPartition partition) {
+			this.delegate = delegate;
+			this.partition = partition;
+		}
+
+		@Override
+		public void acknowledge(Status status) {
+			this.acknowledged = true;
+			execute(() -> {
+				this.delegate.acknowledge(status);
+				if (Status.REQUEUE.equals(status) && this.partition != null) {
+					flush(Collections.singletonList(this.partition));
+				}
+			});
+		}
+
+		@Override
+		public boolean isAcknowledged() {
+			return this.acknowledged;
+		}
+
+		@Override
+		public void noAutoAck() {
+			this.delegate.noAutoAck();
+		}
+
+		@Override
+		public boolean isAutoAck() {
+			return this.delegate.isAutoAck();
+		}
+
+	}
+
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright 2026-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.stream.binder.kafka;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import org.apache.kafka.clients.producer.Producer;
+import org.apache.kafka.common.Metric;
+import org.apache.kafka.common.MetricName;
+
+import org.springframework.kafka.core.ProducerFactory;
+
+/**
+ * A {@link KafkaBindingBackpressureIndicator} that reports the buffer utilization of
+ * the producers of a set of producer bindings; the highest utilization wins.
+ * Transactional and producer-per-thread factories are ignored, since their producers
+ * cannot be inspected from outside the sending thread. The shared producer of each
+ * binding is obtained once and released when its factory closes it.
+ *
+ * @author agent
+ * @since 4.0
+ */
+class ProducerBufferBackpressureIndicator implements KafkaBindingBackpressureIndicator {
+
+	private static final String PRODUCER_METRICS_GROUP = "producer-metrics";
+
+	private static final String BUFFER_AVAILABLE_BYTES = "buffer-available-bytes";
+
+	private static final String BUFFER_TOTAL_BYTES = "buffer-total-bytes";
+
+	private final String[] producerBindings;
+
+	private final Function<String, ProducerFactory<?, ?>> producerFactoryLookup;
+
+	private final Map<String, Producer<?, ?>> producers = new ConcurrentHashMap<>();
+
+	private final Set<ProducerFactory<?, ?>> listenedFactories = ConcurrentHashMap.newKeySet();
+
+	ProducerBufferBackpressureIndicator(String[] producerBindings,
+			Function<String, ProducerFactory<?, ?>> producerFactoryLookup) {
+
+		this.producerBindings = producerBindings;
+		this.producerFactoryLookup = producerFactoryLookup;
+	}
+
+	@Override
+	public double getPressure(String bindingName) {
+		double pressure = 0;
+		for (String producerBinding : this.producerBindings) {
+			Producer<?, ?> producer = getProducer(producerBinding);
+			if (producer != null) {
+				pressure = Math.max(pressure, bufferUtilization(producer));
+			}
+		}
+		return pressure;
+	}
+
+	@SuppressWarnings("unchecked")
+	private Producer<?, ?> getProducer(String producerBinding) {
+		Producer<?, ?> producer = this.producers.get(producerBinding);
+		if (producer == null) {
+			ProducerFactory<Object, Object> producerFactory =
+					(ProducerFactory<Object, Object>) this.producerFactoryLookup.apply(producerBinding);
+			if (producerFactory == null || producerFactory.transactionCapable()
+					|| producerFactory.isProducerPerThread()) {
+				return null;
+			}
+			if (this.listenedFactories.add(producerFactory)) {
+				producerFactory.addListener(new ProducerFactory.Listener<Object, Object>() {
+
+					@Override
+					public void producerRemoved(String id, Producer<Object, Object> removed) {
+						ProducerBufferBackpressureIndicator.this.producers.clear();
+					}
+
+				});
+			}
+			producer = producerFactory.createProducer();
+			this.producers.put(producerBinding, producer);
+		}
+		return producer;
+	}
+
+	static double bufferUtilization(Producer<?, ?> producer) {
+		double available = -1;
+		double total = -1;
+		for (Map.Entry<MetricName, ? extends Metric> entry : producer.metrics().entrySet()) {
+			MetricName metricName = entry.getKey();
+			if (PRODUCER_METRICS_GROUP.equals(metricName.group())) {
+				if (BUFFER_AVAILABLE_BYTES.equals(metricName.name())) {
+					available = ((Number) entry.getValue().metricValue()).doubleValue();
+				}
+				else if (BUFFER_TOTAL_BYTES.equals(metricName.name())) {
+					total = ((Number) entry.getValue().metricValue()).doubleValue();
+				}
+			}
+		}
+		if (available < 0 || total <= 0) {
+			return 0;
+		}
+		return 1 - available / total;
+	}
+
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright 2026-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.stream.binder.kafka;
+
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+
+import org.springframework.kafka.listener.BatchInterceptor;
+import org.springframework.kafka.listener.RecordInterceptor;
+
+/**
+ * Takes tokens from a {@link ConsumerRateLimiter} for each record (or batch) before it
+ * is passed to the listener; when the limiter is in debt, the listener container is
+ * paused and resumed on the flow control thread once the debt is paid back. Records
+ * that have already been fetched are never delayed on the consumer thread.
+ *
+ * @author agent
+ * @since 4.0
+ */
+class RateLimitingInterceptor {
+
+	static final String PAUSE_REASON = "rateLimit";
+
+	private final ConsumerRateLimiter rateLimiter;
+
+	private final ConsumerFlowController flowController;
+
+	private final ScheduledExecutorService scheduler;
+
+	private final AtomicBoolean throttling = new AtomicBoolean();
+
+	private volatile long throttleStart;
+
+	RateLimitingInterceptor(ConsumerRateLimiter rateLimiter, ConsumerFlowController flowController,
+			ScheduledExecutorService scheduler) {
+
+		this.rateLimiter = rateLimiter;
+		this.flowController = flowController;
+		this.scheduler = scheduler;
+	}
+
+	RecordInterceptor<Object, Object> recordInterceptor() {
+		return (record, consumer) -> {
+			throttle(this.rateLimiter.acquire(1, size(record)));
+			return record;
+		};
+	}
+
+	BatchInterceptor<Object, Object> batchInterceptor() {
+		return (records, consumer) -> {
+			long bytes = 0;
+			for (ConsumerRecord<Object, Object> record : records) {
+				bytes += size(record);
+			}
+			throttle(this.rateLimiter.acquire(records.count(), bytes));
+			return records;
+		};
+	}
+
+	private void throttle(long waitNanos) {
+		if (waitNanos > 0 && this.throttling.compareAndSet(false, true)) {
+			this.throttleStart = System.nanoTime();
+			this.flowController.pause(PAUSE_REASON);
+			this.scheduler.schedule(this::resumeWhenAllowed, waitNanos, TimeUnit.NANOSECONDS);
+		}
+	}
+
+	private void resumeWhenAllowed() {
+		long waitNanos = this.rateLimiter.getWaitNanos();
+		if (waitNanos > 0) {
+			this.scheduler.schedule(this::resumeWhenAllowed, waitNanos, TimeUnit.NANOSECONDS);
+		}
+		else {
+			this.flowController.resume(PAUSE_REASON);
+			this.rateLimiter.throttled(System.nanoTime() - this.throttleStart);
+			this.throttling.set(false);
+		}
+	}
+
+	private static long size(ConsumerRecord<?, ?> record) {
+		return Math.max(0, record.serializedKeySize()) + Math.max(0, record.serializedValueSize());
+	}
+
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright 2026-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.stream.binder.kafka;
+
+import java.nio.charset.StandardCharsets;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.header.Header;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * The root object of a consumer binding's {@code recordFilterExpression}; a cheap view
+ * of the raw {@link ConsumerRecord} that decodes header values and the key only on
+ * demand, for example {@code header('eventType') == 'OrderCreated'}.
+ *
+ * @author agent
+ * @since 4.0
+ */
+public final class RawRecord {
+
+	private final ConsumerRecord<?, ?> record;
+
+	RawRecord(ConsumerRecord<?, ?> record) {
+		this.record = record;
+	}
+
+	public ConsumerRecord<?, ?> getRecord() {
+		return this.record;
+	}
+
+	public String getTopic() {
+		return this.record.topic();
+	}
+
+	public int getPartition() {
+		return this.record.partition();
+	}
+
+	public long getOffset() {
+		return this.record.offset();
+	}
+
+	public long getTimestamp() {
+		return this.record.timestamp();
+	}
+
+	@Nullable
+	public Object getKey() {
+		return this.record.key();
+	}
+
+	/**
+	 * Return the key decoded as a UTF-8 string (if it is a {@code byte[]}).
+	 * @return the key.
+	 */
+	@Nullable
+	public String getKeyAsString() {
+		Object key = this.record.key();
+		return key instanceof byte[] ? new String((byte[]) key, StandardCharsets.UTF_8)
+				: key != null ? key.toString() : null;
+	}
+
+	/**
+	 * Return whether the record has a header with the given name.
+	 * @param name the header name.
+	 * @return true if present.
+	 */
+	public boolean hasHeader(String name) {
+		return this.record.headers().lastHeader(name) != null;
+	}
+
+	/**
+	 * Return the value of the last header with the given name, decoded as a UTF-8
+	 * string.
+	 * @param name the header name.
+	 * @return the value or null.
+	 */
+	@Nullable
+	public String header(String name) {
+		byte[] value = headerBytes(name);
+		return value != null ? new String(value, StandardCharsets.UTF_8) : null;
+	}
+
+	/**
+	 * Return the raw value of the last header with the given name.
+	 * @param name the header name.
+	 * @return the value or null.
+	 */
+	@Nullable
+	public byte[] headerBytes(String name) {
+		Header header = this.record.headers().lastHeader(name);
+		return header != null ? header.value() : null;
+	}
+
+}
@@ -0,0 +1,728 @@
+/*
+ * Copyright 2026-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.stream.binder.kafka;
+
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRebalanceListener;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.clients.consumer.OffsetCommitCallback;
+import org.apache.kafka.clients.producer.Callback;
+import org.apache.kafka.clients.producer.Producer;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.clients.producer.RecordMetadata;
+import org.apache.kafka.common.PartitionInfo;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.apache.kafka.common.utils.Utils;
+
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.kafka.core.ConsumerPostProcessor;
+import org.springframework.kafka.core.ProducerPostProcessor;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Chunking support: on the producer side, binary values larger than the chunk size are
+ * split into chunks sent in order to the same partition, each carrying the
+ * {@value #CHUNK_ID_HEADER}, {@value #CHUNK_INDEX_HEADER} and {@value #CHUNK_COUNT_HEADER}
+ * headers; on the consumer side, the chunks returned by {@code poll()} are buffered until
+ * the last chunk of a record arrives, which is then replaced by the reassembled record.
+ * <p>
+ * The reassembled record has the offset of its last chunk. Offset commits are capped at
+ * the first chunk of the oldest incomplete record of each partition, so incomplete
+ * records are consumed again after a restart or rebalance, and seeks to a reassembled
+ * record are moved back to its first chunk.
+ * <p>
+ * Incomplete records are not discarded to save memory: when the buffer is full, a
+ * partition without incomplete records of its own is positioned back on the first chunk
+ * of its next chunked record and paused, until enough buffered records complete. An
+ * incomplete record that receives no chunk during the orphan timeout, e.g. because its
+ * producer failed between its chunks, is discarded with an error log, so that it no
+ * longer holds back the commits of its partition and the buffer.
+ *
+ * @author agent
+ * @since 4.0
+ */
+final class RecordChunks {
+
+	/**
+	 * Header with the id of the chunked record (16 bytes).
+	 */
+	static final String CHUNK_ID_HEADER = "x-chunk-id";
+
+	/**
+	 * Header with the index of the chunk (int).
+	 */
+	static final String CHUNK_INDEX_HEADER = "x-chunk-index";
+
+	/**
+	 * Header with the number of chunks of the record (int).
+	 */
+	static final String CHUNK_COUNT_HEADER = "x-chunk-count";
+
+	private static final Log LOG = LogFactory.getLog(RecordChunks.class);
+
+	private RecordChunks() {
+	}
+
+	/**
+	 * Return a producer post processor that splits large values into chunks.
+	 * @param chunkSize the maximum size of a chunk.
+	 * @return the post processor.
+	 */
+	static <K, V> ProducerPostProcessor<K, V> producerPostProcessor(int chunkSize) {
+		Assert.isTrue(chunkSize > 0, "'chunkSize' must be positive");
+		return producer -> {
+			ProxyFactory proxyFactory = new ProxyFactory(producer);
+			proxyFactory.addInterface(Producer.class);
+			proxyFactory.addAdvice((MethodInterceptor) invocation -> {
+				Object[] arguments = invocation.getArguments();
+				if ("send".equals(invocation.getMethod().getName()) && arguments.length > 0
+						&& arguments[0] instanceof ProducerRecord
+						&& BinaryPayloads.size(((ProducerRecord<?, ?>) arguments[0]).value()) > chunkSize) {
+
+					@SuppressWarnings("unchecked")
+					Producer<Object, Object> target = (Producer<Object, Object>) invocation.getThis();
+					return sendChunks(target, (ProducerRecord<?, ?>) arguments[0],
+							arguments.length > 1 ? (Callback) arguments[1] : null, chunkSize);
+				}
+				return invocation.proceed();
+			});
+			@SuppressWarnings("unchecked")
+			Producer<K, V> proxied = (Producer<K, V>) proxyFactory.getProxy();
+			return proxied;
+		};
+	}
+
+	private static Future<RecordMetadata> sendChunks(Producer<Object, Object> producer, ProducerRecord<?, ?> record,
+			@Nullable Callback callback, int chunkSize) {
+
+		int partition = record.partition() != null ? record.partition() : partitionFor(producer, record);
+		List<ProducerRecord<Object, Object>> chunks = split(record, partition, chunkSize);
+		ChunksCallback chunksCallback = new ChunksCallback(chunks.size(), callback);
+		// the remaining chunks are not sent once one failed; the consumers discard the record
+		for (int i = 0; i < chunks.size() && !chunksCallback.hasFailed(); i++) {
+			try {
+				producer.send(chunks.get(i), chunksCallback);
+			}
+			catch (RuntimeException ex) {
+				if (i == 0) {
+					throw ex;
+				}
+				chunksCallback.onCompletion(null, ex);
+			}
+		}
+		return chunksCallback.future;
+	}
+
+	/*
+	 * All chunks must go to the same partition; use the default partitioner's choice for
+	 * a binary key and a random available partition without a key.
+	 */
+	private static int partitionFor(Producer<?, ?> producer, ProducerRecord<?, ?> record) {
+		List<PartitionInfo> partitions = producer.partitionsFor(record.topic());
+		Object key = record.key();
+		if (key == null) {
+			List<PartitionInfo> available = partitions.stream()
+					.filter(info -> info.leader() != null)
+					.collect(Collectors.toList());
+			List<PartitionInfo> candidates = available.isEmpty() ? partitions : available;
+			return candidates.get(ThreadLocalRandom.current().nextInt(candidates.size())).partition();
+		}
+		Assert.state(BinaryPayloads.isBinary(key),
+				() -> "Chunked records with a " + key.getClass().getName() + " key require a partition");
+		return Utils.toPositive(Utils.murmur2(BinaryPayloads.toByteArray(key))) % partitions.size();
+	}
+
+	/**
+	 * Split a record; the original headers are only added to the first chunk.
+	 * @param record the record.
+	 * @param partition the partition of the chunks.
+	 * @param chunkSize the maximum size of a chunk.
+	 * @return the chunks.
+	 */
+	static List<ProducerRecord<Object, Object>> split(ProducerRecord<?, ?> record, int partition, int chunkSize) {
+		Object value = record.value();
+		byte[] payload = BinaryPayloads.toByteArray(value);
+		int count = (payload.length + chunkSize - 1) / chunkSize;
+		UUID uuid = UUID.randomUUID();
+		byte[] id = ByteBuffer.allocate(16)
+				.putLong(uuid.getMostSignificantBits())
+				.putLong(uuid.getLeastSignificantBits())
+				.array();
+		byte[] countHeader = toBytes(count);
+		List<ProducerRecord<Object, Object>> chunks = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			byte[] chunk = Arrays.copyOfRange(payload, i * chunkSize, Math.min(payload.length, (i + 1) * chunkSize));
+			Headers headers = i == 0 ? new RecordHeaders(record.headers().toArray()) : new RecordHeaders();
+			headers.add(CHUNK_ID_HEADER, id);
+			headers.add(CHUNK_INDEX_HEADER, toBytes(i));
+			headers.add(CHUNK_COUNT_HEADER, countHeader);
+			chunks.add(new ProducerRecord<>(record.topic(), partition, record.timestamp(), record.key(),
+					BinaryPayloads.fromByteArray(chunk, value.getClass()), headers));
+		}
+		return chunks;
+	}
+
+	private static byte[] toBytes(int value) {
+		return ByteBuffer.allocate(Integer.BYTES).putInt(value).array();
+	}
+
+	private static int toInt(Header header) {
+		return ByteBuffer.wrap(header.value()).getInt();
+	}
+
+	/**
+	 * Return a consumer post processor that reassembles chunked records; each consumer
+	 * gets its own {@link Reassembler}.
+	 * @param maxBytes the number of chunk bytes held for incomplete records above which
+	 * partitions without incomplete records are paused.
+	 * @param orphanTimeout the time in milliseconds after which an incomplete record that
+	 * received no chunk is discarded; 0 or less to never discard incomplete records.
+	 * @return the post processor.
+	 */
+	static ConsumerPostProcessor<Object, Object> consumerPostProcessor(long maxBytes, long orphanTimeout) {
+		return consumer -> {
+			Reassembler reassembler = new Reassembler(maxBytes, orphanTimeout, System::currentTimeMillis);
+			ProxyFactory proxyFactory = new ProxyFactory(consumer);
+			proxyFactory.addInterface(Consumer.class);
+			proxyFactory.addAdvice((MethodInterceptor) invocation -> reassembler.invoke(invocation));
+			@SuppressWarnings("unchecked")
+			Consumer<Object, Object> proxied = (Consumer<Object, Object>) proxyFactory.getProxy();
+			return proxied;
+		};
+	}
+
+	/**
+	 * Completes the callback and the future of a chunked send once, when all chunks are
+	 * sent or the first one fails.
+	 */
+	private static final class ChunksCallback implements Callback {
+
+		private final CompletableFuture<RecordMetadata> future = new CompletableFuture<>();
+
+		private final AtomicInteger remaining;
+
+		private final AtomicBoolean failed = new AtomicBoolean();
+
+		@Nullable
+		private final Callback delegate;
+
+		ChunksCallback(int count, @Nullable Callback delegate) {
+			this.remaining = new AtomicInteger(count);
+			this.delegate = delegate;
+		}
+
+		boolean hasFailed() {
+			return this.failed.get();
+		}
+
+		@Override
+		public void onCompletion(RecordMetadata metadata, Exception exception) {
+			if (exception != null) {
+				if (this.failed.compareAndSet(false, true)) {
+					this.future.completeExceptionally(exception);
+					if (this.delegate != null) {
+						this.delegate.onCompletion(metadata, exception);
+					}
+				}
+			}
+			// callbacks of the same partition complete in order, so this is the last chunk
+			else if (this.remaining.decrementAndGet() == 0 && !this.failed.get()) {
+				this.future.complete(metadata);
+				if (this.delegate != null) {
+					this.delegate.onCompletion(metadata, null);
+				}
+			}
+		}
+
+	}
+
+	/**
+	 * The consumer side; like the consumer it wraps, not thread safe.
+	 */
+	static class Reassembler {
+
+		private final Map<TopicPartition, PartitionChunks> partitions = new HashMap<>();
+
+		/*
+		 * Incomplete records, oldest first.
+		 */
+		private final Set<Pending> pendingOrder = new LinkedHashSet<>();
+
+		/*
+		 * Partitions paused because the buffer is full -> size of the first chunk they
+		 * wait to buffer.
+		 */
+		private final Map<TopicPartition, Long> waiting = new HashMap<>();
+
+		private final long maxBytes;
+
+		private final long orphanTimeout;
+
+		private final LongSupplier clock;
+
+		private long bufferedBytes;
+
+		Reassembler(long maxBytes, long orphanTimeout, LongSupplier clock) {
+			this.maxBytes = maxBytes;
+			this.orphanTimeout = orphanTimeout;
+			this.clock = clock;
+		}
+
+		@SuppressWarnings("unchecked")
+		Object invoke(MethodInvocation invocation) throws Throwable {
+			Object[] arguments = invocation.getArguments();
+			Consumer<Object, Object> consumer = (Consumer<Object, Object>) invocation.getThis();
+			switch (invocation.getMethod().getName()) {
+				case "poll":
+					discardOrphans(consumer);
+					resumeWaiting(consumer);
+					Object records = invocation.proceed();
+					return records instanceof ConsumerRecords
+							? reassemble(consumer, (ConsumerRecords<Object, Object>) records)
+							: records;
+				case "commitSync":
+				case "commitAsync":
+					return commit(invocation, consumer);
+				case "seek":
+					TopicPartition partition = (TopicPartition) arguments[0];
+					if (arguments[1] instanceof OffsetAndMetadata) {
+						OffsetAndMetadata offset = (OffsetAndMetadata) arguments[1];
+						arguments[1] = new OffsetAndMetadata(seek(partition, offset.offset()), offset.leaderEpoch(),
+								offset.metadata());
+					}
+					else {
+						arguments[1] = seek(partition, (Long) arguments[1]);
+					}
+					return invocation.proceed();
+				case "seekToBeginning":
+				case "seekToEnd":
+					Collection<TopicPartition> seeked = (Collection<TopicPartition>) arguments[0];
+					discard(seeked.isEmpty() ? new HashSet<>(this.partitions.keySet()) : seeked);
+					return invocation.proceed();
+				case "subscribe":
+					if (arguments.length == 1) {
+						// also clear the chunks of revoked partitions without a listener
+						return arguments[0] instanceof Pattern
+								? subscribe(consumer, (Pattern) arguments[0])
+								: subscribe(consumer, (Collection<String>) arguments[0]);
+					}
+					arguments[1] = rebalanceListener((ConsumerRebalanceListener) arguments[1]);
+					return invocation.proceed();
+				case "assign":
+					Set<TopicPartition> retained = new HashSet<>(this.partitions.keySet());
+					retained.removeAll((Collection<TopicPartition>) arguments[0]);
+					discard(retained);
+					return invocation.proceed();
+				case "unsubscribe":
+				case "close":
+					discard(new HashSet<>(this.partitions.keySet()));
+					return invocation.proceed();
+				default:
+					return invocation.proceed();
+			}
+		}
+
+		private Object subscribe(Consumer<Object, Object> consumer, Pattern pattern) {
+			consumer.subscribe(pattern, rebalanceListener(null));
+			return null;
+		}
+
+		private Object subscribe(Consumer<Object, Object> consumer, Collection<String> topics) {
+			consumer.subscribe(topics, rebalanceListener(null));
+			return null;
+		}
+
+		ConsumerRebalanceListener rebalanceListener(@Nullable ConsumerRebalanceListener delegate) {
+			return new ConsumerRebalanceListener() {
+
+				@Override
+				public void onPartitionsRevoked(Collection<TopicPartition> partitions) {
+					// the delegate may commit, capped by the chunks of these partitions
+					if (delegate != null) {
+						delegate.onPartitionsRevoked(partitions);
+					}
+					discard(partitions);
+				}
+
+				@Override
+				public void onPartitionsLost(Collection<TopicPartition> partitions) {
+					if (delegate != null) {
+						delegate.onPartitionsLost(partitions);
+					}
+					discard(partitions);
+				}
+
+				@Override
+				public void onPartitionsAssigned(Collection<TopicPartition> partitions) {
+					discard(partitions);
+					if (delegate != null) {
+						delegate.onPartitionsAssigned(partitions);
+					}
+				}
+
+			};
+		}
+
+		ConsumerRecords<Object, Object> reassemble(Consumer<Object, Object> consumer,
+				ConsumerRecords<Object, Object> records) {
+
+			if (records.isEmpty()) {
+				return records;
+			}
+			Map<TopicPartition, List<ConsumerRecord<Object, Object>>> reassembled = new LinkedHashMap<>();
+			boolean changed = false;
+			for (TopicPartition partition : records.partitions()) {
+				List<ConsumerRecord<Object, Object>> polled = records.records(partition);
+				List<ConsumerRecord<Object, Object>> result = new ArrayList<>(polled.size());
+				for (ConsumerRecord<Object, Object> record : polled) {
+					if (mustWait(partition, record)) {
+						// this record and the following ones are fetched again once resumed
+						pauseAt(consumer, partition, record);
+						changed = true;
+						break;
+					}
+					ConsumerRecord<Object, Object> next = reassemble(partition, record);
+					if (next != null) {
+						result.add(next);
+					}
+					changed |= next != record;
+				}
+				if (!result.isEmpty()) {
+					reassembled.put(partition, result);
+				}
+			}
+			return changed ? new ConsumerRecords<>(reassembled) : records;
+		}
+
+		@Nullable
+		private ConsumerRecord<Object, Object> reassemble(TopicPartition partition, ConsumerRecord<Object, Object> record) {
+			PartitionChunks chunks = this.partitions.computeIfAbsent(partition, key -> new PartitionChunks());
+			// records before the offset of a seek moved back to a first chunk were handled already
+			boolean replayed = record.offset() < chunks.replayedBefore;
+			Header id = record.headers().lastHeader(CHUNK_ID_HEADER);
+			if (id == null || !BinaryPayloads.isBinary(record.value())) {
+				return replayed ? null : record;
+			}
+			int index = toInt(record.headers().lastHeader(CHUNK_INDEX_HEADER));
+			ByteBuffer key = ByteBuffer.wrap(id.value());
+			Pending pending = chunks.pending.get(key);
+			if (pending == null) {
+				if (index != 0) {
+					if (chunks.orphans.remove(key) && LOG.isWarnEnabled()) {
+						LOG.warn("Discarding chunk " + index + " at " + partition + "@" + record.offset()
+								+ " of a chunked record discarded after the orphan timeout");
+					}
+					else if (LOG.isDebugEnabled()) {
+						LOG.debug("Discarding chunk " + index + " at " + partition + "@" + record.offset()
+								+ " without its first chunk");
+					}
+					return null;
+				}
+				pending = new Pending(partition, key, record, toInt(record.headers().lastHeader(CHUNK_COUNT_HEADER)));
+				// a first chunk after an orphan timeout replaces the discarded record
+				chunks.orphans.remove(key);
+				chunks.pending.put(key, pending);
+				this.pendingOrder.add(pending);
+			}
+			else if (index < pending.chunks.size()) {
+				// sent again or consumed again after a seek
+				return null;
+			}
+			else if (index > pending.chunks.size()) {
+				LOG.warn("Discarding the chunked record at " + partition + "@" + pending.first.offset()
+						+ "; chunk " + pending.chunks.size() + " is missing");
+				remove(pending);
+				return null;
+			}
+			byte[] bytes = BinaryPayloads.toByteArray(record.value());
+			pending.lastChunkTime = this.clock.getAsLong();
+			pending.chunks.add(bytes);
+			pending.bytes += bytes.length;
+			this.bufferedBytes += bytes.length;
+			if (pending.chunks.size() == pending.count) {
+				remove(pending);
+				chunks.reassembled.put(record.offset(), pending.first.offset());
+				return replayed ? null : pending.reassemble(record);
+			}
+			return null;
+		}
+
+		/*
+		 * A new chunked record waits while the buffer is full, unless its partition has
+		 * incomplete records of its own: they could not complete while it is paused.
+		 */
+		private boolean mustWait(TopicPartition partition, ConsumerRecord<Object, Object> record) {
+			Header id = record.headers().lastHeader(CHUNK_ID_HEADER);
+			if (id == null || !BinaryPayloads.isBinary(record.value()) || this.bufferedBytes == 0) {
+				return false;
+			}
+			PartitionChunks chunks = this.partitions.get(partition);
+			return (chunks == null || chunks.pending.isEmpty())
+					&& toInt(record.headers().lastHeader(CHUNK_INDEX_HEADER)) == 0
+					&& this.bufferedBytes + BinaryPayloads.size(record.value()) > this.maxBytes;
+		}
+
+		private void pauseAt(Consumer<Object, Object> consumer, TopicPartition partition,
+				ConsumerRecord<Object, Object> record) {
+
+			if (LOG.isWarnEnabled()) {
+				LOG.warn("Pausing " + partition + " at offset " + record.offset() + "; the reassembly buffer holds "
+						+ this.bufferedBytes + " bytes of incomplete records at " + this.pendingOrder.stream()
+								.map(pending -> pending.partition + "@" + pending.first.offset())
+								.collect(Collectors.toList()));
+			}
+			consumer.seek(partition, record.offset());
+			consumer.pause(Collections.singleton(partition));
+			this.waiting.put(partition, BinaryPayloads.size(record.value()));
+		}
+
+		/*
+		 * A record whose producer failed between its chunks would otherwise pin the
+		 * committed offset of its partition and fill the buffer for good; the time spent
+		 * paused, e.g. by the application, does not count.
+		 */
+		void discardOrphans(Consumer<Object, Object> consumer) {
+			if (this.orphanTimeout <= 0 || this.pendingOrder.isEmpty()) {
+				return;
+			}
+			long now = this.clock.getAsLong();
+			Set<TopicPartition> paused = consumer.paused();
+			for (Pending pending : new ArrayList<>(this.pendingOrder)) {
+				if (paused.contains(pending.partition)) {
+					pending.lastChunkTime = now;
+				}
+				else if (now - pending.lastChunkTime > this.orphanTimeout) {
+					LOG.error("Discarding the chunked record at " + pending.partition + "@" + pending.first.offset()
+							+ "; received " + pending.chunks.size() + " of " + pending.count + " chunks, none in the last "
+							+ this.orphanTimeout + "ms");
+					remove(pending);
+					this.partitions.get(pending.partition).orphans.add(pending.id);
+				}
+			}
+		}
+
+		private void resumeWaiting(Consumer<Object, Object> consumer) {
+			if (this.waiting.isEmpty()) {
+				return;
+			}
+			List<TopicPartition> resumed = new ArrayList<>();
+			Iterator<Map.Entry<TopicPartition, Long>> iterator = this.waiting.entrySet().iterator();
+			while (iterator.hasNext()) {
+				Map.Entry<TopicPartition, Long> entry = iterator.next();
+				if (this.bufferedBytes == 0 || this.bufferedBytes + entry.getValue() <= this.maxBytes) {
+					resumed.add(entry.getKey());
+					iterator.remove();
+				}
+			}
+			if (!resumed.isEmpty()) {
+				consumer.resume(resumed);
+			}
+		}
+
+		private void remove(Pending pending) {
+			this.pendingOrder.remove(pending);
+			this.partitions.get(pending.partition).pending.remove(pending.id);
+			this.bufferedBytes -= pending.bytes;
+		}
+
+		/*
+		 * A seek to a reassembled record moves back to its first chunk; the chunks from the
+		 * new position are consumed again.
+		 */
+		long seek(TopicPartition partition, long offset) {
+			PartitionChunks chunks = this.partitions.get(partition);
+			if (chunks == null) {
+				return offset;
+			}
+			Long first = chunks.reassembled.get(offset);
+			long position = first != null ? first : offset;
+			chunks.replayedBefore = first != null ? offset : -1;
+			new ArrayList<>(chunks.pending.values()).stream()
+					.filter(pending -> pending.first.offset() >= position)
+					.forEach(this::remove);
+			return position;
+		}
+
+		void discard(Collection<TopicPartition> partitions) {
+			for (TopicPartition partition : partitions) {
+				this.waiting.remove(partition);
+				PartitionChunks chunks = this.partitions.remove(partition);
+				if (chunks != null) {
+					for (Pending pending : chunks.pending.values()) {
+						this.pendingOrder.remove(pending);
+						this.bufferedBytes -= pending.bytes;
+					}
+				}
+			}
+		}
+
+		@SuppressWarnings("unchecked")
+		private Object commit(MethodInvocation invocation, Consumer<Object, Object> consumer) throws Throwable {
+			Object[] arguments = invocation.getArguments();
+			if (arguments.length > 0 && arguments[0] instanceof Map) {
+				arguments[0] = cap((Map<TopicPartition, OffsetAndMetadata>) arguments[0]);
+				return invocation.proceed();
+			}
+			if (this.pendingOrder.isEmpty()) {
+				return invocation.proceed();
+			}
+			// commit the positions explicitly, so that they can be capped
+			Map<TopicPartition, OffsetAndMetadata> positions = new HashMap<>();
+			for (TopicPartition partition : consumer.assignment()) {
+				positions.put(partition, new OffsetAndMetadata(consumer.position(partition)));
+			}
+			Map<TopicPartition, OffsetAndMetadata> offsets = cap(positions);
+			if ("commitAsync".equals(invocation.getMethod().getName())) {
+				consumer.commitAsync(offsets, arguments.length > 0 ? (OffsetCommitCallback) arguments[0] : null);
+			}
+			else if (arguments.length > 0) {
+				consumer.commitSync(offsets, (Duration) arguments[0]);
+			}
+			else {
+				consumer.commitSync(offsets);
+			}
+			return null;
+		}
+
+		Map<TopicPartition, OffsetAndMetadata> cap(Map<TopicPartition, OffsetAndMetadata> offsets) {
+			Map<TopicPartition, OffsetAndMetadata> capped = new HashMap<>(offsets);
+			offsets.forEach((partition, offset) -> {
+				PartitionChunks chunks = this.partitions.get(partition);
+				if (chunks != null) {
+					long limit = chunks.pending.isEmpty()
+							? Long.MAX_VALUE
+							: chunks.pending.values().iterator().next().first.offset();
+					if (offset.offset() > limit) {
+						capped.put(partition, new OffsetAndMetadata(limit, offset.leaderEpoch(), offset.metadata()));
+					}
+					chunks.reassembled.headMap(Math.min(offset.offset(), limit)).clear();
+				}
+			});
+			return capped;
+		}
+
+		long bufferedBytes() {
+			return this.bufferedBytes;
+		}
+
+		Set<TopicPartition> waitingPartitions() {
+			return this.waiting.keySet();
+		}
+
+	}
+
+	private static final class PartitionChunks {
+
+		/*
+		 * By id, in the order of their first chunk.
+		 */
+		private final Map<ByteBuffer, Pending> pending = new LinkedHashMap<>();
+
+		/*
+		 * Offset of the last chunk -> offset of the first chunk, until committed.
+		 */
+		private final TreeMap<Long, Long> reassembled = new TreeMap<>();
+
+		/*
+		 * Ids of the records discarded after the orphan timeout, to report their late chunks.
+		 */
+		private final Set<ByteBuffer> orphans = new HashSet<>();
+
+		private long replayedBefore = -1;
+
+	}
+
+	private static final class Pending {
+
+		private final TopicPartition partition;
+
+		private final ByteBuffer id;
+
+		private final ConsumerRecord<Object, Object> first;
+
+		private final int count;
+
+		private final List<byte[]> chunks;
+
+		private long bytes;
+
+		private long lastChunkTime;
+
+		Pending(TopicPartition partition, ByteBuffer id, ConsumerRecord<Object, Object> first, int count) {
+			this.partition = partition;
+			this.id = id;
+			this.first = first;
+			this.count = count;
+			this.chunks = new ArrayList<>(count);
+		}
+
+		ConsumerRecord<Object, Object> reassemble(ConsumerRecord<Object, Object> last) {
+			byte[] payload = new byte[Math.toIntExact(this.bytes)];
+			int position = 0;
+			for (byte[] chunk : this.chunks) {
+				System.arraycopy(chunk, 0, payload, position, chunk.length);
+				position += chunk.length;
+			}
+			Headers headers = new RecordHeaders(this.first.headers().toArray());
+			headers.remove(CHUNK_ID_HEADER);
+			headers.remove(CHUNK_INDEX_HEADER);
+			headers.remove(CHUNK_COUNT_HEADER);
+			return new ConsumerRecord<>(last.topic(), last.partition(), last.offset(), this.first.timestamp(),
+					this.first.timestampType(), this.first.serializedKeySize(), payload.length, this.first.key(),
+					BinaryPayloads.fromByteArray(payload, this.first.value().getClass()), headers,
+					Optional.empty());
+		}
+
+	}
+
+}
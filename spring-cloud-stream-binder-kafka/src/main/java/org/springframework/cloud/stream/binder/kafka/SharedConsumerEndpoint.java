@@ -0,0 +1,126 @@
+/*
+ * Copyright 2026-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.stream.binder.kafka;
+
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+
+import org.springframework.core.AttributeAccessor;
+import org.springframework.integration.IntegrationMessageHeaderAccessor;
+import org.springframework.integration.endpoint.MessageProducerSupport;
+import org.springframework.integration.support.ErrorMessageUtils;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.kafka.support.converter.RecordMessageConverter;
+import org.springframework.lang.Nullable;
+import org.springframework.messaging.Message;
+import org.springframework.retry.RecoveryCallback;
+import org.springframework.retry.support.RetryTemplate;
+
+/**
+ * The consumer endpoint of a binding served by a {@link SharedConsumerGroup}. It does
+ * not own a consumer; while running, it is a member of the group, which hands it the
+ * records of its topics. Conversion, retry and error handling are per binding, as with
+ * the binding's own message driven channel adapter.
+ *
+ * @author agent
+ * @since 4.0
+ */
+class SharedConsumerEndpoint extends MessageProducerSupport {
+
+	private final String[] topics;
+
+	private final SharedConsumerGroup group;
+
+	private final RecordMessageConverter messageConverter;
+
+	private final ThreadLocal<ConsumerRecord<?, ?>> currentRecord = new ThreadLocal<>();
+
+	private RetryTemplate retryTemplate;
+
+	private RecoveryCallback<Object> recoveryCallback;
+
+	SharedConsumerEndpoint(String[] topics, SharedConsumerGroup group, RecordMessageConverter messageConverter) {
+		this.topics = topics;
+		this.group = group;
+		this.messageConverter = messageConverter;
+	}
+
+	String[] getTopics() {
+		return this.topics;
+	}
+
+	void setRetryTemplate(RetryTemplate retryTemplate, RecoveryCallback<Object> recoveryCallback) {
+		this.retryTemplate = retryTemplate;
+		this.recoveryCallback = recoveryCallback;
+	}
+
+	boolean isRetrying() {
+		return this.retryTemplate != null;
+	}
+
+	@Override
+	public String getComponentType() {
+		return "kafka:shared-consumer-endpoint";
+	}
+
+	@Override
+	protected void doStart() {
+		this.group.join(this);
+	}
+
+	@Override
+	protected void doStop() {
+		this.group.leave(this);
+	}
+
+	void onRecord(ConsumerRecord<?, ?> record, @Nullable Acknowledgment acknowledgment, Consumer<?, ?> consumer) {
+		Message<?> message = this.messageConverter.toMessage(record, acknowledgment, consumer, null);
+		if (this.retryTemplate == null) {
+			this.currentRecord.set(record);
+			try {
+				sendMessage(message);
+			}
+			finally {
+				this.currentRecord.remove();
+			}
+		}
+		else {
+			this.retryTemplate.execute(context -> {
+				if (context.getRetryCount() == 0) {
+					context.setAttribute(ErrorMessageUtils.FAILED_MESSAGE_CONTEXT_KEY, message);
+					context.setAttribute(KafkaHeaders.RAW_DATA, record);
+					context.setAttribute(IntegrationMessageHeaderAccessor.SOURCE_DATA, record);
+				}
+				getMessagingTemplate().send(getOutputChannel(), message);
+				return null;
+			}, this.recoveryCallback);
+		}
+	}
+
+	@Override
+	protected AttributeAccessor getErrorMessageAttributes(Message<?> message) {
+		AttributeAccessor attributes = ErrorMessageUtils.getAttributeAccessor(message, null);
+		ConsumerRecord<?, ?> record = this.currentRecord.get();
+		if (record != null) {
+			attributes.setAttribute(KafkaHeaders.RAW_DATA, record);
+			attributes.setAttribute(IntegrationMessageHeaderAccessor.SOURCE_DATA, record);
+		}
+		return attributes;
+	}
+
+}
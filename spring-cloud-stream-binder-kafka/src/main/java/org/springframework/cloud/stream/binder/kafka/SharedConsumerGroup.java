@@ -0,0 +1,211 @@
+/*
+ * Copyright 2026-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.stream.binder.kafka;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+
+import org.springframework.kafka.listener.MessageListenerContainer;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * A single listener container shared by the bindings of a consumer group that opted in
+ * with {@code sharedConsumer}. The container subscribes to the topics of all the running
+ * member bindings and hands each record to the member consuming its topic. All the
+ * members must have the same container settings (see {@link #getSettings()}).
+ * <p>
+ * Since the topics of a container cannot change, it is replaced whenever a member joins
+ * or leaves, which rebalances all the members; replacements are delayed a little, so
+ * that bindings started (or stopped) together cause a single rebalance. The delay is
+ * timed by the scheduler, but the replacement, which stops the container and waits for
+ * its consumers, runs on the lifecycle executor.
+ *
+ * @author agent
+ * @since 4.0
+ */
+class SharedConsumerGroup {
+
+	private static final Log LOG = LogFactory.getLog(SharedConsumerGroup.class);
+
+	private final String groupId;
+
+	private final String settings;
+
+	private final BiFunction<SharedConsumerGroup, String[], MessageListenerContainer> containerFactory;
+
+	private final Consumer<MessageListenerContainer> containerDisposer;
+
+	private final ScheduledExecutorService scheduler;
+
+	private final Executor lifecycleExecutor;
+
+	private final long refreshDelay;
+
+	private final Map<String, SharedConsumerEndpoint> members = new LinkedHashMap<>();
+
+	/*
+	 * Read by the consumer threads without locking, since the lock is held while the
+	 * container is stopped.
+	 */
+	private volatile Map<String, SharedConsumerEndpoint> routes = Collections.emptyMap();
+
+	private MessageListenerContainer container;
+
+	private Set<String> containerTopics = new LinkedHashSet<>();
+
+	private ScheduledFuture<?> pendingRefresh;
+
+	SharedConsumerGroup(String groupId, String settings,
+			BiFunction<SharedConsumerGroup, String[], MessageListenerContainer> containerFactory,
+			Consumer<MessageListenerContainer> containerDisposer, ScheduledExecutorService scheduler,
+			Executor lifecycleExecutor, long refreshDelay) {
+
+		this.groupId = groupId;
+		this.settings = settings;
+		this.containerFactory = containerFactory;
+		this.containerDisposer = containerDisposer;
+		this.scheduler = scheduler;
+		this.lifecycleExecutor = lifecycleExecutor;
+		this.refreshDelay = refreshDelay;
+	}
+
+	/**
+	 * Return the settings of the shared container (ack mode, concurrency, consumer
+	 * configuration and so on), taken from the first member; bindings with other
+	 * settings cannot join.
+	 * @return the settings.
+	 */
+	String getSettings() {
+		return this.settings;
+	}
+
+	synchronized void join(SharedConsumerEndpoint endpoint) {
+		for (String topic : endpoint.getTopics()) {
+			SharedConsumerEndpoint existing = this.members.get(topic);
+			Assert.state(existing == null || existing == endpoint, () -> "Topic '" + topic
+					+ "' is already consumed by another binding sharing the consumer of group '"
+					+ this.groupId + "'");
+		}
+		for (String topic : endpoint.getTopics()) {
+			this.members.put(topic, endpoint);
+		}
+		this.routes = new HashMap<>(this.members);
+		scheduleRefresh();
+	}
+
+	synchronized void leave(SharedConsumerEndpoint endpoint) {
+		this.members.values().removeIf(member -> member == endpoint);
+		this.routes = new HashMap<>(this.members);
+		if (this.members.isEmpty()) {
+			// no need to wait for other members; also, the scheduler might be shut down
+			refresh();
+		}
+		else {
+			scheduleRefresh();
+		}
+	}
+
+	@Nullable
+	SharedConsumerEndpoint getMember(String topic) {
+		return this.routes.get(topic);
+	}
+
+	@Nullable
+	synchronized MessageListenerContainer getContainer() {
+		return this.container;
+	}
+
+	void onRecord(ConsumerRecord<?, ?> record, @Nullable Acknowledgment acknowledgment,
+			org.apache.kafka.clients.consumer.Consumer<?, ?> consumer) {
+
+		SharedConsumerEndpoint member = getMember(record.topic());
+		if (member == null) {
+			// the binding left; the record is redelivered once the container is replaced
+			throw new MemberNotAvailableException(record.topic());
+		}
+		member.onRecord(record, acknowledgment, consumer);
+	}
+
+	/**
+	 * Replace the container after the refresh delay, unless a replacement is already
+	 * pending; used when the container still delivers records of a member that left.
+	 */
+	synchronized void requestRefresh() {
+		scheduleRefresh();
+	}
+
+	private void scheduleRefresh() {
+		if (this.pendingRefresh == null) {
+			this.pendingRefresh = this.scheduler.schedule(() -> this.lifecycleExecutor.execute(this::refresh),
+					this.refreshDelay, TimeUnit.MILLISECONDS);
+		}
+	}
+
+	synchronized void refresh() {
+		if (this.pendingRefresh != null) {
+			this.pendingRefresh.cancel(false);
+			this.pendingRefresh = null;
+		}
+		Set<String> topics = new LinkedHashSet<>(this.members.keySet());
+		if (this.container != null && this.container.isRunning() && topics.equals(this.containerTopics)) {
+			return;
+		}
+		if (this.container != null) {
+			this.container.stop();
+			this.containerDisposer.accept(this.container);
+			this.container = null;
+		}
+		this.containerTopics = topics;
+		if (!topics.isEmpty()) {
+			if (LOG.isDebugEnabled()) {
+				LOG.debug("Starting shared consumer of group '" + this.groupId + "' for topics " + topics);
+			}
+			this.container = this.containerFactory.apply(this, topics.toArray(new String[0]));
+			this.container.start();
+		}
+	}
+
+	/**
+	 * Thrown when a record arrives for a binding that left the group; the container's
+	 * error handler redelivers such records, for a bounded time, instead of skipping them.
+	 */
+	@SuppressWarnings("serial")
+	static class MemberNotAvailableException extends RuntimeException {
+
+		MemberNotAvailableException(String topic) {
+			super("No running binding consumes topic '" + topic + "'");
+		}
+
+	}
+
+}
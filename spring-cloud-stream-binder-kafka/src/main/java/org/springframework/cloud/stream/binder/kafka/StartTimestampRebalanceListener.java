@@ -0,0 +1,154 @@
+/*
+ * Copyright 2026-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.stream.binder.kafka;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRebalanceListener;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.clients.consumer.OffsetAndTimestamp;
+import org.apache.kafka.common.TopicPartition;
+
+import org.springframework.kafka.listener.ConsumerAwareRebalanceListener;
+import org.springframework.lang.Nullable;
+
+/**
+ * A rebalance listener that positions assigned partitions at the first records with a
+ * timestamp at or after a start timestamp, resolving all the partitions of an
+ * assignment with a single {@code offsetsForTimes()} call; partitions without such
+ * records are positioned at the end. The start timestamp is evaluated for each
+ * assignment, so that a duration-based start is relative to the time of the assignment.
+ * <p>
+ * With {@code reset}, partitions are positioned the first time they are assigned to the
+ * binding; otherwise only partitions without a committed offset are positioned.
+ *
+ * @author agent
+ * @since 4.0
+ */
+class StartTimestampRebalanceListener implements ConsumerAwareRebalanceListener {
+
+	private static final Log LOG = LogFactory.getLog(StartTimestampRebalanceListener.class);
+
+	private final LongSupplier startTimestamp;
+
+	private final boolean reset;
+
+	@Nullable
+	private final ConsumerRebalanceListener delegate;
+
+	private final Set<TopicPartition> sought = ConcurrentHashMap.newKeySet();
+
+	StartTimestampRebalanceListener(LongSupplier startTimestamp, boolean reset,
+			@Nullable ConsumerRebalanceListener delegate) {
+
+		this.startTimestamp = startTimestamp;
+		this.reset = reset;
+		this.delegate = delegate;
+	}
+
+	@Override
+	public void onPartitionsRevokedBeforeCommit(Consumer<?, ?> consumer, Collection<TopicPartition> partitions) {
+		if (this.delegate instanceof ConsumerAwareRebalanceListener) {
+			((ConsumerAwareRebalanceListener) this.delegate).onPartitionsRevokedBeforeCommit(consumer, partitions);
+		}
+		else if (this.delegate != null) {
+			this.delegate.onPartitionsRevoked(partitions);
+		}
+	}
+
+	@Override
+	public void onPartitionsRevokedAfterCommit(Consumer<?, ?> consumer, Collection<TopicPartition> partitions) {
+		if (this.delegate instanceof ConsumerAwareRebalanceListener) {
+			((ConsumerAwareRebalanceListener) this.delegate).onPartitionsRevokedAfterCommit(consumer, partitions);
+		}
+	}
+
+	@Override
+	public void onPartitionsLost(Consumer<?, ?> consumer, Collection<TopicPartition> partitions) {
+		if (this.delegate instanceof ConsumerAwareRebalanceListener) {
+			((ConsumerAwareRebalanceListener) this.delegate).onPartitionsLost(consumer, partitions);
+		}
+		else if (this.delegate != null) {
+			this.delegate.onPartitionsLost(partitions);
+		}
+	}
+
+	@Override
+	public void onPartitionsAssigned(Consumer<?, ?> consumer, Collection<TopicPartition> partitions) {
+		if (this.delegate instanceof ConsumerAwareRebalanceListener) {
+			((ConsumerAwareRebalanceListener) this.delegate).onPartitionsAssigned(consumer, partitions);
+		}
+		else if (this.delegate != null) {
+			this.delegate.onPartitionsAssigned(partitions);
+		}
+		seek(consumer, partitions);
+	}
+
+	void seek(Consumer<?, ?> consumer, Collection<TopicPartition> partitions) {
+		Set<TopicPartition> toSeek = new HashSet<>();
+		if (this.reset) {
+			for (TopicPartition partition : partitions) {
+				if (this.sought.add(partition)) {
+					toSeek.add(partition);
+				}
+			}
+		}
+		else if (!partitions.isEmpty()) {
+			Map<TopicPartition, OffsetAndMetadata> committed = consumer.committed(new HashSet<>(partitions));
+			for (TopicPartition partition : partitions) {
+				if (committed.get(partition) == null) {
+					toSeek.add(partition);
+				}
+			}
+		}
+		if (toSeek.isEmpty()) {
+			return;
+		}
+		long timestamp = this.startTimestamp.getAsLong();
+		Map<TopicPartition, Long> query = new HashMap<>();
+		toSeek.forEach(partition -> query.put(partition, timestamp));
+		Map<TopicPartition, OffsetAndTimestamp> offsets = consumer.offsetsForTimes(query);
+		List<TopicPartition> toEnd = new ArrayList<>();
+		for (TopicPartition partition : toSeek) {
+			OffsetAndTimestamp offset = offsets.get(partition);
+			if (offset != null) {
+				consumer.seek(partition, offset.offset());
+			}
+			else {
+				toEnd.add(partition);
+			}
+		}
+		if (!toEnd.isEmpty()) {
+			consumer.seekToEnd(toEnd);
+		}
+		if (LOG.isInfoEnabled()) {
+			LOG.info("Positioned " + toSeek + " at timestamp " + timestamp);
+		}
+	}
+
+}
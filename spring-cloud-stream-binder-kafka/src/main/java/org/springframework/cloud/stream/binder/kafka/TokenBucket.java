@@ -0,0 +1,115 @@
+/*
+ * Copyright 2026-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.stream.binder.kafka;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * A thread safe token bucket that refills continuously at a configurable rate. Consumers
+ * may take more tokens than are available, in which case the bucket goes into debt and
+ * {@link #getWaitNanos()} reports how long it takes to pay it back; this keeps the
+ * long-term rate exact even when work cannot be rejected (records that have already
+ * been fetched). The bucket holds at most 100 milliseconds worth of tokens so that
+ * bursts after idle periods stay small.
+ *
+ * @author agent
+ * @since 4.0
+ */
+class TokenBucket {
+
+	private static final double NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+	private static final double BURST_SECONDS = 0.1;
+
+	private final LongSupplier clock;
+
+	private double ratePerSecond;
+
+	private double capacity;
+
+	private double tokens;
+
+	private long lastRefill;
+
+	TokenBucket(double ratePerSecond) {
+		this(ratePerSecond, System::nanoTime);
+	}
+
+	TokenBucket(double ratePerSecond, LongSupplier clock) {
+		this.clock = clock;
+		this.lastRefill = clock.getAsLong();
+		setRatePerSecond(ratePerSecond);
+	}
+
+	synchronized double getRatePerSecond() {
+		return this.ratePerSecond;
+	}
+
+	/**
+	 * Change the rate; zero or less disables limiting.
+	 * @param ratePerSecond the new rate.
+	 */
+	synchronized void setRatePerSecond(double ratePerSecond) {
+		refill();
+		boolean wasUnlimited = this.ratePerSecond <= 0;
+		this.ratePerSecond = ratePerSecond;
+		this.capacity = Math.max(1, ratePerSecond * BURST_SECONDS);
+		this.tokens = wasUnlimited ? this.capacity : Math.min(this.tokens, this.capacity);
+	}
+
+	/**
+	 * Take the given number of tokens.
+	 * @param amount the number of tokens.
+	 * @return the time, in nanoseconds, until the bucket is out of debt; 0 if it is not
+	 * in debt.
+	 */
+	synchronized long consume(double amount) {
+		if (this.ratePerSecond <= 0) {
+			return 0;
+		}
+		refill();
+		this.tokens -= amount;
+		return waitNanos();
+	}
+
+	/**
+	 * Return the time until the bucket is out of debt.
+	 * @return the time in nanoseconds; 0 if it is not in debt.
+	 */
+	synchronized long getWaitNanos() {
+		if (this.ratePerSecond <= 0) {
+			return 0;
+		}
+		refill();
+		return waitNanos();
+	}
+
+	private long waitNanos() {
+		return this.tokens >= 0 ? 0 : (long) Math.ceil(-this.tokens / this.ratePerSecond * NANOS_PER_SECOND);
+	}
+
+	private void refill() {
+		long now = this.clock.getAsLong();
+		if (this.ratePerSecond > 0) {
+			this.tokens = Math.min(this.capacity,
+					this.tokens + (now - this.lastRefill) * this.ratePerSecond / NANOS_PER_SECOND);
+		}
+		this.lastRefill = now;
+	}
+
+}
@@ -29,6 +29,7 @@ import org.springframework.boot.autoconfigure.kafka.KafkaAutoConfiguration;
 import org.springframework.boot.autoconfigure.kafka.KafkaProperties;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.cloud.stream.binder.Binder;
+import org.springframework.cloud.stream.binder.kafka.ByteBufferMessageConverter;
 import org.springframework.cloud.stream.binder.kafka.KafkaBinderMetrics;
 import org.springframework.cloud.stream.binder.kafka.KafkaBindingRebalanceListener;
 import org.springframework.cloud.stream.binder.kafka.KafkaMessageChannelBinder;
@@ -145,6 +146,12 @@ public class KafkaBinderConfiguration {
 		return new KafkaNullConverter();
 	}
 
+	@Bean
+	@ConditionalOnMissingBean(ByteBufferMessageConverter.class)
+	MessageConverter byteBufferMessageConverter() {
+		return new ByteBufferMessageConverter();
+	}
+
 	@Bean
 	@ConditionalOnMissingBean(KafkaJaasLoginModuleInitializer.class)
 	public KafkaJaasLoginModuleInitializer jaasInitializer(
@@ -0,0 +1,63 @@
+/*
+ * Copyright 2026-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.stream.binder.kafka.endpoint;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.actuate.autoconfigure.endpoint.EndpointAutoConfiguration;
+import org.springframework.boot.actuate.autoconfigure.endpoint.condition.ConditionalOnAvailableEndpoint;
+import org.springframework.boot.autoconfigure.AutoConfigureAfter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.cloud.stream.binder.BinderFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Auto configuration for the Kafka binder actuator endpoints.
+ *
+ * @author agent
+ * @since 4.0
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnClass(name = {
+		"org.springframework.boot.actuate.endpoint.annotation.Endpoint" })
+@AutoConfigureAfter(EndpointAutoConfiguration.class)
+public class KafkaBinderEndpointAutoConfiguration {
+
+	@Bean
+	public KafkaBinderLocator kafkaBinderLocator(ObjectProvider<BinderFactory> binderFactory) {
+		return new KafkaBinderLocator(binderFactory);
+	}
+
+	@Bean
+	@ConditionalOnAvailableEndpoint
+	public KafkaBindingRateLimitEndpoint kafkaBindingRateLimitEndpoint(KafkaBinderLocator binderLocator) {
+		return new KafkaBindingRateLimitEndpoint(binderLocator);
+	}
+
+	@Bean
+	@ConditionalOnAvailableEndpoint
+	public KafkaBindingConcurrencyEndpoint kafkaBindingConcurrencyEndpoint(KafkaBinderLocator binderLocator) {
+		return new KafkaBindingConcurrencyEndpoint(binderLocator);
+	}
+
+	@Bean
+	@ConditionalOnAvailableEndpoint
+	public KafkaBindingRebalanceEndpoint kafkaBindingRebalanceEndpoint(KafkaBinderLocator binderLocator) {
+		return new KafkaBindingRebalanceEndpoint(binderLocator);
+	}
+
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright 2026-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.stream.binder.kafka.endpoint;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cloud.stream.binder.Binder;
+import org.springframework.cloud.stream.binder.BinderFactory;
+import org.springframework.cloud.stream.binder.kafka.KafkaMessageChannelBinder;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.util.Assert;
+
+/**
+ * Locates the (default) {@link KafkaMessageChannelBinder} for the binder actuator
+ * endpoints; the binder lives in its own child application context and is created
+ * lazily by the {@link BinderFactory}.
+ *
+ * @author agent
+ * @since 4.0
+ */
+public class KafkaBinderLocator {
+
+	private final ObjectProvider<BinderFactory> binderFactory;
+
+	public KafkaBinderLocator(ObjectProvider<BinderFactory> binderFactory) {
+		this.binderFactory = binderFactory;
+	}
+
+	public KafkaMessageChannelBinder getBinder() {
+		Binder<MessageChannel, ?, ?> binder = this.binderFactory.getObject().getBinder(null, MessageChannel.class);
+		Assert.state(binder instanceof KafkaMessageChannelBinder,
+				"The default message channel binder is not a Kafka binder");
+		return (KafkaMessageChannelBinder) binder;
+	}
+
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2026-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.stream.binder.kafka.endpoint;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.cloud.stream.binder.kafka.ConsumerConcurrencyScaler;
+
+/**
+ * Actuator endpoint to view and change the consumer concurrency of message driven
+ * consumer bindings at runtime.
+ *
+ * @author agent
+ * @since 4.0
+ */
+@Endpoint(id = "kafkabindingconcurrency")
+public class KafkaBindingConcurrencyEndpoint {
+
+	/**
+	 * Binding not found message.
+	 */
+	public static final String NO_BINDING_FOUND_MSG = "No consumer binding found for the given binding name";
+
+	private final KafkaBinderLocator binderLocator;
+
+	public KafkaBindingConcurrencyEndpoint(KafkaBinderLocator binderLocator) {
+		this.binderLocator = binderLocator;
+	}
+
+	@ReadOperation
+	public Map<String, Map<String, Object>> concurrencies() {
+		Map<String, Map<String, Object>> concurrencies = new LinkedHashMap<>();
+		this.binderLocator.getBinder().getConsumerConcurrencyScalers()
+				.forEach((bindingName, scaler) -> concurrencies.put(bindingName, describe(scaler)));
+		return concurrencies;
+	}
+
+	@ReadOperation
+	public Object concurrency(@Selector String bindingName) {
+		ConsumerConcurrencyScaler scaler = this.binderLocator.getBinder().getConsumerConcurrencyScalers()
+				.get(bindingName);
+		return scaler != null ? describe(scaler) : NO_BINDING_FOUND_MSG;
+	}
+
+	@WriteOperation
+	public Object changeConcurrency(@Selector String bindingName, int concurrency) {
+		ConsumerConcurrencyScaler scaler = this.binderLocator.getBinder().getConsumerConcurrencyScalers()
+				.get(bindingName);
+		if (scaler == null) {
+			return NO_BINDING_FOUND_MSG;
+		}
+		scaler.setConcurrency(concurrency);
+		return describe(scaler);
+	}
+
+	private static Map<String, Object> describe(ConsumerConcurrencyScaler scaler) {
+		Map<String, Object> description = new LinkedHashMap<>();
+		description.put("concurrency", scaler.getConcurrency());
+		description.put("maxConcurrency", scaler.getMaxConcurrency());
+		description.put("scaling", scaler.isScaling());
+		return description;
+	}
+
+}
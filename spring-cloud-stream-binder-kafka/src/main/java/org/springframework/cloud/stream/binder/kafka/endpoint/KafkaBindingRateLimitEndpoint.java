@@ -0,0 +1,91 @@
+/*
+ * Copyright 2026-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.stream.binder.kafka.endpoint;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.cloud.stream.binder.kafka.ConsumerRateLimiter;
+import org.springframework.lang.Nullable;
+
+/**
+ * Actuator endpoint to view and change the rate limits of consumer bindings that have
+ * {@code rateLimit.enabled}.
+ *
+ * @author agent
+ * @since 4.0
+ */
+@Endpoint(id = "kafkaratelimits")
+public class KafkaBindingRateLimitEndpoint {
+
+	/**
+	 * Rate limiter not found message.
+	 */
+	public static final String NO_RATE_LIMITER_FOUND_MSG = "No rate limiter found for the given binding name";
+
+	private final KafkaBinderLocator binderLocator;
+
+	public KafkaBindingRateLimitEndpoint(KafkaBinderLocator binderLocator) {
+		this.binderLocator = binderLocator;
+	}
+
+	@ReadOperation
+	public Map<String, Map<String, Object>> rateLimits() {
+		Map<String, Map<String, Object>> rateLimits = new LinkedHashMap<>();
+		this.binderLocator.getBinder().getConsumerRateLimiters()
+				.forEach((bindingName, rateLimiter) -> rateLimits.put(bindingName, describe(rateLimiter)));
+		return rateLimits;
+	}
+
+	@ReadOperation
+	public Object rateLimit(@Selector String bindingName) {
+		ConsumerRateLimiter rateLimiter = this.binderLocator.getBinder().getConsumerRateLimiters().get(bindingName);
+		return rateLimiter != null ? describe(rateLimiter) : NO_RATE_LIMITER_FOUND_MSG;
+	}
+
+	@WriteOperation
+	public Object changeRateLimit(@Selector String bindingName, @Nullable Double recordsPerSecond,
+			@Nullable Double bytesPerSecond) {
+
+		ConsumerRateLimiter rateLimiter = this.binderLocator.getBinder().getConsumerRateLimiters().get(bindingName);
+		if (rateLimiter == null) {
+			return NO_RATE_LIMITER_FOUND_MSG;
+		}
+		if (recordsPerSecond != null) {
+			rateLimiter.setRecordsPerSecond(recordsPerSecond);
+		}
+		if (bytesPerSecond != null) {
+			rateLimiter.setBytesPerSecond(bytesPerSecond);
+		}
+		return describe(rateLimiter);
+	}
+
+	private static Map<String, Object> describe(ConsumerRateLimiter rateLimiter) {
+		Map<String, Object> description = new LinkedHashMap<>();
+		description.put("recordsPerSecond", rateLimiter.getRecordsPerSecond());
+		description.put("bytesPerSecond", rateLimiter.getBytesPerSecond());
+		description.put("throttleCount", rateLimiter.getThrottleCount());
+		description.put("throttledTimeMs", rateLimiter.getThrottledTime(TimeUnit.MILLISECONDS));
+		return description;
+	}
+
+}
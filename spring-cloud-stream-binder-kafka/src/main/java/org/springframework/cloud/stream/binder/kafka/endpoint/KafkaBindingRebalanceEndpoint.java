@@ -0,0 +1,82 @@
+/*
+ * Copyright 2026-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.stream.binder.kafka.endpoint;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.cloud.stream.binder.kafka.ConsumerRebalanceMonitor;
+
+/**
+ * Actuator endpoint to view the rebalance statistics of message driven consumer bindings
+ * and the partitions currently assigned to each consumer thread of their containers.
+ *
+ * @author agent
+ * @since 4.0
+ */
+@Endpoint(id = "kafkabindingrebalance")
+public class KafkaBindingRebalanceEndpoint {
+
+	/**
+	 * Binding not found message.
+	 */
+	public static final String NO_BINDING_FOUND_MSG = "No consumer binding found for the given binding name";
+
+	private final KafkaBinderLocator binderLocator;
+
+	public KafkaBindingRebalanceEndpoint(KafkaBinderLocator binderLocator) {
+		this.binderLocator = binderLocator;
+	}
+
+	@ReadOperation
+	public Map<String, Map<String, Object>> rebalances() {
+		Map<String, Map<String, Object>> rebalances = new LinkedHashMap<>();
+		this.binderLocator.getBinder().getConsumerRebalanceMonitors()
+				.forEach((bindingName, monitor) -> rebalances.put(bindingName, describe(monitor)));
+		return rebalances;
+	}
+
+	@ReadOperation
+	public Object rebalance(@Selector String bindingName) {
+		ConsumerRebalanceMonitor monitor = this.binderLocator.getBinder().getConsumerRebalanceMonitors()
+				.get(bindingName);
+		return monitor != null ? describe(monitor) : NO_BINDING_FOUND_MSG;
+	}
+
+	private static Map<String, Object> describe(ConsumerRebalanceMonitor monitor) {
+		Map<String, Object> description = new LinkedHashMap<>();
+		description.put("rebalanceCount", monitor.getRebalanceCount());
+		description.put("pauseCount", monitor.getPauseCount());
+		description.put("pauseTimeMs", monitor.getPauseTime(TimeUnit.MILLISECONDS));
+		description.put("callbackCount", monitor.getCallbackCount());
+		description.put("callbackTimeMs", monitor.getCallbackTime(TimeUnit.MILLISECONDS));
+		description.put("partitionCount", monitor.getPartitionCount());
+		Map<String, List<String>> assignments = new TreeMap<>();
+		monitor.getAssignments().forEach((thread, partitions) -> assignments.put(thread,
+				partitions.stream().map(Object::toString).sorted().collect(Collectors.toList())));
+		description.put("assignments", assignments);
+		return description;
+	}
+
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright 2026-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.stream.binder.kafka;
+
+import java.nio.ByteBuffer;
+
+import org.apache.kafka.common.utils.Bytes;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.messaging.Message;
+import org.springframework.messaging.support.MessageBuilder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author agent
+ * @since 4.0
+ */
+public class ByteBufferMessageConverterTests {
+
+	private final ByteBufferMessageConverter converter = new ByteBufferMessageConverter();
+
+	@Test
+	void inboundConversionSharesTheBackingArray() {
+		byte[] data = "hello".getBytes();
+		Message<?> message = MessageBuilder.withPayload(ByteBuffer.wrap(data)).build();
+		assertThat(this.converter.fromMessage(message, byte[].class)).isSameAs(data);
+
+		Message<?> bytesMessage = MessageBuilder.withPayload(new Bytes(data)).build();
+		assertThat(((ByteBuffer) this.converter.fromMessage(bytesMessage, ByteBuffer.class)).array()).isSameAs(data);
+
+		Message<?> arrayMessage = MessageBuilder.withPayload(data).build();
+		assertThat(((Bytes) this.converter.fromMessage(arrayMessage, Bytes.class)).get()).isSameAs(data);
+		assertThat(this.converter.fromMessage(arrayMessage, byte[].class)).isNull();
+	}
+
+	@Test
+	void slicesAreCopied() {
+		ByteBuffer slice = ByteBuffer.wrap("hello world".getBytes(), 6, 5).slice();
+		Message<?> message = MessageBuilder.withPayload(slice).build();
+		assertThat(new String((byte[]) this.converter.fromMessage(message, byte[].class))).isEqualTo("world");
+		assertThat(slice.remaining()).isEqualTo(5);
+	}
+
+	@Test
+	void outboundConversionProducesByteArrays() {
+		byte[] data = "hello".getBytes();
+		Message<?> message = this.converter.toMessage(ByteBuffer.wrap(data), null);
+		assertThat(message.getPayload()).isSameAs(data);
+		assertThat(this.converter.toMessage("hello", null)).isNull();
+		assertThat(new BinaryPayloadSerializer().serialize("topic", new Bytes(data))).isSameAs(data);
+	}
+
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright 2026-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.stream.binder.kafka;
+
+import java.nio.file.Path;
+import java.util.Optional;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.apache.kafka.common.record.TimestampType;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import org.springframework.kafka.support.converter.MessagingMessageConverter;
+import org.springframework.messaging.Message;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+/**
+ * @author agent
+ * @since 4.0
+ */
+public class ClaimChecksTests {
+
+	@TempDir
+	Path directory;
+
+	@Test
+	void largePayloadsAreReplacedByAReferenceAndResolvedOnConversion() {
+		FileSystemClaimCheckStore store = new FileSystemClaimCheckStore(this.directory);
+		byte[] payload = new byte[2048];
+		payload[2047] = 42;
+
+		ProducerRecord<?, ?> small = new ProducerRecord<>("foo", "key".getBytes(), new byte[10]);
+		assertThat(ClaimChecks.claimCheck(small, store, 1024)).isSameAs(small);
+
+		ProducerRecord<?, ?> sent = ClaimChecks.claimCheck(new ProducerRecord<>("foo", "key".getBytes(), payload),
+				store, 1024);
+		assertThat((byte[]) sent.value()).hasSizeLessThan(100);
+		assertThat(sent.headers().lastHeader(ClaimChecks.CLAIM_CHECK_HEADER)).isNotNull();
+
+		ConsumerRecord<Object, Object> received = new ConsumerRecord<>("foo", 0, 0L, 0L, TimestampType.CREATE_TIME,
+				3, ((byte[]) sent.value()).length, sent.key(), sent.value(),
+				new RecordHeaders(sent.headers().toArray()), Optional.empty());
+		ClaimChecks.ClaimCheckRecordMessageConverter converter = new ClaimChecks.ClaimCheckRecordMessageConverter(
+				new MessagingMessageConverter(), store);
+		Message<?> message = converter.toMessage(received, null, null, null);
+		assertThat((byte[]) message.getPayload()).isEqualTo(payload);
+	}
+
+	@Test
+	void forwardedRecordDoesNotKeepTheClaimCheckHeader() {
+		FileSystemClaimCheckStore store = new FileSystemClaimCheckStore(this.directory);
+		ProducerRecord<?, ?> sent = ClaimChecks.claimCheck(new ProducerRecord<>("foo", "key".getBytes(),
+				new byte[2048]), store, 1024);
+		ConsumerRecord<?, ?> received = ClaimChecks.resolve(new ConsumerRecord<>("foo", 0, 0L, 0L,
+				TimestampType.CREATE_TIME, 3, ((byte[]) sent.value()).length, sent.key(), sent.value(),
+				new RecordHeaders(sent.headers().toArray()), Optional.empty()), store);
+		assertThat(received.headers().lastHeader(ClaimChecks.CLAIM_CHECK_HEADER)).isNull();
+
+		// a processor forwards a smaller value with the headers of the record it received
+		RecordHeaders inherited = new RecordHeaders(sent.headers().toArray());
+		ProducerRecord<?, ?> forwarded = ClaimChecks.claimCheck(new ProducerRecord<>("bar", null, null,
+				"key".getBytes(), new byte[10], inherited), store, 1024);
+		assertThat(forwarded.headers().lastHeader(ClaimChecks.CLAIM_CHECK_HEADER)).isNull();
+		assertThat((byte[]) forwarded.value()).hasSize(10);
+		assertThat(ClaimChecks.resolve(new ConsumerRecord<>("bar", 0, 0L, 0L, TimestampType.CREATE_TIME, 3, 10,
+				forwarded.key(), forwarded.value(), new RecordHeaders(forwarded.headers().toArray()),
+				Optional.empty()), store).value()).isEqualTo(new byte[10]);
+	}
+
+	@Test
+	void referencesOutsideTheDirectoryAreRejected() {
+		FileSystemClaimCheckStore store = new FileSystemClaimCheckStore(this.directory.resolve("store"));
+		assertThatIllegalArgumentException().isThrownBy(() -> store.retrieve("../secret"));
+	}
+
+}
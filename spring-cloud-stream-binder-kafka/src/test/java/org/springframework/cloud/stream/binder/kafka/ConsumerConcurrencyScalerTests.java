@@ -0,0 +1,100 @@
+/*
+ * Copyright 2026-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.stream.binder.kafka;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.cloud.stream.binder.kafka.properties.KafkaConsumerProperties;
+import org.springframework.kafka.listener.ConcurrentMessageListenerContainer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * @author agent
+ * @since 4.0
+ */
+public class ConsumerConcurrencyScalerTests {
+
+	@Test
+	void restartsRunningContainerWithBoundedConcurrency() {
+		ConcurrentMessageListenerContainer<?, ?> container = mock(ConcurrentMessageListenerContainer.class);
+		given(container.isRunning()).willReturn(true);
+		given(container.getConcurrency()).willReturn(2);
+		willAnswer(invocation -> {
+			invocation.<Runnable>getArgument(0).run();
+			return null;
+		}).given(container).stop(any(Runnable.class));
+		ConsumerConcurrencyScaler scaler = new ConsumerConcurrencyScaler("input", container, 4, Runnable::run);
+
+		assertThat(scaler.setConcurrency(10)).isEqualTo(4);
+		verify(container).setConcurrency(4);
+		verify(container).start();
+		assertThat(scaler.isScaling()).isFalse();
+	}
+
+	@Test
+	void scaleDownRemovesTheStoppedStaticMembers() {
+		ConcurrentMessageListenerContainer<?, ?> container = mock(ConcurrentMessageListenerContainer.class);
+		given(container.isRunning()).willReturn(true);
+		given(container.getConcurrency()).willReturn(3);
+		willAnswer(invocation -> {
+			invocation.<Runnable>getArgument(0).run();
+			return null;
+		}).given(container).stop(any(Runnable.class));
+		List<String> removed = new ArrayList<>();
+		ConsumerConcurrencyScaler scaler = new ConsumerConcurrencyScaler("input", container, 4, Runnable::run,
+				"app-input", removed::addAll);
+
+		assertThat(scaler.setConcurrency(1)).isEqualTo(1);
+		assertThat(removed).containsExactly("app-input-1", "app-input-2");
+		verify(container).setConcurrency(1);
+		verify(container).start();
+	}
+
+	@Test
+	void stoppedContainerIsNotRestarted() {
+		ConcurrentMessageListenerContainer<?, ?> container = mock(ConcurrentMessageListenerContainer.class);
+		given(container.getConcurrency()).willReturn(2);
+		ConsumerConcurrencyScaler scaler = new ConsumerConcurrencyScaler("input", container, 4, Runnable::run);
+
+		assertThat(scaler.setConcurrency(0)).isEqualTo(1);
+		verify(container).setConcurrency(1);
+		verify(container, never()).start();
+	}
+
+	@Test
+	void autoscalerWaitsForCooldown() {
+		ConcurrentMessageListenerContainer<?, ?> container = mock(ConcurrentMessageListenerContainer.class);
+		given(container.isRunning()).willReturn(true);
+		given(container.getConcurrency()).willReturn(2);
+		ConsumerConcurrencyScaler scaler = new ConsumerConcurrencyScaler("input", container, 4, Runnable::run);
+		KafkaConsumerProperties.Autoscaling autoscaling = new KafkaConsumerProperties.Autoscaling();
+
+		scaler.autoscale(autoscaling);
+		verify(container, never()).metrics();
+	}
+
+}
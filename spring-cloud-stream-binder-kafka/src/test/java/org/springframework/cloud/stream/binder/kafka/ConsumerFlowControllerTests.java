@@ -0,0 +1,96 @@
+/*
+ * Copyright 2026-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.stream.binder.kafka;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.kafka.listener.MessageListenerContainer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * @author agent
+ * @since 4.0
+ */
+public class ConsumerFlowControllerTests {
+
+	@Test
+	void resumesOnlyWhenAllReasonsAreCleared() {
+		MessageListenerContainer container = mock(MessageListenerContainer.class);
+		AtomicBoolean paused = new AtomicBoolean();
+		given(container.isPauseRequested()).willAnswer(invocation -> paused.get());
+		willAnswer(invocation -> {
+			paused.set(true);
+			return null;
+		}).given(container).pause();
+		willAnswer(invocation -> {
+			paused.set(false);
+			return null;
+		}).given(container).resume();
+		ConsumerFlowController controller = new ConsumerFlowController("input", container);
+
+		controller.pause("backpressure");
+		controller.pause("rateLimit");
+		verify(container, times(1)).pause();
+		assertThat(controller.isPausedFor("backpressure")).isTrue();
+
+		controller.resume("backpressure");
+		verify(container, never()).resume();
+
+		controller.resume("rateLimit");
+		verify(container, times(1)).resume();
+		assertThat(controller.isPausedFor("rateLimit")).isFalse();
+	}
+
+	@Test
+	void doesNotResumeContainerPausedByTheApplication() {
+		MessageListenerContainer container = mock(MessageListenerContainer.class);
+		given(container.isPauseRequested()).willReturn(true);
+		ConsumerFlowController controller = new ConsumerFlowController("input", container);
+
+		controller.pause("backpressure");
+		controller.resume("backpressure");
+		verify(container, never()).pause();
+		verify(container, never()).resume();
+	}
+
+	@Test
+	void pausesOnceTheApplicationResumesWhilePauseIsStillRequested() {
+		MessageListenerContainer container = mock(MessageListenerContainer.class);
+		given(container.isPauseRequested()).willReturn(true);
+		ConsumerFlowController controller = new ConsumerFlowController("input", container);
+
+		controller.pause("backpressure");
+		verify(container, never()).pause();
+
+		given(container.isPauseRequested()).willReturn(false);
+		controller.pause("backpressure");
+		verify(container, times(1)).pause();
+
+		controller.resume("backpressure");
+		verify(container, times(1)).resume();
+	}
+
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright 2026-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.stream.binder.kafka;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.kafka.listener.ConsumerAwareRebalanceListener;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+
+/**
+ * @author agent
+ * @since 4.0
+ */
+public class ConsumerRebalanceMonitorTests {
+
+	private final TopicPartition partition0 = new TopicPartition("foo", 0);
+
+	private final TopicPartition partition1 = new TopicPartition("foo", 1);
+
+	@Test
+	void rebalancesAreRecordedAndCallbacksDelegated() {
+		Consumer<?, ?> consumer = mock(Consumer.class);
+		ConsumerAwareRebalanceListener delegate = mock(ConsumerAwareRebalanceListener.class);
+		ConsumerRebalanceMonitor monitor = new ConsumerRebalanceMonitor("input");
+		ConsumerAwareRebalanceListener listener = monitor.listener(delegate);
+		String thread = Thread.currentThread().getName();
+
+		listener.onPartitionsAssigned(consumer, Arrays.asList(this.partition0, this.partition1));
+		assertThat(monitor.getRebalanceCount()).isEqualTo(1);
+		assertThat(monitor.getPauseCount()).isZero();
+		assertThat(monitor.getPartitionCount()).isEqualTo(2);
+		assertThat(monitor.getAssignments()).containsEntry(thread, Set.of(this.partition0, this.partition1));
+
+		listener.onPartitionsRevokedBeforeCommit(consumer, Collections.singletonList(this.partition1));
+		listener.onPartitionsRevokedAfterCommit(consumer, Collections.singletonList(this.partition1));
+		assertThat(monitor.getAssignments()).containsEntry(thread, Set.of(this.partition0));
+		listener.onPartitionsAssigned(consumer, Collections.emptyList());
+		assertThat(monitor.getRebalanceCount()).isEqualTo(2);
+		assertThat(monitor.getPauseCount()).isEqualTo(1);
+		assertThat(monitor.getPauseTime(TimeUnit.NANOSECONDS)).isGreaterThanOrEqualTo(0);
+
+		listener.onPartitionsLost(consumer, Collections.singletonList(this.partition0));
+		assertThat(monitor.getPartitionCount()).isZero();
+		assertThat(monitor.getAssignments()).isEmpty();
+		assertThat(monitor.getCallbackCount()).isEqualTo(5);
+
+		then(delegate).should().onPartitionsAssigned(consumer, Arrays.asList(this.partition0, this.partition1));
+		then(delegate).should().onPartitionsRevokedBeforeCommit(consumer, Collections.singletonList(this.partition1));
+		then(delegate).should().onPartitionsRevokedAfterCommit(consumer, Collections.singletonList(this.partition1));
+		then(delegate).should().onPartitionsLost(consumer, Collections.singletonList(this.partition0));
+	}
+
+	@Test
+	void assignmentsAreTrackedPerConsumerThread() throws Exception {
+		Consumer<?, ?> consumer = mock(Consumer.class);
+		ConsumerRebalanceMonitor monitor = new ConsumerRebalanceMonitor("input");
+		ConsumerAwareRebalanceListener listener = monitor.listener(null);
+
+		listener.onPartitionsAssigned(consumer, Collections.singletonList(this.partition0));
+		Thread other = new Thread(() -> listener.onPartitionsAssigned(consumer,
+				Collections.singletonList(this.partition1)), "other-consumer");
+		other.start();
+		other.join();
+
+		assertThat(monitor.getPartitionCount()).isEqualTo(2);
+		assertThat(monitor.getAssignments())
+				.containsEntry(Thread.currentThread().getName(), Set.of(this.partition0))
+				.containsEntry("other-consumer", Set.of(this.partition1));
+		assertThat(monitor.getCallbackCount()).isZero();
+	}
+
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright 2026-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.stream.binder.kafka;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.MockConsumer;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.clients.consumer.OffsetResetStrategy;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author agent
+ * @since 4.0
+ */
+public class DirectAssignmentTests {
+
+	@Test
+	void commitsAreIgnored() {
+		TopicPartition partition = new TopicPartition("foo", 0);
+		MockConsumer<Object, Object> mockConsumer = new MockConsumer<>(OffsetResetStrategy.LATEST);
+		mockConsumer.assign(Collections.singletonList(partition));
+		Consumer<Object, Object> consumer = DirectAssignment.consumerPostProcessor().apply(mockConsumer);
+		Map<TopicPartition, OffsetAndMetadata> offsets = Collections.singletonMap(partition,
+				new OffsetAndMetadata(42L));
+
+		consumer.commitSync(offsets);
+		AtomicReference<Map<TopicPartition, OffsetAndMetadata>> completed = new AtomicReference<>();
+		consumer.commitAsync(offsets, (committed, ex) -> completed.set(committed));
+
+		assertThat(completed.get()).isEqualTo(offsets);
+		assertThat(mockConsumer.committed(Collections.singleton(partition)).get(partition)).isNull();
+	}
+
+	@Test
+	void groupIsRemovedFromTheFactory() {
+		Map<String, Object> configs = new HashMap<>();
+		configs.put(ConsumerConfig.GROUP_ID_CONFIG, "anonymous.foo");
+		DefaultKafkaConsumerFactory<Object, Object> factory = new DefaultKafkaConsumerFactory<>(configs);
+
+		DirectAssignment.withoutGroup(factory);
+
+		assertThat(factory.getConfigurationProperties()).doesNotContainKey(ConsumerConfig.GROUP_ID_CONFIG);
+		assertThat(factory.getPostProcessors()).hasSize(1);
+	}
+
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright 2026-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.stream.binder.kafka;
+
+import java.nio.charset.StandardCharsets;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.expression.spel.support.StandardEvaluationContext;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author agent
+ * @since 4.0
+ */
+public class ExpressionRecordFilterStrategyTests {
+
+	@Test
+	void discardsRecordsNotMatchingTheExpression() {
+		ExpressionRecordFilterStrategy strategy = new ExpressionRecordFilterStrategy(
+				new SpelExpressionParser().parseExpression("header('eventType') == 'OrderCreated'"),
+				new StandardEvaluationContext());
+
+		assertThat(strategy.filter(record("OrderCreated"))).isFalse();
+		assertThat(strategy.filter(record("OrderShipped"))).isTrue();
+		assertThat(strategy.filter(new ConsumerRecord<>("foo", 0, 0L, null, null))).isTrue();
+	}
+
+	@Test
+	void keyIsAvailableAsString() {
+		ExpressionRecordFilterStrategy strategy = new ExpressionRecordFilterStrategy(
+				new SpelExpressionParser().parseExpression("keyAsString.startsWith('eu-')"),
+				new StandardEvaluationContext());
+
+		assertThat(strategy.filter(new ConsumerRecord<>("foo", 0, 0L,
+				"eu-1".getBytes(StandardCharsets.UTF_8), null))).isFalse();
+		assertThat(strategy.filter(new ConsumerRecord<>("foo", 0, 0L,
+				"us-1".getBytes(StandardCharsets.UTF_8), null))).isTrue();
+	}
+
+	private static ConsumerRecord<Object, Object> record(String eventType) {
+		ConsumerRecord<Object, Object> record = new ConsumerRecord<>("foo", 0, 0L, null, null);
+		record.headers().add("eventType", eventType.getBytes(StandardCharsets.UTF_8));
+		return record;
+	}
+
+}
@@ -0,0 +1,182 @@
+/*
+ * Copyright 2026-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.stream.binder.kafka;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.apache.kafka.clients.consumer.CommitFailedException;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.MockConsumer;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.clients.consumer.OffsetResetStrategy;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import org.springframework.integration.channel.QueueChannel;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.kafka.support.converter.BatchMessagingMessageConverter;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.support.ErrorMessage;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+/**
+ * @author agent
+ * @since 4.0
+ */
+public class KafkaBatchPollableSourceTests {
+
+	private final TopicPartition partition = new TopicPartition("foo", 0);
+
+	private final MockConsumer<byte[], byte[]> consumer = new MockConsumer<>(OffsetResetStrategy.EARLIEST);
+
+	private final QueueChannel errorChannel = new QueueChannel();
+
+	@BeforeEach
+	void setUp() {
+		this.consumer.updateBeginningOffsets(Collections.singletonMap(this.partition, 0L));
+		this.consumer.schedulePollTask(() -> {
+			this.consumer.rebalance(Collections.singletonList(this.partition));
+			for (int i = 0; i < 5; i++) {
+				this.consumer.addRecord(new ConsumerRecord<>("foo", 0, i, null, ("value" + i).getBytes()));
+			}
+		});
+	}
+
+	@Test
+	void handsOutBatchesAndCommitsOncePerBatch() {
+		KafkaBatchPollableSource source = source(false);
+		AtomicReference<Message<?>> received = new AtomicReference<>();
+
+		assertThat(source.pollBatch(received::set, 3)).isEqualTo(3);
+		assertThat((List<?>) received.get().getPayload()).hasSize(3);
+		assertThat(committed()).isEqualTo(3);
+
+		assertThat(source.pollBatch(received::set, 3)).isEqualTo(2);
+		assertThat(committed()).isEqualTo(5);
+		assertThat(this.errorChannel.getQueueSize()).isZero();
+	}
+
+	@Test
+	void failedRecordIsSentToTheErrorChannelAndTheRestIsRedelivered() {
+		KafkaBatchPollableSource source = source(true);
+
+		int count = source.pollBatch(message -> {
+			throw new BatchListenerFailedException("failed", 2);
+		}, 5);
+
+		assertThat(count).isEqualTo(5);
+		assertThat(committed()).isEqualTo(3);
+		ErrorMessage errorMessage = (ErrorMessage) this.errorChannel.receive(0);
+		assertThat(((ConsumerRecord<?, ?>) errorMessage.getHeaders().get(KafkaHeaders.RAW_DATA)).offset())
+				.isEqualTo(2);
+		assertThat(this.errorChannel.receive(0)).isNull();
+		assertThat(this.consumer.position(this.partition)).isEqualTo(3);
+	}
+
+	@Test
+	void failedBatchIsRedeliveredWhenFailedRecordsAreNotCommitted() {
+		KafkaBatchPollableSource source = source(false);
+
+		source.pollBatch(message -> {
+			throw new IllegalStateException("failed");
+		}, 5);
+
+		assertThat(this.errorChannel.getQueueSize()).isEqualTo(5);
+		assertThat(this.consumer.committed(Collections.singleton(this.partition)).get(this.partition)).isNull();
+		assertThat(this.consumer.position(this.partition)).isZero();
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void failedCommitIsNotAHandlerFailure() {
+		MockConsumer<byte[], byte[]> failingConsumer = new MockConsumer<>(OffsetResetStrategy.EARLIEST) {
+
+			@Override
+			public synchronized void commitSync(Map<TopicPartition, OffsetAndMetadata> offsets) {
+				throw new CommitFailedException();
+			}
+
+		};
+		failingConsumer.updateBeginningOffsets(Collections.singletonMap(this.partition, 0L));
+		failingConsumer.schedulePollTask(() -> {
+			failingConsumer.rebalance(Collections.singletonList(this.partition));
+			for (int i = 0; i < 5; i++) {
+				failingConsumer.addRecord(new ConsumerRecord<>("foo", 0, i, null, ("value" + i).getBytes()));
+			}
+		});
+		ConsumerFactory<byte[], byte[]> consumerFactory = mock(ConsumerFactory.class);
+		given(consumerFactory.createConsumer(isNull(), eq("client"), eq("-batch"), any(Properties.class)))
+				.willReturn(failingConsumer);
+		KafkaBatchPollableSource source = new KafkaBatchPollableSource(consumerFactory, new String[] { "foo" },
+				"client", 100, new BatchMessagingMessageConverter(), this.errorChannel, false, null, null);
+		AtomicInteger handled = new AtomicInteger();
+
+		assertThat(source.pollBatch(message -> handled.incrementAndGet(), 3)).isEqualTo(3);
+
+		assertThat(handled.get()).isEqualTo(1);
+		assertThat(this.errorChannel.getQueueSize()).isZero();
+		assertThat(failingConsumer.position(this.partition)).isZero();
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void staticMemberGetsItsOwnInstanceId() {
+		ConsumerFactory<byte[], byte[]> consumerFactory = mock(ConsumerFactory.class);
+		given(consumerFactory.getConfigurationProperties())
+				.willReturn(Collections.singletonMap(ConsumerConfig.GROUP_INSTANCE_ID_CONFIG, "app-0-input"));
+		ArgumentCaptor<Properties> overrides = ArgumentCaptor.forClass(Properties.class);
+		given(consumerFactory.createConsumer(isNull(), eq("client"), eq("-batch"), overrides.capture()))
+				.willReturn(this.consumer);
+		KafkaBatchPollableSource source = new KafkaBatchPollableSource(consumerFactory, new String[] { "foo" },
+				"client", 100, new BatchMessagingMessageConverter(), this.errorChannel, false, null, null);
+
+		source.pollBatch(message -> { }, 5);
+
+		assertThat(overrides.getValue().getProperty(ConsumerConfig.GROUP_INSTANCE_ID_CONFIG))
+				.isEqualTo("app-0-input-batch");
+	}
+
+	@SuppressWarnings("unchecked")
+	private KafkaBatchPollableSource source(boolean commitFailed) {
+		ConsumerFactory<byte[], byte[]> consumerFactory = mock(ConsumerFactory.class);
+		given(consumerFactory.createConsumer(isNull(), eq("client"), eq("-batch"), any(Properties.class)))
+				.willReturn(this.consumer);
+		return new KafkaBatchPollableSource(consumerFactory, new String[] { "foo" }, "client", 100,
+				new BatchMessagingMessageConverter(), this.errorChannel, commitFailed, null, null);
+	}
+
+	private long committed() {
+		return this.consumer.committed(Collections.singleton(this.partition)).get(this.partition).offset();
+	}
+
+}
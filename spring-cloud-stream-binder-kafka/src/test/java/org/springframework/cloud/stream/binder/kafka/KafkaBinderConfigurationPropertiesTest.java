@@ -24,7 +24,6 @@ import java.util.List;
 import java.util.Map;
 
 import org.apache.kafka.common.serialization.ByteArrayDeserializer;
-import org.apache.kafka.common.serialization.ByteArraySerializer;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 
@@ -82,9 +81,9 @@ public class KafkaBinderConfigurationPropertiesTest {
 		assertThat(producerConfigs.get("batch.size")).isEqualTo("12345");
 		assertThat(producerConfigs.get("linger.ms")).isEqualTo("100");
 		assertThat(producerConfigs.get("key.serializer"))
-				.isEqualTo(ByteArraySerializer.class);
+				.isEqualTo(BinaryPayloadSerializer.class);
 		assertThat(producerConfigs.get("value.serializer"))
-				.isEqualTo(ByteArraySerializer.class);
+				.isEqualTo(BinaryPayloadSerializer.class);
 		assertThat(producerConfigs.get("compression.type")).isEqualTo("gzip");
 
 		Field physicalCloseTimeoutField = ReflectionUtils
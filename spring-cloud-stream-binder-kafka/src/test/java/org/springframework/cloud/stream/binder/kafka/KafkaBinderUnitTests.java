@@ -32,6 +32,7 @@ import java.util.stream.Collectors;
 import org.apache.kafka.clients.consumer.Consumer;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
 import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.consumer.CooperativeStickyAssignor;
 import org.apache.kafka.clients.producer.ProducerConfig;
 import org.apache.kafka.common.PartitionInfo;
 import org.apache.kafka.common.TopicPartition;
@@ -55,6 +56,7 @@ import org.springframework.kafka.listener.AbstractMessageListenerContainer;
 import org.springframework.messaging.MessageChannel;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyInt;
@@ -118,6 +120,48 @@ public class KafkaBinderUnitTests {
 				.isEqualTo("earliest");
 	}
 
+	@Test
+	public void testCooperativeRebalanceWithStaticMembership() throws Exception {
+		KafkaProperties kafkaProperties = new TestKafkaProperties();
+		KafkaBinderConfigurationProperties binderConfigurationProperties = new KafkaBinderConfigurationProperties(
+				kafkaProperties);
+		binderConfigurationProperties.getRebalance()
+				.setProtocol(KafkaBinderConfigurationProperties.Rebalance.Protocol.cooperative);
+		binderConfigurationProperties.getRebalance().setStaticMembership(true);
+		binderConfigurationProperties.getRebalance().setInstanceId("pod-0");
+		KafkaTopicProvisioner provisioningProvider = new KafkaTopicProvisioner(
+				binderConfigurationProperties, kafkaProperties, null);
+		KafkaMessageChannelBinder binder = new KafkaMessageChannelBinder(
+				binderConfigurationProperties, provisioningProvider);
+		ExtendedConsumerProperties<KafkaConsumerProperties> ecp = new ExtendedConsumerProperties<>(
+				new KafkaConsumerProperties());
+		Method method = KafkaMessageChannelBinder.class.getDeclaredMethod(
+				"createKafkaConsumerFactory", boolean.class, String.class,
+				ExtendedConsumerProperties.class, String.class, String.class);
+		method.setAccessible(true);
+
+		Object factory = method.invoke(binder, false, "foo-1", ecp, "foo.consumer", "foo");
+		Map<?, ?> configs = TestUtils.getPropertyValue(factory, "configs", Map.class);
+		assertThat(configs.get(ConsumerConfig.PARTITION_ASSIGNMENT_STRATEGY_CONFIG))
+				.isEqualTo(CooperativeStickyAssignor.class.getName());
+		assertThat(configs.get(ConsumerConfig.GROUP_INSTANCE_ID_CONFIG)).isEqualTo("pod-0-foo");
+
+		// no static membership for anonymous groups
+		factory = method.invoke(binder, true, "anonymous.foo", ecp, "foo.consumer", "foo");
+		configs = TestUtils.getPropertyValue(factory, "configs", Map.class);
+		assertThat(configs.containsKey(ConsumerConfig.GROUP_INSTANCE_ID_CONFIG)).isFalse();
+
+		// the instance id is never derived from the host name alone
+		binderConfigurationProperties.getRebalance().setInstanceId(null);
+		assertThatThrownBy(() -> method.invoke(binder, false, "foo-1", ecp, "foo.consumer", "foo"))
+				.hasCauseInstanceOf(IllegalStateException.class);
+		ecp.setInstanceCount(2);
+		ecp.setInstanceIndex(1);
+		factory = method.invoke(binder, false, "foo-1", ecp, "foo.consumer", "foo");
+		configs = TestUtils.getPropertyValue(factory, "configs", Map.class);
+		assertThat(configs.get(ConsumerConfig.GROUP_INSTANCE_ID_CONFIG)).isEqualTo("instance-1-foo");
+	}
+
 	@Test
 	public void testMergedConsumerProperties() {
 		KafkaProperties bootProps = new TestKafkaProperties();
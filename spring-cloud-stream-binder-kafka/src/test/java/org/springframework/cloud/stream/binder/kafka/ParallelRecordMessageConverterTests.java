@@ -0,0 +1,148 @@
+/*
+ * Copyright 2026-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.stream.binder.kafka;
+
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.kafka.support.converter.MessagingMessageConverter;
+import org.springframework.kafka.support.converter.RecordMessageConverter;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.support.MessageBuilder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * @author agent
+ * @since 4.0
+ */
+public class ParallelRecordMessageConverterTests {
+
+	private final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+	@AfterEach
+	void tearDown() {
+		this.executor.shutdownNow();
+	}
+
+	@Test
+	void recordsAreConvertedAheadOnTheExecutorAndHandedOutInOrder() {
+		RecordMessageConverter delegate = threadRecordingConverter();
+		ParallelRecordMessageConverter converter = new ParallelRecordMessageConverter(delegate, this.executor, 2, null);
+		List<ConsumerRecord<Object, Object>> records = new ArrayList<>();
+		for (int i = 0; i < 10; i++) {
+			records.add(new ConsumerRecord<>("foo", 0, i, null, "value" + i));
+		}
+		Consumer<?, ?> consumer = mock(Consumer.class);
+		converter.convertAll(new ConsumerRecords<>(
+				Collections.singletonMap(new TopicPartition("foo", 0), records)), consumer);
+
+		for (int i = 0; i < 10; i++) {
+			Message<?> message = converter.toMessage(records.get(i), null, consumer, null);
+			assertThat(message.getPayload()).isEqualTo("value" + i);
+			assertThat(message.getHeaders().get("thread")).isNotEqualTo(Thread.currentThread().getName());
+		}
+	}
+
+	@Test
+	void recordsWithAcknowledgmentAreConvertedOnTheCallingThread() {
+		ParallelRecordMessageConverter converter = new ParallelRecordMessageConverter(threadRecordingConverter(),
+				this.executor, 2, null);
+		ConsumerRecord<Object, Object> first = new ConsumerRecord<>("foo", 0, 0L, null, "value0");
+		ConsumerRecord<Object, Object> second = new ConsumerRecord<>("foo", 0, 1L, null, "value1");
+		Consumer<?, ?> consumer = mock(Consumer.class);
+		converter.convertAll(new ConsumerRecords<>(
+				Collections.singletonMap(new TopicPartition("foo", 0), List.of(first, second))), consumer);
+
+		Message<?> message = converter.toMessage(first, mock(Acknowledgment.class), consumer, null);
+		assertThat(message.getHeaders().get("thread")).isEqualTo(Thread.currentThread().getName());
+	}
+
+	@Test
+	void filteredAndClaimCheckRecordsAreNotConvertedAhead() {
+		List<Object> converted = new ArrayList<>();
+		MessagingMessageConverter messagingConverter = new MessagingMessageConverter();
+		RecordMessageConverter delegate = new RecordMessageConverter() {
+
+			@Override
+			public Message<?> toMessage(ConsumerRecord<?, ?> record, Acknowledgment acknowledgment,
+					Consumer<?, ?> consumer, Type payloadType) {
+
+				converted.add(record.value());
+				return messagingConverter.toMessage(record, acknowledgment, consumer, payloadType);
+			}
+
+			@Override
+			public ProducerRecord<?, ?> fromMessage(Message<?> message, String defaultTopic) {
+				return messagingConverter.fromMessage(message, defaultTopic);
+			}
+
+		};
+		ParallelRecordMessageConverter converter = new ParallelRecordMessageConverter(delegate, Runnable::run, 2,
+				record -> "filtered".equals(record.value()));
+		ConsumerRecord<Object, Object> kept = new ConsumerRecord<>("foo", 0, 0L, null, "kept");
+		ConsumerRecord<Object, Object> filtered = new ConsumerRecord<>("foo", 0, 1L, null, "filtered");
+		ConsumerRecord<Object, Object> claimCheck = new ConsumerRecord<>("foo", 0, 2L, null, "reference");
+		claimCheck.headers().add(ClaimChecks.CLAIM_CHECK_HEADER, new byte[4]);
+		Consumer<?, ?> consumer = mock(Consumer.class);
+		converter.convertAll(new ConsumerRecords<>(Collections.singletonMap(new TopicPartition("foo", 0),
+				List.of(kept, filtered, claimCheck))), consumer);
+
+		assertThat(converted).containsExactly("kept");
+		converter.toMessage(claimCheck, null, consumer, null);
+		assertThat(converted).containsExactly("kept", "reference");
+	}
+
+	private static RecordMessageConverter threadRecordingConverter() {
+		MessagingMessageConverter messagingConverter = new MessagingMessageConverter();
+		return new RecordMessageConverter() {
+
+			@Override
+			public Message<?> toMessage(ConsumerRecord<?, ?> record, Acknowledgment acknowledgment,
+					Consumer<?, ?> consumer, Type payloadType) {
+
+				return MessageBuilder.fromMessage(messagingConverter.toMessage(record, acknowledgment, consumer,
+						payloadType))
+						.setHeader("thread", Thread.currentThread().getName())
+						.build();
+			}
+
+			@Override
+			public ProducerRecord<?, ?> fromMessage(Message<?> message,
+					String defaultTopic) {
+
+				return messagingConverter.fromMessage(message, defaultTopic);
+			}
+
+		};
+	}
+
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright 2026-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.stream.binder.kafka;
+
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.integration.IntegrationMessageHeaderAccessor;
+import org.springframework.integration.StaticMessageHeaderAccessor;
+import org.springframework.integration.acks.AcknowledgmentCallback;
+import org.springframework.integration.kafka.inbound.KafkaMessageSource;
+import org.springframework.integration.support.MessageBuilder;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.messaging.Message;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.mock;
+
+/**
+ * @author agent
+ * @since 4.0
+ */
+public class PrefetchingKafkaMessageSourceTests {
+
+	@Test
+	void prefetchesUpToTheBufferLimitOfEachPartitionAndFlushesRevokedPartitions() {
+		KafkaMessageSource<?, ?> delegate = mock(KafkaMessageSource.class);
+		AtomicInteger offset = new AtomicInteger();
+		given(delegate.receive()).willAnswer(invocation -> {
+			int next = offset.getAndIncrement();
+			return MessageBuilder.withPayload((Object) new byte[10])
+					.setHeader(KafkaHeaders.RECEIVED_TOPIC, "foo")
+					.setHeader(KafkaHeaders.RECEIVED_PARTITION_ID, next % 2)
+					.setHeader(KafkaHeaders.OFFSET, (long) next)
+					.build();
+		});
+		PrefetchingKafkaMessageSource source = new PrefetchingKafkaMessageSource(delegate, 2, 1024, 10,
+				new CustomizableThreadFactory("prefetch-test-"));
+		source.start();
+		try {
+			// two records per partition, and a fifth one waiting for room in partition 0
+			await().until(() -> offset.get() == 5);
+			assertThat(source.getBufferedRecords()).isEqualTo(4);
+
+			source.flush(Collections.singletonList(new TopicPartition("foo", 0)));
+			await().until(() -> offset.get() == 6);
+			assertThat(source.getBufferedRecords()).isEqualTo(2);
+
+			Message<Object> message = source.receive();
+			assertThat(message.getHeaders().get(KafkaHeaders.RECEIVED_PARTITION_ID)).isEqualTo(1);
+			assertThat(message.getHeaders().get(KafkaHeaders.OFFSET)).isEqualTo(1L);
+		}
+		finally {
+			source.stop();
+		}
+		assertThat(source.getBufferedRecords()).isZero();
+	}
+
+	@Test
+	void nonBinaryRecordsAreBoundedByCountAndPartitionsAreReadInTurn() {
+		KafkaMessageSource<?, ?> delegate = mock(KafkaMessageSource.class);
+		AtomicInteger offset = new AtomicInteger();
+		given(delegate.receive()).willAnswer(invocation -> {
+			int next = offset.getAndIncrement();
+			return MessageBuilder.withPayload((Object) ("record-" + next))
+					.setHeader(KafkaHeaders.RECEIVED_TOPIC, "foo")
+					.setHeader(KafkaHeaders.RECEIVED_PARTITION_ID, next < 3 ? 0 : 1)
+					.setHeader(KafkaHeaders.OFFSET, (long) next)
+					.build();
+		});
+		PrefetchingKafkaMessageSource source = new PrefetchingKafkaMessageSource(delegate, 3, 1, 10,
+				new CustomizableThreadFactory("prefetch-test-"));
+		source.start();
+		try {
+			await().until(() -> offset.get() == 7);
+			assertThat(source.getBufferedRecords()).isEqualTo(6);
+
+			assertThat(source.receive().getPayload()).isEqualTo("record-0");
+			assertThat(source.receive().getPayload()).isEqualTo("record-3");
+			assertThat(source.receive().getPayload()).isEqualTo("record-1");
+		}
+		finally {
+			source.stop();
+		}
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void acknowledgmentsAreAppliedByTheFetcherThread() {
+		KafkaMessageSource<?, ?> delegate = mock(KafkaMessageSource.class);
+		AcknowledgmentCallback callback = mock(AcknowledgmentCallback.class);
+		AtomicReference<String> ackThread = new AtomicReference<>();
+		willAnswer(invocation -> {
+			ackThread.set(Thread.currentThread().getName());
+			return null;
+		}).given(callback).acknowledge(AcknowledgmentCallback.Status.ACCEPT);
+		given(delegate.receive()).willReturn(MessageBuilder.withPayload((Object) new byte[10])
+				.setHeader(KafkaHeaders.RECEIVED_TOPIC, "foo")
+				.setHeader(KafkaHeaders.RECEIVED_PARTITION_ID, 0)
+				.setHeader(KafkaHeaders.CONSUMER, mock(Consumer.class))
+				.setHeader(IntegrationMessageHeaderAccessor.ACKNOWLEDGMENT_CALLBACK, callback)
+				.build(), (Message<Object>) null);
+		PrefetchingKafkaMessageSource source = new PrefetchingKafkaMessageSource(delegate, 4, 1024, 10,
+				new CustomizableThreadFactory("prefetch-test-"));
+		source.start();
+		try {
+			await().until(() -> source.getBufferedRecords() == 1);
+			Message<Object> message = source.receive();
+			assertThat(message.getHeaders()).doesNotContainKey(KafkaHeaders.CONSUMER);
+
+			StaticMessageHeaderAccessor.getAcknowledgmentCallback(message)
+					.acknowledge(AcknowledgmentCallback.Status.ACCEPT);
+			await().until(() -> ackThread.get() != null);
+			assertThat(ackThread.get()).startsWith("prefetch-test-");
+		}
+		finally {
+			source.stop();
+		}
+	}
+
+}
@@ -0,0 +1,236 @@
+/*
+ * Copyright 2026-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.stream.binder.kafka;
+
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.aopalliance.intercept.MethodInvocation;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.clients.producer.Callback;
+import org.apache.kafka.clients.producer.Producer;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.clients.producer.RecordMetadata;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.errors.RecordTooLargeException;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.apache.kafka.common.record.TimestampType;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * @author agent
+ * @since 4.0
+ */
+public class RecordChunksTests {
+
+	private static final TopicPartition PARTITION = new TopicPartition("foo", 0);
+
+	@SuppressWarnings("unchecked")
+	private final Consumer<Object, Object> consumer = mock(Consumer.class);
+
+	@Test
+	void chunksAreReassembledAndCommitsStopAtIncompleteRecords() {
+		byte[] payload = payload(2500);
+		ProducerRecord<Object, Object> sent = new ProducerRecord<>("foo", "key".getBytes(), payload);
+		sent.headers().add("bar", "baz".getBytes());
+		List<ProducerRecord<Object, Object>> chunks = RecordChunks.split(sent, 0, 1000);
+		assertThat(chunks).hasSize(3);
+		assertThat(chunks).extracting(ProducerRecord::partition).containsOnly(0);
+		assertThat(chunks.get(1).headers().lastHeader("bar")).isNull();
+
+		RecordChunks.Reassembler reassembler = new RecordChunks.Reassembler(Long.MAX_VALUE, 0, System::currentTimeMillis);
+		List<ConsumerRecord<Object, Object>> polled = new ArrayList<>();
+		polled.add(received(0, chunks.get(0)));
+		polled.add(received(1, new ProducerRecord<>("foo", 0, null, "plain".getBytes())));
+		polled.add(received(2, chunks.get(1)));
+		ConsumerRecords<Object, Object> records = reassembler.reassemble(this.consumer, poll(polled));
+		assertThat(records.count()).isEqualTo(1);
+		assertThat(records.iterator().next().offset()).isEqualTo(1);
+		assertThat(reassembler.bufferedBytes()).isEqualTo(2000);
+		assertThat(reassembler.cap(offsets(2)).get(PARTITION).offset()).isEqualTo(0);
+
+		records = reassembler.reassemble(this.consumer, poll(Collections.singletonList(received(3, chunks.get(2)))));
+		ConsumerRecord<Object, Object> record = records.iterator().next();
+		assertThat(record.offset()).isEqualTo(3);
+		assertThat((byte[]) record.value()).isEqualTo(payload);
+		assertThat(record.headers().lastHeader("bar")).isNotNull();
+		assertThat(record.headers().lastHeader(RecordChunks.CHUNK_ID_HEADER)).isNull();
+		assertThat(reassembler.bufferedBytes()).isEqualTo(0);
+		assertThat(reassembler.cap(offsets(4)).get(PARTITION).offset()).isEqualTo(4);
+	}
+
+	@Test
+	void seekToReassembledRecordReplaysItsChunksOnly() {
+		List<ProducerRecord<Object, Object>> chunks = RecordChunks.split(
+				new ProducerRecord<>("foo", "key".getBytes(), payload(1500)), 0, 1000);
+		List<ConsumerRecord<Object, Object>> polled = new ArrayList<>();
+		polled.add(received(0, chunks.get(0)));
+		polled.add(received(1, new ProducerRecord<>("foo", 0, null, "plain".getBytes())));
+		polled.add(received(2, chunks.get(1)));
+
+		RecordChunks.Reassembler reassembler = new RecordChunks.Reassembler(Long.MAX_VALUE, 0, System::currentTimeMillis);
+		assertThat(reassembler.reassemble(this.consumer, poll(polled)).count()).isEqualTo(2);
+		assertThat(reassembler.seek(PARTITION, 2)).isEqualTo(0);
+
+		ConsumerRecords<Object, Object> records = reassembler.reassemble(this.consumer, poll(polled));
+		assertThat(records.count()).isEqualTo(1);
+		assertThat(records.iterator().next().offset()).isEqualTo(2);
+	}
+
+	@Test
+	void partitionWaitsWhileTheBufferIsFull() throws Throwable {
+		TopicPartition other = new TopicPartition("foo", 1);
+		List<ProducerRecord<Object, Object>> first = RecordChunks.split(
+				new ProducerRecord<>("foo", "key".getBytes(), payload(2000)), 0, 1000);
+		List<ProducerRecord<Object, Object>> second = RecordChunks.split(
+				new ProducerRecord<>("foo", "key".getBytes(), payload(2000)), 1, 1000);
+
+		RecordChunks.Reassembler reassembler = new RecordChunks.Reassembler(1500, 0, System::currentTimeMillis);
+		Map<TopicPartition, List<ConsumerRecord<Object, Object>>> polled = new LinkedHashMap<>();
+		polled.put(PARTITION, Collections.singletonList(received(0, first.get(0))));
+		polled.put(other, Arrays.asList(received(1, 7, second.get(0)), received(1, 8, second.get(1))));
+		assertThat(reassembler.reassemble(this.consumer, new ConsumerRecords<>(polled)).count()).isZero();
+		assertThat(reassembler.bufferedBytes()).isEqualTo(1000);
+		assertThat(reassembler.waitingPartitions()).containsExactly(other);
+		verify(this.consumer).seek(other, 7);
+		verify(this.consumer).pause(Collections.singleton(other));
+		assertThat(reassembler.cap(offsets(1)).get(PARTITION).offset()).isEqualTo(0);
+
+		ConsumerRecords<Object, Object> records = reassembler.reassemble(this.consumer,
+				poll(Collections.singletonList(received(1, first.get(1)))));
+		assertThat(records.count()).isEqualTo(1);
+		assertThat(reassembler.bufferedBytes()).isEqualTo(0);
+		MethodInvocation invocation = mock(MethodInvocation.class);
+		given(invocation.getThis()).willReturn(this.consumer);
+		given(invocation.getArguments()).willReturn(new Object[] { Duration.ZERO });
+		given(invocation.getMethod()).willReturn(Consumer.class.getMethod("poll", Duration.class));
+		reassembler.invoke(invocation);
+		verify(this.consumer).resume(Collections.singletonList(other));
+		assertThat(reassembler.waitingPartitions()).isEmpty();
+	}
+
+	@Test
+	void incompleteRecordIsDiscardedAfterTheOrphanTimeout() {
+		List<ProducerRecord<Object, Object>> chunks = RecordChunks.split(
+				new ProducerRecord<>("foo", "key".getBytes(), payload(3000)), 0, 1000);
+		AtomicLong clock = new AtomicLong();
+		RecordChunks.Reassembler reassembler = new RecordChunks.Reassembler(Long.MAX_VALUE, 1000, clock::get);
+		reassembler.reassemble(this.consumer, poll(Arrays.asList(received(0, chunks.get(0)),
+				received(1, chunks.get(1)))));
+
+		clock.set(900);
+		reassembler.discardOrphans(this.consumer);
+		assertThat(reassembler.bufferedBytes()).isEqualTo(2000);
+		clock.set(1100);
+		reassembler.discardOrphans(this.consumer);
+		assertThat(reassembler.bufferedBytes()).isEqualTo(0);
+		assertThat(reassembler.cap(offsets(5)).get(PARTITION).offset()).isEqualTo(5);
+
+		ConsumerRecords<Object, Object> records = reassembler.reassemble(this.consumer,
+				poll(Collections.singletonList(received(2, chunks.get(2)))));
+		assertThat(records.count()).isZero();
+	}
+
+	@Test
+	void pausedPartitionKeepsItsIncompleteRecords() {
+		List<ProducerRecord<Object, Object>> chunks = RecordChunks.split(
+				new ProducerRecord<>("foo", "key".getBytes(), payload(2000)), 0, 1000);
+		AtomicLong clock = new AtomicLong();
+		RecordChunks.Reassembler reassembler = new RecordChunks.Reassembler(Long.MAX_VALUE, 1000, clock::get);
+		reassembler.reassemble(this.consumer, poll(Collections.singletonList(received(0, chunks.get(0)))));
+
+		given(this.consumer.paused()).willReturn(Collections.singleton(PARTITION));
+		clock.set(5000);
+		reassembler.discardOrphans(this.consumer);
+		assertThat(reassembler.bufferedBytes()).isEqualTo(1000);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void remainingChunksAreNotSentAfterAFailure() {
+		Producer<Object, Object> producer = mock(Producer.class);
+		willAnswer(invocation -> {
+			ProducerRecord<?, ?> chunk = invocation.getArgument(0);
+			int index = ByteBuffer.wrap(chunk.headers().lastHeader(RecordChunks.CHUNK_INDEX_HEADER).value()).getInt();
+			invocation.<Callback>getArgument(1).onCompletion(null, index == 1 ? new RecordTooLargeException() : null);
+			return null;
+		}).given(producer).send(any(), any());
+		Producer<Object, Object> chunking = RecordChunks.<Object, Object>producerPostProcessor(1000).apply(producer);
+		AtomicReference<Exception> failure = new AtomicReference<>();
+
+		Future<RecordMetadata> future = chunking.send(new ProducerRecord<>("foo", 0, null, payload(3500)),
+				(metadata, exception) -> failure.set(exception));
+
+		verify(producer, times(2)).send(any(), any());
+		assertThat(failure.get()).isInstanceOf(RecordTooLargeException.class);
+		assertThat(future.isDone()).isTrue();
+		assertThatExceptionOfType(ExecutionException.class).isThrownBy(future::get)
+				.withCauseInstanceOf(RecordTooLargeException.class);
+	}
+
+	private static byte[] payload(int size) {
+		byte[] payload = new byte[size];
+		for (int i = 0; i < size; i++) {
+			payload[i] = (byte) i;
+		}
+		return payload;
+	}
+
+	private static ConsumerRecord<Object, Object> received(long offset, ProducerRecord<Object, Object> record) {
+		return received(0, offset, record);
+	}
+
+	private static ConsumerRecord<Object, Object> received(int partition, long offset,
+			ProducerRecord<Object, Object> record) {
+
+		return new ConsumerRecord<>("foo", partition, offset, 0L, TimestampType.CREATE_TIME, 3,
+				((byte[]) record.value()).length, record.key(), record.value(),
+				new RecordHeaders(record.headers().toArray()), Optional.empty());
+	}
+
+	private static ConsumerRecords<Object, Object> poll(List<ConsumerRecord<Object, Object>> records) {
+		return new ConsumerRecords<>(Collections.singletonMap(PARTITION, records));
+	}
+
+	private static Map<TopicPartition, OffsetAndMetadata> offsets(long offset) {
+		return Collections.singletonMap(PARTITION, new OffsetAndMetadata(offset));
+	}
+
+}
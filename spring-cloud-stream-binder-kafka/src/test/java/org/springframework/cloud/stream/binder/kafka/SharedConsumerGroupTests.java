@@ -0,0 +1,139 @@
+/*
+ * Copyright 2026-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.stream.binder.kafka;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import org.springframework.kafka.listener.MessageListenerContainer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * @author agent
+ * @since 4.0
+ */
+public class SharedConsumerGroupTests {
+
+	private final List<String[]> containerTopics = new ArrayList<>();
+
+	private final List<MessageListenerContainer> disposed = new ArrayList<>();
+
+	private final ScheduledExecutorService scheduler = mock(ScheduledExecutorService.class);
+
+	private final List<Runnable> lifecycleTasks = new ArrayList<>();
+
+	private final SharedConsumerGroup group = new SharedConsumerGroup("group", "concurrency=1", (group, topics) -> {
+		this.containerTopics.add(topics);
+		MessageListenerContainer container = mock(MessageListenerContainer.class);
+		given(container.isRunning()).willReturn(true);
+		return container;
+	}, this.disposed::add, this.scheduler, this.lifecycleTasks::add, 100);
+
+	@BeforeEach
+	void setUp() {
+		willReturn(mock(ScheduledFuture.class)).given(this.scheduler)
+				.schedule(any(Runnable.class), anyLong(), any());
+	}
+
+	@Test
+	void membersJoiningTogetherShareOneContainer() {
+		SharedConsumerEndpoint foo = endpoint("foo");
+		SharedConsumerEndpoint bar = endpoint("bar", "baz");
+		this.group.join(foo);
+		this.group.join(bar);
+		verify(this.scheduler, times(1)).schedule(any(Runnable.class), anyLong(), any());
+
+		this.group.refresh();
+		assertThat(this.containerTopics).hasSize(1);
+		assertThat(this.containerTopics.get(0)).containsExactly("foo", "bar", "baz");
+
+		ConsumerRecord<Object, Object> record = new ConsumerRecord<>("baz", 0, 0L, null, "value");
+		Consumer<?, ?> consumer = mock(Consumer.class);
+		this.group.onRecord(record, null, consumer);
+		verify(bar).onRecord(record, null, consumer);
+
+		this.group.refresh();
+		assertThat(this.containerTopics).hasSize(1);
+	}
+
+	@Test
+	void containerIsReplacedWhenMembersLeave() {
+		SharedConsumerEndpoint foo = endpoint("foo");
+		SharedConsumerEndpoint bar = endpoint("bar");
+		this.group.join(foo);
+		this.group.join(bar);
+		this.group.refresh();
+		MessageListenerContainer first = this.group.getContainer();
+
+		this.group.leave(bar);
+		assertThatThrownBy(() -> this.group.onRecord(new ConsumerRecord<>("bar", 0, 0L, null, "value"), null,
+				mock(Consumer.class))).isInstanceOf(SharedConsumerGroup.MemberNotAvailableException.class);
+		this.group.refresh();
+		verify(first).stop();
+		assertThat(this.disposed).containsExactly(first);
+		assertThat(this.containerTopics.get(1)).containsExactly("foo");
+
+		this.group.leave(foo);
+		assertThat(this.group.getContainer()).isNull();
+		assertThat(this.disposed).hasSize(2);
+	}
+
+	@Test
+	void scheduledRefreshRunsOnTheLifecycleExecutor() {
+		this.group.join(endpoint("foo"));
+		ArgumentCaptor<Runnable> scheduled = ArgumentCaptor.forClass(Runnable.class);
+		verify(this.scheduler).schedule(scheduled.capture(), anyLong(), any());
+
+		scheduled.getValue().run();
+		assertThat(this.containerTopics).isEmpty();
+		assertThat(this.lifecycleTasks).hasSize(1);
+
+		this.lifecycleTasks.get(0).run();
+		assertThat(this.containerTopics).hasSize(1);
+	}
+
+	@Test
+	void topicCannotBeConsumedByTwoMembers() {
+		this.group.join(endpoint("foo"));
+		assertThatIllegalStateException().isThrownBy(() -> this.group.join(endpoint("foo")));
+	}
+
+	private static SharedConsumerEndpoint endpoint(String... topics) {
+		SharedConsumerEndpoint endpoint = mock(SharedConsumerEndpoint.class);
+		given(endpoint.getTopics()).willReturn(topics);
+		return endpoint;
+	}
+
+}
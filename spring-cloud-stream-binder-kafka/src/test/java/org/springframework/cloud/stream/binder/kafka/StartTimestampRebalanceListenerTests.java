@@ -0,0 +1,108 @@
+/*
+ * Copyright 2026-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.stream.binder.kafka;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.clients.consumer.OffsetAndTimestamp;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.Test;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+
+/**
+ * @author agent
+ * @since 4.0
+ */
+public class StartTimestampRebalanceListenerTests {
+
+	private final TopicPartition partition0 = new TopicPartition("foo", 0);
+
+	private final TopicPartition partition1 = new TopicPartition("foo", 1);
+
+	private final TopicPartition partition2 = new TopicPartition("foo", 2);
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void partitionsWithoutCommittedOffsetsAreResolvedInOneCall() {
+		Consumer<?, ?> consumer = mock(Consumer.class);
+		Map<TopicPartition, OffsetAndMetadata> committed = new HashMap<>();
+		committed.put(this.partition0, new OffsetAndMetadata(10L));
+		given(consumer.committed(any(Set.class))).willReturn(committed);
+		Map<TopicPartition, OffsetAndTimestamp> offsets = new HashMap<>();
+		offsets.put(this.partition1, new OffsetAndTimestamp(42L, 1000L));
+		offsets.put(this.partition2, null);
+		given(consumer.offsetsForTimes(any(Map.class))).willReturn(offsets);
+
+		StartTimestampRebalanceListener listener = new StartTimestampRebalanceListener(() -> 1000L, false, null);
+		listener.onPartitionsAssigned(consumer, Arrays.asList(this.partition0, this.partition1, this.partition2));
+
+		Map<TopicPartition, Long> query = new HashMap<>();
+		query.put(this.partition1, 1000L);
+		query.put(this.partition2, 1000L);
+		then(consumer).should().offsetsForTimes(query);
+		then(consumer).should().seek(this.partition1, 42L);
+		then(consumer).should().seekToEnd(Collections.singletonList(this.partition2));
+		then(consumer).should(never()).seek(this.partition0, 10L);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void resetPositionsPartitionsOnlyOnTheirFirstAssignment() {
+		Consumer<?, ?> consumer = mock(Consumer.class);
+		Map<TopicPartition, OffsetAndTimestamp> offsets = new HashMap<>();
+		offsets.put(this.partition0, new OffsetAndTimestamp(5L, 1000L));
+		given(consumer.offsetsForTimes(any(Map.class))).willReturn(offsets);
+
+		StartTimestampRebalanceListener listener = new StartTimestampRebalanceListener(() -> 1000L, true, null);
+		List<TopicPartition> partitions = Collections.singletonList(this.partition0);
+		listener.onPartitionsAssigned(consumer, partitions);
+		listener.onPartitionsAssigned(consumer, partitions);
+
+		then(consumer).should().seek(this.partition0, 5L);
+		then(consumer).should(never()).committed(any(Set.class));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void startTimestampIsEvaluatedOnEachAssignment() {
+		Consumer<?, ?> consumer = mock(Consumer.class);
+		given(consumer.offsetsForTimes(any(Map.class))).willReturn(Collections.emptyMap());
+		AtomicLong now = new AtomicLong(1000L);
+
+		StartTimestampRebalanceListener listener = new StartTimestampRebalanceListener(now::get, true, null);
+		listener.onPartitionsAssigned(consumer, Collections.singletonList(this.partition0));
+		now.set(5000L);
+		listener.onPartitionsAssigned(consumer, Collections.singletonList(this.partition1));
+
+		then(consumer).should().offsetsForTimes(Collections.singletonMap(this.partition0, 1000L));
+		then(consumer).should().offsetsForTimes(Collections.singletonMap(this.partition1, 5000L));
+	}
+
+}
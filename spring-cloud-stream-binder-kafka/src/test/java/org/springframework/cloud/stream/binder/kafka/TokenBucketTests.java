@@ -0,0 +1,72 @@
+/*
+ * Copyright 2026-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.stream.binder.kafka;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author agent
+ * @since 4.0
+ */
+public class TokenBucketTests {
+
+	@Test
+	void debtIsPaidBackAtTheConfiguredRate() {
+		AtomicLong clock = new AtomicLong();
+		TokenBucket bucket = new TokenBucket(1000, clock::get);
+
+		// 100 tokens burst capacity
+		assertThat(bucket.consume(100)).isZero();
+		assertThat(bucket.consume(100)).isEqualTo(TimeUnit.MILLISECONDS.toNanos(100));
+
+		clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(50));
+		assertThat(bucket.getWaitNanos()).isEqualTo(TimeUnit.MILLISECONDS.toNanos(50));
+
+		clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(50));
+		assertThat(bucket.getWaitNanos()).isZero();
+	}
+
+	@Test
+	void refillIsCappedAtBurstCapacity() {
+		AtomicLong clock = new AtomicLong();
+		TokenBucket bucket = new TokenBucket(1000, clock::get);
+
+		clock.addAndGet(TimeUnit.SECONDS.toNanos(10));
+		assertThat(bucket.consume(100)).isZero();
+		assertThat(bucket.consume(1)).isGreaterThan(0);
+	}
+
+	@Test
+	void zeroRateIsUnlimitedAndCanBeChangedAtRuntime() {
+		AtomicLong clock = new AtomicLong();
+		TokenBucket bucket = new TokenBucket(0, clock::get);
+		assertThat(bucket.consume(1_000_000)).isZero();
+
+		bucket.setRatePerSecond(10);
+		assertThat(bucket.consume(1)).isZero();
+		assertThat(bucket.consume(1)).isEqualTo(TimeUnit.MILLISECONDS.toNanos(100));
+
+		bucket.setRatePerSecond(0);
+		assertThat(bucket.getWaitNanos()).isZero();
+	}
+
+}